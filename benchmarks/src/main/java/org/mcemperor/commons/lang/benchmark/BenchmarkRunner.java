@@ -0,0 +1,41 @@
+package org.mcemperor.commons.lang.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The entry point of the benchmarks jar. It accepts the same command line arguments as the JMH runner, but always
+ * attaches the GC profiler, so each result is reported together with its allocation rate ({@code gc.alloc.rate.norm}
+ * is the number of bytes allocated per operation).<br><br>
+ *
+ * Example usage:
+ *
+ * <pre>{@code  java -jar target/benchmarks.jar StringsBenchmark.trim -p payload=LOG_LINE}</pre>
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public class BenchmarkRunner {
+
+	/**
+	 * Private constructor, because this class only contains the main method.
+	 */
+	private BenchmarkRunner() { }
+
+	/**
+	 * Runs the benchmarks selected by the given command line arguments.
+	 *
+	 * @param args The JMH command line arguments.
+	 * @throws Exception If the arguments are invalid or the benchmarks could not be run.
+	 */
+	public static void main(String[] args) throws Exception {
+		Options options = new OptionsBuilder()
+			.parent(new CommandLineOptions(args))
+			.addProfiler(GCProfiler.class)
+			.build();
+		new Runner(options).run();
+	}
+}
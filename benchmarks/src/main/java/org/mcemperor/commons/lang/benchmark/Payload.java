@@ -0,0 +1,84 @@
+package org.mcemperor.commons.lang.benchmark;
+
+/**
+ * The Payload enum represents the input sizes the benchmarks are run with. Each constant produces a deterministic text
+ * of its size, built from realistic log content, so results are comparable between runs.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public enum Payload {
+
+	/**
+	 * A short identifier, like a field name or a request ID.
+	 */
+	IDENTIFIER(16),
+
+	/**
+	 * A single log line of about one kilobyte.
+	 */
+	LOG_LINE(1024),
+
+	/**
+	 * A payload of about one megabyte, consisting of many log lines.
+	 */
+	LARGE(1024 * 1024);
+
+	/**
+	 * The line the longer payloads are built from. It contains spaces, digits, backslashes and Windows newlines, so all
+	 * normalization and trimming paths have something to do.
+	 */
+	private static final String LOG_TEMPLATE = "2026-10-18T06:44:40.123Z INFO  [worker-7] org.mcemperor.Service - GET C:\\data\\export\\file.txt took 42 ms\r\n";
+
+	/**
+	 * The identifier the shortest payload is built from.
+	 */
+	private static final String IDENTIFIER_TEMPLATE = "customerAccount_";
+
+	/**
+	 * The length of the payload in characters.
+	 */
+	private final int length;
+
+	/**
+	 * Creates a new Payload constant with the given length.
+	 *
+	 * @param length The length of the payload in characters.
+	 */
+	private Payload(int length) {
+		this.length = length;
+	}
+
+	/**
+	 * Returns the length of this payload.
+	 *
+	 * @return The length in characters.
+	 */
+	public int length() {
+		return this.length;
+	}
+
+	/**
+	 * Returns the text of this payload.
+	 *
+	 * @return A string with exactly {@link #length()} characters.
+	 */
+	public String text() {
+		return text(this == IDENTIFIER ? IDENTIFIER_TEMPLATE : LOG_TEMPLATE);
+	}
+
+	/**
+	 * Returns a text of the length of this payload, consisting of the given template repeated as often as needed.
+	 *
+	 * @param template The text to repeat.
+	 * @return A string with exactly {@link #length()} characters.
+	 */
+	public String text(String template) {
+		StringBuilder sb = new StringBuilder(this.length + template.length());
+		while (sb.length() < this.length) {
+			sb.append(template);
+		}
+		sb.setLength(this.length);
+		return sb.toString();
+	}
+}
@@ -0,0 +1,42 @@
+package org.mcemperor.commons.lang.builder;
+
+/**
+ * A small value class used by the builder benchmarks, with a mix of reference and primitive fields, as found in a
+ * typical composite key.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public class Customer {
+
+	final String name;
+
+	final int id;
+
+	final long createdAt;
+
+	final double balance;
+
+	public Customer(String name, int id, long createdAt, double balance) {
+		this.name = name;
+		this.id = id;
+		this.createdAt = createdAt;
+		this.balance = balance;
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	public int getId() {
+		return this.id;
+	}
+
+	public long getCreatedAt() {
+		return this.createdAt;
+	}
+
+	public double getBalance() {
+		return this.balance;
+	}
+}
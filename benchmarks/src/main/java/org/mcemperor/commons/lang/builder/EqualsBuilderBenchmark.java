@@ -0,0 +1,104 @@
+package org.mcemperor.commons.lang.builder;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the public methods of {@link EqualsBuilder}, comparing two equal {@link Customer} instances, so no
+ * test is short-circuited.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EqualsBuilderBenchmark {
+
+	private static final Equalizer<Customer> EQUALIZER = EqualityStrategy.of(Customer.class, MethodHandles.lookup())
+		.field("id")
+		.field("createdAt")
+		.field("balance")
+		.field("name")
+		.equalizer();
+
+	private Customer customer;
+
+	private Customer equal;
+
+	@Setup
+	public void setUp() {
+		this.customer = new Customer("Maurits", 4711, 1_760_000_000_000L, 12.5);
+		this.equal = new Customer(new String("Maurits"), 4711, 1_760_000_000_000L, 12.5);
+	}
+
+	@Benchmark
+	public boolean handwritten() {
+		Customer a = this.customer;
+		Customer b = this.equal;
+		return a.id == b.id
+			&& a.createdAt == b.createdAt
+			&& Double.compare(a.balance, b.balance) == 0
+			&& a.name.equals(b.name);
+	}
+
+	@Benchmark
+	public boolean test() {
+		return new EqualsBuilder<>(this.customer, this.equal)
+			.test(Customer::getName)
+			.test(Customer::getId)
+			.test(Customer::getCreatedAt)
+			.test(Customer::getBalance)
+			.isEqual();
+	}
+
+	@Benchmark
+	public boolean testPrimitives() {
+		return new EqualsBuilder<>(this.customer, this.equal)
+			.testInt(Customer::getId)
+			.testLong(Customer::getCreatedAt)
+			.testDouble(Customer::getBalance)
+			.test(Customer::getName)
+			.isEqual();
+	}
+
+	@Benchmark
+	public boolean equalizer() {
+		return EQUALIZER.areEqual(this.customer, this.equal);
+	}
+
+	@Benchmark
+	public boolean of() {
+		return EqualsBuilder.of(this.customer, this.equal)
+			.test(Customer::getName)
+			.isEqual();
+	}
+
+	@Benchmark
+	public boolean testIf() {
+		return new EqualsBuilder<>(this.customer, this.equal)
+			.testIf((t, u) -> t.getName().equalsIgnoreCase(u.getName()))
+			.testIf((t, u) -> t.getId() == u.getId())
+			.isEqual();
+	}
+
+	@Benchmark
+	public boolean testIfMapping() {
+		return new EqualsBuilder<>(this.customer, this.equal)
+			.testIfMapping(Customer::getName, String::equalsIgnoreCase)
+			.isEqual();
+	}
+}
@@ -0,0 +1,81 @@
+package org.mcemperor.commons.lang.builder;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the public methods of {@link HashCodeBuilder}.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashCodeBuilderBenchmark {
+
+	private static final Hasher<Customer> HASHER = EqualityStrategy.of(Customer.class, MethodHandles.lookup())
+		.field("name")
+		.field("id")
+		.field("createdAt")
+		.field("balance")
+		.hasher();
+
+	private Customer customer;
+
+	@Setup
+	public void setUp() {
+		this.customer = new Customer("Maurits", 4711, 1_760_000_000_000L, 12.5);
+	}
+
+	@Benchmark
+	public int handwritten() {
+		return Objects.hash(this.customer.name, this.customer.id, this.customer.createdAt, this.customer.balance);
+	}
+
+	@Benchmark
+	public int add() {
+		return new HashCodeBuilder<>(this.customer)
+			.add(Customer::getName)
+			.add(Customer::getId)
+			.add(Customer::getCreatedAt)
+			.add(Customer::getBalance)
+			.get();
+	}
+
+	@Benchmark
+	public int addPrimitives() {
+		return new HashCodeBuilder<>(this.customer)
+			.add(Customer::getName)
+			.addInt(Customer::getId)
+			.addLong(Customer::getCreatedAt)
+			.addDouble(Customer::getBalance)
+			.get();
+	}
+
+	@Benchmark
+	public int hasher() {
+		return HASHER.hash(this.customer);
+	}
+
+	@Benchmark
+	public int of() {
+		return HashCodeBuilder.of(this.customer)
+			.add(Customer::getName)
+			.get();
+	}
+}
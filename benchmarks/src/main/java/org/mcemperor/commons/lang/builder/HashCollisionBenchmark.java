@@ -0,0 +1,144 @@
+package org.mcemperor.commons.lang.builder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how the {@link HashMixing} of {@link HashCodeBuilder} affects {@code HashMap} lookups on composite keys.
+ * Besides the lookup time, the distinct hash codes and the keys sharing a bucket are reported as auxiliary counters,
+ * so the collision rate of each mixing can be compared directly.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashCollisionBenchmark {
+
+	/**
+	 * The key shapes: a grid of small coordinates, which contains each pair in both orders; and customer keys with
+	 * sequential ids and a handful of region codes.
+	 */
+	@Param({ "GRID", "CUSTOMER" })
+	public String keySet;
+
+	@Param({ "ADDITIVE", "ORDERED", "MURMUR3", "XXHASH" })
+	public HashMixing mixing;
+
+	private List<Key> keys;
+
+	private Map<Key, Key> map;
+
+	private int distinctHashCodes;
+
+	private int bucketCollisions;
+
+	@Setup
+	public void setUp() {
+		this.keys = new ArrayList<>();
+		if (this.keySet.equals("GRID")) {
+			for (int x = 0; x < 128; x++) {
+				for (int y = 0; y < 128; y++) {
+					this.keys.add(new Key(this.mixing, x, y));
+				}
+			}
+		}
+		else {
+			for (int id = 0; id < 16_384; id++) {
+				this.keys.add(new Key(this.mixing, id, id % 12));
+			}
+		}
+		this.map = new HashMap<>();
+		Set<Integer> hashCodes = new HashSet<>();
+		int tableSize = Integer.highestOneBit(this.keys.size() * 2 - 1);
+		Set<Integer> buckets = new HashSet<>();
+		for (Key key : this.keys) {
+			this.map.put(key, key);
+			int hashCode = key.hashCode();
+			hashCodes.add(hashCode);
+			buckets.add((hashCode ^ (hashCode >>> 16)) & (tableSize - 1));
+		}
+		this.distinctHashCodes = hashCodes.size();
+		this.bucketCollisions = this.keys.size() - buckets.size();
+	}
+
+	@Benchmark
+	public int lookup(Collisions collisions) {
+		int found = 0;
+		for (Key key : this.keys) {
+			if (this.map.get(key) != null) {
+				found++;
+			}
+		}
+		collisions.distinctHashCodes = this.distinctHashCodes;
+		collisions.bucketCollisions = this.bucketCollisions;
+		return found;
+	}
+
+	/**
+	 * The collision statistics of the current key set, reported next to the lookup time.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Collisions {
+
+		public int distinctHashCodes;
+
+		public int bucketCollisions;
+	}
+
+	/**
+	 * A composite key of two int fields, hashed with the mixing under test.
+	 */
+	private static final class Key {
+
+		private final HashMixing mixing;
+
+		private final int first;
+
+		private final int second;
+
+		private Key(HashMixing mixing, int first, int second) {
+			this.mixing = mixing;
+			this.first = first;
+			this.second = second;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return new EqualsBuilder<>(this, o)
+				.testInt(t -> t.first)
+				.testInt(t -> t.second)
+				.isEqual();
+		}
+
+		@Override
+		public int hashCode() {
+			return HashCodeBuilder.of(this, this.mixing)
+				.addInt(t -> t.first)
+				.addInt(t -> t.second)
+				.get();
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package org.mcemperor.commons.lang.builder;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the reflectively derived {@link ObjectMethods} with hand-written {@link EqualsBuilder} and
+ * {@link HashCodeBuilder} usage, on two equal {@link Customer} instances.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectMethodsBenchmark {
+
+	private static final ObjectMethods<Customer> METHODS = EqualsBuilder.reflective(Customer.class);
+
+	private Customer customer;
+
+	private Customer equal;
+
+	@Setup
+	public void setUp() {
+		this.customer = new Customer("Maurits", 4711, 1_760_000_000_000L, 12.5);
+		this.equal = new Customer(new String("Maurits"), 4711, 1_760_000_000_000L, 12.5);
+	}
+
+	@Benchmark
+	public boolean equalsBuilder() {
+		return new EqualsBuilder<>(this.customer, this.equal)
+			.test(Customer::getName)
+			.testInt(Customer::getId)
+			.testLong(Customer::getCreatedAt)
+			.testDouble(Customer::getBalance)
+			.isEqual();
+	}
+
+	@Benchmark
+	public boolean equalsReflective() {
+		return METHODS.areEqual(this.customer, this.equal);
+	}
+
+	@Benchmark
+	public int hashCodeBuilder() {
+		return HashCodeBuilder.of(this.customer, HashMixing.ORDERED)
+			.add(Customer::getName)
+			.addInt(Customer::getId)
+			.addLong(Customer::getCreatedAt)
+			.addDouble(Customer::getBalance)
+			.get();
+	}
+
+	@Benchmark
+	public int hashCodeReflective() {
+		return METHODS.hash(this.customer);
+	}
+
+	@Benchmark
+	public String toStringHandwritten() {
+		return "Customer(name=" + this.customer.name
+			+ ", id=" + this.customer.id
+			+ ", createdAt=" + this.customer.createdAt
+			+ ", balance=" + this.customer.balance + ")";
+	}
+
+	@Benchmark
+	public String toStringReflective() {
+		return METHODS.toString(this.customer);
+	}
+}
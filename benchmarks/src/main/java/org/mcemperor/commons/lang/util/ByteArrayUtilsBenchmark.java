@@ -0,0 +1,73 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the table-driven hex encoding of {@link ByteArrayUtils} with the original string concatenation, for inputs
+ * the size of a SHA-256 digest and of a larger payload.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ByteArrayUtilsBenchmark {
+
+	@Param({ "32", "4096" })
+	public int size;
+
+	private byte[] bytes;
+
+	private String hex;
+
+	private char[] chars;
+
+	@Setup
+	public void setUp() {
+		this.bytes = new byte[this.size];
+		new Random(42).nextBytes(this.bytes);
+		this.hex = ByteArrayUtils.toHexString(this.bytes);
+		this.chars = new char[2 * this.size];
+	}
+
+	@Benchmark
+	public String toHexStringConcatenating() {
+		String result = "";
+		for (int i = 0; i < this.bytes.length; i++) {
+			result += Integer.toString((this.bytes[i] & 0xff) + 0x100, 16).substring(1);
+		}
+		return result;
+	}
+
+	@Benchmark
+	public String toHexString() {
+		return ByteArrayUtils.toHexString(this.bytes);
+	}
+
+	@Benchmark
+	public char[] toHexChars() {
+		ByteArrayUtils.toHexChars(this.bytes, 0, this.bytes.length, this.chars, 0, false);
+		return this.chars;
+	}
+
+	@Benchmark
+	public byte[] fromHexString() {
+		return ByteArrayUtils.fromHexString(this.hex);
+	}
+}
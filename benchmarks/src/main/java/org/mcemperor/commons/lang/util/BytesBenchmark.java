@@ -0,0 +1,84 @@
+package org.mcemperor.commons.lang.util;
+
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the bulk conversions of {@link Bytes} with decoding one element at a time using shifts, for a buffer of
+ * samples.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BytesBenchmark {
+
+	@Param({ "1048576" })
+	public int size;
+
+	private byte[] bytes;
+
+	private int[] ints;
+
+	@Setup
+	public void setUp() {
+		this.bytes = new byte[this.size];
+		new Random(42).nextBytes(this.bytes);
+		this.ints = new int[this.size / 4];
+	}
+
+	@Benchmark
+	public int[] toIntArrayShifting() {
+		byte[] b = this.bytes;
+		for (int i = 0; i < this.ints.length; i++) {
+			int j = 4 * i;
+			this.ints[i] = (b[j] << 24) | ((b[j + 1] & 0xff) << 16) | ((b[j + 2] & 0xff) << 8) | (b[j + 3] & 0xff);
+		}
+		return this.ints;
+	}
+
+	@Benchmark
+	public int[] toIntArrayBigEndian() {
+		Bytes.toIntArray(this.bytes, 0, this.ints, 0, this.ints.length, ByteOrder.BIG_ENDIAN);
+		return this.ints;
+	}
+
+	@Benchmark
+	public int[] toIntArrayLittleEndian() {
+		Bytes.toIntArray(this.bytes, 0, this.ints, 0, this.ints.length, ByteOrder.LITTLE_ENDIAN);
+		return this.ints;
+	}
+
+	@Benchmark
+	public byte[] toByteArrayFromInts() {
+		Bytes.toByteArray(this.ints, 0, this.bytes, 0, this.ints.length, ByteOrder.BIG_ENDIAN);
+		return this.bytes;
+	}
+
+	@Benchmark
+	public short[] toShortArrayLegacy() {
+		return Bytes.toShortArray(this.bytes);
+	}
+
+	@Benchmark
+	public short[] toShortArrayBulk() {
+		return Bytes.toShortArray(this.bytes, ByteOrder.BIG_ENDIAN);
+	}
+}
@@ -0,0 +1,90 @@
+package org.mcemperor.commons.lang.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares normalizing the newlines of a 16 MB file by reading it into a String and calling
+ * {@link Strings#normalize(String, int)}, with streaming it through {@link CharStreams#normalize(Path,
+ * java.nio.charset.Charset, Writer, int)}. Run with the GC profiler to compare the allocated bytes per operation.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CharStreamsBenchmark {
+
+	private Path file;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		StringBuilder sb = new StringBuilder();
+		while (sb.length() < 16 * 1024 * 1024) {
+			sb.append("2026-10-18 12:00:00 INFO request handled in 17 ms\r\n");
+		}
+		this.file = Files.createTempFile("charstreams", ".txt");
+		Files.write(this.file, sb.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.delete(this.file);
+	}
+
+	@Benchmark
+	public void readAndNormalize(Blackhole blackhole) throws IOException {
+		String contents = new String(Files.readAllBytes(this.file), StandardCharsets.UTF_8);
+		blackhole.consume(Strings.normalize(contents, Strings.NORMALIZE_NEWLINES));
+	}
+
+	@Benchmark
+	public long streamNormalize(Blackhole blackhole) throws IOException {
+		return CharStreams.normalize(this.file, StandardCharsets.UTF_8, new BlackholeWriter(blackhole), Strings.NORMALIZE_NEWLINES);
+	}
+
+	/**
+	 * A Writer passing everything to a Blackhole.
+	 */
+	private static final class BlackholeWriter extends Writer {
+
+		private final Blackhole blackhole;
+
+		BlackholeWriter(Blackhole blackhole) {
+			this.blackhole = blackhole;
+		}
+
+		@Override
+		public void write(char[] cbuf, int off, int len) {
+			this.blackhole.consume(cbuf);
+			this.blackhole.consume(len);
+		}
+
+		@Override
+		public void flush() { }
+
+		@Override
+		public void close() { }
+	}
+}
@@ -0,0 +1,73 @@
+package org.mcemperor.commons.lang.util;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares writing a record of 100 fixed-width fields through a {@link FixedWidthFormatter} with concatenating the
+ * Strings returned by {@link Strings#pad(String, int, char, boolean)}.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FixedWidthFormatterBenchmark {
+
+	private static final int FIELDS = 100;
+
+	private String[] texts;
+
+	private long[] numbers;
+
+	private FixedWidthFormatter.Record record;
+
+	private StringBuilder line;
+
+	@Setup
+	public void setUp() {
+		this.texts = new String[FIELDS / 2];
+		this.numbers = new long[FIELDS / 2];
+		FixedWidthFormatter layout = FixedWidthFormatter.of();
+		for (int i = 0; i < FIELDS / 2; i++) {
+			this.texts[i] = "FIELD" + i;
+			this.numbers[i] = i * 7919L;
+			layout = layout.left(12).right(10, '0');
+		}
+		this.record = layout.newRecord();
+		this.line = new StringBuilder(layout.width());
+	}
+
+	@Benchmark
+	public String padAndConcatenate() {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < FIELDS / 2; i++) {
+			sb.append(Strings.pad(this.texts[i], 12, ' ', true));
+			sb.append(Strings.pad(this.numbers[i], 10));
+		}
+		return sb.toString();
+	}
+
+	@Benchmark
+	public StringBuilder formatRecord() throws IOException {
+		for (int i = 0; i < FIELDS / 2; i++) {
+			this.record.set(2 * i, this.texts[i]).set(2 * i + 1, this.numbers[i]);
+		}
+		this.line.setLength(0);
+		return this.record.appendTo(this.line);
+	}
+}
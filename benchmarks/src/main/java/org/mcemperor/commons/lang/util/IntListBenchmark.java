@@ -0,0 +1,90 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link IntList} with {@code ArrayList<Integer>} for collecting, summing and sorting random values.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntListBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int size;
+
+	private int[] values;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		this.values = new int[this.size];
+		for (int i = 0; i < this.size; i++) {
+			this.values[i] = random.nextInt();
+		}
+	}
+
+	@Benchmark
+	public long arrayListAddAndSum() {
+		List<Integer> list = new ArrayList<>();
+		for (int value : this.values) {
+			list.add(value);
+		}
+		long sum = 0;
+		for (int i = 0; i < list.size(); i++) {
+			sum += list.get(i);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long intListAddAndSum() {
+		IntList list = new IntList();
+		for (int value : this.values) {
+			list.add(value);
+		}
+		long sum = 0;
+		for (int i = 0; i < list.size(); i++) {
+			sum += list.get(i);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int arrayListSortAndSearch() {
+		List<Integer> list = new ArrayList<>(this.size);
+		for (int value : this.values) {
+			list.add(value);
+		}
+		Collections.sort(list);
+		return Collections.binarySearch(list, this.values[0]);
+	}
+
+	@Benchmark
+	public int intListSortAndSearch() {
+		IntList list = IntList.of(this.values);
+		list.sort();
+		return list.binarySearch(this.values[0]);
+	}
+}
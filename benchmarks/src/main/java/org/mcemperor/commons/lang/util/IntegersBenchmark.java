@@ -0,0 +1,114 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the public methods of {@link Integers}. The array based methods are run against arrays of 16, 1024
+ * and 1M elements.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntegersBenchmark {
+
+	@Param({ "16", "1024", "1048576" })
+	public int size;
+
+	private int[] ints;
+
+	private List<Integer> boxed;
+
+	private final int[] digits = new int[20];
+
+	private final char[] chars = new char[20];
+
+	@Setup
+	public void setUp() {
+		this.ints = new int[this.size];
+		for (int i = 0; i < this.ints.length; i++) {
+			this.ints[i] = i * 31;
+		}
+		this.boxed = Integers.boxed(this.ints);
+	}
+
+	@Benchmark
+	public List<Integer> boxed() {
+		return Integers.boxed(this.ints);
+	}
+
+	@Benchmark
+	public long asListSum() {
+		long sum = 0;
+		for (Integer i : Integers.asList(this.ints)) {
+			sum += i;
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long boxedSum() {
+		long sum = 0;
+		for (Integer i : Integers.boxed(this.ints)) {
+			sum += i;
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int[] unboxed() {
+		return Integers.unboxed(this.boxed);
+	}
+
+	@Benchmark
+	public int getWidth() {
+		return Integers.getWidth(this.size * 1_000_003L);
+	}
+
+	@Benchmark
+	public List<Integer> getDigits() {
+		return Integers.getDigits(this.size * 2_003);
+	}
+
+	@Benchmark
+	public int getDigitsIntoArray() {
+		return Integers.getDigits(this.size * 2_003, this.digits, 0);
+	}
+
+	@Benchmark
+	public int getChars() {
+		return Integers.getChars(this.size * -1_000_003L, this.chars, 0);
+	}
+
+	@Benchmark
+	public int getOrDefault() {
+		return Integers.getOrDefault("1048576", -1);
+	}
+
+	@Benchmark
+	public int getOrDefaultWithInvalidInput() {
+		return Integers.getOrDefault("1048576x", -1);
+	}
+
+	@Benchmark
+	public byte[] toByteArray() {
+		return Integers.toByteArray(this.ints);
+	}
+}
@@ -0,0 +1,113 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the public methods of {@link Pair}.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PairBenchmark {
+
+	private Pair<String, Integer> pair;
+
+	private Pair<String, Integer> equal;
+
+	private Pair<String, Integer> different;
+
+	private Pair<Integer, Integer> boxedCoordinate;
+
+	private Pair<Integer, Integer> boxedCoordinateEqual;
+
+	private IntIntPair coordinate;
+
+	private IntIntPair coordinateEqual;
+
+	@Setup
+	public void setUp() {
+		this.pair = Pair.of("customerAccount", 4711);
+		this.equal = Pair.of(new String("customerAccount"), 4711);
+		this.different = Pair.of("customerAccount", 4712);
+		this.boxedCoordinate = Pair.of(1024, 2048);
+		this.boxedCoordinateEqual = Pair.of(1024, 2048);
+		this.coordinate = IntIntPair.of(1024, 2048);
+		this.coordinateEqual = IntIntPair.of(1024, 2048);
+	}
+
+	@Benchmark
+	public Pair<String, Integer> of() {
+		return Pair.of("customerAccount", 4711);
+	}
+
+	@Benchmark
+	public String first() {
+		return this.pair.first();
+	}
+
+	@Benchmark
+	public Integer second() {
+		return this.pair.second();
+	}
+
+	@Benchmark
+	public boolean equalsToEqual() {
+		return this.pair.equals(this.equal);
+	}
+
+	@Benchmark
+	public boolean equalsToDifferent() {
+		return this.pair.equals(this.different);
+	}
+
+	@Benchmark
+	public int hashCodeOf() {
+		return this.pair.hashCode();
+	}
+
+	@Benchmark
+	public String toText() {
+		return this.pair.toString();
+	}
+
+	@Benchmark
+	public boolean boxedCoordinateEquals() {
+		return this.boxedCoordinate.equals(this.boxedCoordinateEqual);
+	}
+
+	@Benchmark
+	public int boxedCoordinateHashCode() {
+		return this.boxedCoordinate.hashCode();
+	}
+
+	@Benchmark
+	public boolean intIntPairEquals() {
+		return this.coordinate.equals(this.coordinateEqual);
+	}
+
+	@Benchmark
+	public int intIntPairHashCode() {
+		return this.coordinate.hashCode();
+	}
+
+	@Benchmark
+	public long intIntPairPack() {
+		return this.coordinate.pack();
+	}
+}
@@ -0,0 +1,125 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link PairIndex} and {@link IntIntMap} with {@code HashMap}s keyed by boxed pairs and integers, for
+ * building a map of coordinates and looking all of them up again.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PairIndexBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int size;
+
+	private int[] xs;
+
+	private int[] ys;
+
+	private Map<Pair<Integer, Integer>, String> hashMap;
+
+	private PairIndex<String> pairIndex;
+
+	private Map<Integer, Integer> boxedCounts;
+
+	private IntIntMap counts;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		this.xs = new int[this.size];
+		this.ys = new int[this.size];
+		for (int i = 0; i < this.size; i++) {
+			this.xs[i] = random.nextInt(4096) - 2048;
+			this.ys[i] = random.nextInt(4096) - 2048;
+		}
+		this.hashMap = buildHashMap();
+		this.pairIndex = buildPairIndex();
+		this.boxedCounts = new HashMap<>();
+		this.counts = new IntIntMap();
+		for (int x : this.xs) {
+			this.boxedCounts.merge(x, 1, Integer::sum);
+			this.counts.addTo(x, 1);
+		}
+	}
+
+	@Benchmark
+	public Map<Pair<Integer, Integer>, String> buildHashMap() {
+		Map<Pair<Integer, Integer>, String> map = new HashMap<>();
+		for (int i = 0; i < this.xs.length; i++) {
+			map.put(Pair.of(this.xs[i], this.ys[i]), "tile");
+		}
+		return map;
+	}
+
+	@Benchmark
+	public PairIndex<String> buildPairIndex() {
+		PairIndex<String> index = new PairIndex<>();
+		for (int i = 0; i < this.xs.length; i++) {
+			index.put(this.xs[i], this.ys[i], "tile");
+		}
+		return index;
+	}
+
+	@Benchmark
+	public int lookupHashMap() {
+		int found = 0;
+		for (int i = 0; i < this.xs.length; i++) {
+			if (this.hashMap.get(Pair.of(this.xs[i], this.ys[i])) != null) {
+				found++;
+			}
+		}
+		return found;
+	}
+
+	@Benchmark
+	public int lookupPairIndex() {
+		int found = 0;
+		for (int i = 0; i < this.xs.length; i++) {
+			if (this.pairIndex.get(this.xs[i], this.ys[i]) != null) {
+				found++;
+			}
+		}
+		return found;
+	}
+
+	@Benchmark
+	public int lookupHashMapCounts() {
+		int total = 0;
+		for (int x : this.xs) {
+			total += this.boxedCounts.get(x);
+		}
+		return total;
+	}
+
+	@Benchmark
+	public int lookupIntIntMap() {
+		int total = 0;
+		for (int x : this.xs) {
+			total += this.counts.get(x);
+		}
+		return total;
+	}
+}
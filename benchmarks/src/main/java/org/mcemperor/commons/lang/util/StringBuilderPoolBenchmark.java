@@ -0,0 +1,52 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares building a String of about 200 characters with a new StringBuilder and with one from the
+ * {@link StringBuilderPool}. Run with the GC profiler to compare the allocated bytes per operation.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringBuilderPoolBenchmark {
+
+	private final String[] words = { "request", "id", "0af3", "user", "alice", "status", "200", "duration", "17ms" };
+
+	@Benchmark
+	public String newBuilder() {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 4; i++) {
+			for (String word : this.words) {
+				sb.append(word).append(' ');
+			}
+		}
+		return sb.toString();
+	}
+
+	@Benchmark
+	public String pooledBuilder() {
+		StringBuilder sb = StringBuilderPool.acquire();
+		for (int i = 0; i < 4; i++) {
+			for (String word : this.words) {
+				sb.append(word).append(' ');
+			}
+		}
+		return StringBuilderPool.release(sb);
+	}
+}
@@ -0,0 +1,403 @@
+package org.mcemperor.commons.lang.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.mcemperor.commons.lang.MalformedInputException;
+import org.mcemperor.commons.lang.benchmark.Payload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the public methods of {@link Strings}. Each benchmark is run against every {@link Payload} size.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringsBenchmark {
+
+	@Param
+	public Payload payload;
+
+	private String text;
+
+	private CharBuffer textBuffer;
+
+	private String padded;
+
+	private String digits;
+
+	private String[] words;
+
+	private List<String> wordList;
+
+	private String[] indented;
+
+	private Pattern spacePattern;
+
+	private CharMatcher whitespace;
+
+	private Normalizer normalizer;
+
+	private Splitter spaceSplitter;
+
+	private Writer sink;
+
+	private String quoted;
+
+	private List<String> lineDelimiters;
+
+	@Setup
+	public void setUp() {
+		this.text = this.payload.text();
+		this.textBuffer = CharBuffer.wrap(this.text.toCharArray());
+		this.padded = "   " + this.text + "   ";
+		this.digits = this.payload.text("0123456789");
+		this.words = this.text.split(" ");
+		this.wordList = Arrays.asList(this.words);
+		this.indented = new String[] { "    " + this.text, "  " + this.text, "      " + this.text };
+		this.spacePattern = Pattern.compile(" ");
+		this.whitespace = CharMatcher.anyOf(" \t\r\n");
+		this.normalizer = Normalizer.of(Strings.NORMALIZE_NEWLINES | Strings.NORMALIZE_SPACE_TO_UNDERSCORE | Strings.NORMALIZE_PATH).map('\t', '_');
+		this.spaceSplitter = Splitter.on(" ").retainingDelimiters();
+		this.quoted = this.payload.text("\"alpha\",\"b\\\"ta\",");
+		this.lineDelimiters = Arrays.asList(" ", "\r\n");
+		this.sink = new Writer() {
+			@Override
+			public void write(char[] cbuf, int off, int len) { }
+
+			@Override
+			public void write(String str, int off, int len) { }
+
+			@Override
+			public void flush() { }
+
+			@Override
+			public void close() { }
+		};
+	}
+
+	@Benchmark
+	public int countSubstring() {
+		return Strings.countSubstring(this.text, "e");
+	}
+
+	@Benchmark
+	public int countSubstringWithOverlap() {
+		return Strings.countSubstringWithOverlap(this.text, "e");
+	}
+
+	@Benchmark
+	public int countCharsAtStart() {
+		return Strings.countCharsAtStart(this.padded, ' ');
+	}
+
+	@Benchmark
+	public int countCharsAtEnd() {
+		return Strings.countCharsAtEnd(this.padded, ' ');
+	}
+
+	@Benchmark
+	public boolean containsChar() {
+		return Strings.containsChar(this.text, '~');
+	}
+
+	@Benchmark
+	public String insertCharAt() {
+		return Strings.insertCharAt(this.text, this.text.length() / 2, '#');
+	}
+
+	@Benchmark
+	public String insertCharsAt() {
+		return Strings.insertCharsAt(this.text, this.text.length() / 2, "###");
+	}
+
+	@Benchmark
+	public String removeCharAt() {
+		return Strings.removeCharAt(this.text, this.text.length() / 2);
+	}
+
+	@Benchmark
+	public String removeCharsAt() {
+		return Strings.removeCharsAt(this.text, this.text.length() / 2, 3);
+	}
+
+	@Benchmark
+	public boolean isNumeric() {
+		return Strings.isNumeric(this.digits);
+	}
+
+	@Benchmark
+	public String joinArray() {
+		return Strings.join(this.words, ",");
+	}
+
+	@Benchmark
+	public String joinList() {
+		return Strings.join(this.wordList, ",");
+	}
+
+	@Benchmark
+	public String joinListWithDelimiters() {
+		return Strings.join(this.wordList, ",", "\"", "\"");
+	}
+
+	@Benchmark
+	public String joinListWithTextWrapper() {
+		return Strings.join(this.wordList, ",", String::toUpperCase);
+	}
+
+	@Benchmark
+	public Writer joinToWriter() throws IOException {
+		return Strings.joinTo(this.sink, this.wordList, ",");
+	}
+
+	@Benchmark
+	public String joinChars() {
+		return Strings.join('a', 'b', 'c');
+	}
+
+	@Benchmark
+	public List<String> splitCombined() throws MalformedInputException {
+		return Strings.splitCombined(this.quoted, "\"", "\"", "\\");
+	}
+
+	@Benchmark
+	public List<String> splitInclusive() {
+		return Strings.splitInclusive(this.text, this.lineDelimiters);
+	}
+
+	@Benchmark
+	public List<String> chop() {
+		return Strings.chop(this.text, " ");
+	}
+
+	@Benchmark
+	public List<String> chopWithPattern() {
+		return Strings.chop(this.text, this.spacePattern);
+	}
+
+	@Benchmark
+	public String padInt() {
+		return Strings.pad(42, 10);
+	}
+
+	@Benchmark
+	public String padLong() {
+		return Strings.pad(42L, 20);
+	}
+
+	@Benchmark
+	public String padChar() {
+		return Strings.pad('7', 10);
+	}
+
+	@Benchmark
+	public String pad() {
+		return Strings.pad(this.text, this.text.length() + 16);
+	}
+
+	@Benchmark
+	public String leftpad() {
+		return Strings.leftpad(this.text, this.text.length() + 16, '*');
+	}
+
+	@Benchmark
+	public String rightpad() {
+		return Strings.rightpad(this.text, this.text.length() + 16, '*');
+	}
+
+	@Benchmark
+	public String repeatChar() {
+		return Strings.repeat('-', this.payload.length());
+	}
+
+	@Benchmark
+	public String repeatString() {
+		return Strings.repeat(this.text, 4);
+	}
+
+	@Benchmark
+	public String reverse() {
+		return Strings.reverse(this.text);
+	}
+
+	@Benchmark
+	public String trimLeading() {
+		return Strings.trimLeading(this.padded, ' ');
+	}
+
+	@Benchmark
+	public String trimLeadingWithCharSet() {
+		return Strings.trimLeading(this.padded, " \t\r\n");
+	}
+
+	@Benchmark
+	public String trimTrailing() {
+		return Strings.trimTrailing(this.padded, ' ');
+	}
+
+	@Benchmark
+	public String trimTrailingWithCharSet() {
+		return Strings.trimTrailing(this.padded, " \t\r\n");
+	}
+
+	@Benchmark
+	public String trim() {
+		return Strings.trim(this.padded, ' ');
+	}
+
+	@Benchmark
+	public String trimWithCharSet() {
+		return Strings.trim(this.padded, " \t\r\n");
+	}
+
+	@Benchmark
+	public String trimWithCharMatcher() {
+		return this.whitespace.trim(this.padded);
+	}
+
+	@Benchmark
+	public String[] trimLeadingWithAlignment() {
+		return Strings.trimLeadingWithAlignment(this.indented.clone());
+	}
+
+	@Benchmark
+	public String[] trimArray() {
+		return Strings.trimArray(this.indented.clone());
+	}
+
+	@Benchmark
+	public List<String> chunk() {
+		return Strings.chunk(this.text, 8);
+	}
+
+	@Benchmark
+	public String chunkToString() {
+		return Strings.chunkToString(this.text, 80);
+	}
+
+	@Benchmark
+	public String firstToUppercase() {
+		return Strings.firstToUppercase(this.text);
+	}
+
+	@Benchmark
+	public char getCharFromString() {
+		return Strings.getCharFromString(this.text, this.text.length() / 2, ' ');
+	}
+
+	@Benchmark
+	public boolean isLowercase() {
+		return Strings.isLowercase(this.text, Locale.ROOT);
+	}
+
+	@Benchmark
+	public boolean isUppercase() {
+		return Strings.isUppercase(this.text, Locale.ROOT);
+	}
+
+	@Benchmark
+	public boolean isPalindrome() {
+		return Strings.isPalindrome(this.text);
+	}
+
+	@Benchmark
+	public int countSubstringInCharBuffer() {
+		return Strings.countSubstring(this.textBuffer, "e");
+	}
+
+	@Benchmark
+	public int countSubstringInCharBufferToString() {
+		return Strings.countSubstring(this.textBuffer.toString(), "e");
+	}
+
+	@Benchmark
+	public boolean isLowercaseCharBuffer() {
+		return Strings.isLowercase(this.textBuffer, Locale.ROOT);
+	}
+
+	@Benchmark
+	public int chunkCharBuffer() {
+		int total = 0;
+		for (CharSequence chunk : Strings.chunk(this.textBuffer, 80)) {
+			total += chunk.length();
+		}
+		return total;
+	}
+
+	@Benchmark
+	public String normalizeNewlines() {
+		return Strings.normalize(this.text, Strings.NORMALIZE_NEWLINES);
+	}
+
+	@Benchmark
+	public String normalizeAll() {
+		return Strings.normalize(this.text, Strings.NORMALIZE_NEWLINES | Strings.NORMALIZE_SPACE_TO_UNDERSCORE | Strings.NORMALIZE_PATH);
+	}
+
+	@Benchmark
+	public String normalizeWithNormalizer() {
+		return this.normalizer.normalize(this.text);
+	}
+
+	@Benchmark
+	public int shortestLength() {
+		return Strings.shortestLength(this.words);
+	}
+
+	@Benchmark
+	public int longestLength() {
+		return Strings.longestLength(this.words);
+	}
+
+	@Benchmark
+	public int getNumberOfLeadingChars() {
+		return Strings.getNumberOfLeadingChars(this.padded, ' ');
+	}
+
+	@Benchmark
+	public int getNumberOfTrailingChars() {
+		return Strings.getNumberOfTrailingChars(this.padded, ' ');
+	}
+
+	@Benchmark
+	public String substring() {
+		return Strings.substring(this.text, this.text.length() / 2, this.text.length() * 2);
+	}
+
+	@Benchmark
+	public List<String> splitRetainingDelimiter() {
+		return Strings.splitRetainingDelimiter(this.text, " ");
+	}
+
+	@Benchmark
+	public List<String> splitWithSplitter() {
+		return this.spaceSplitter.splitToList(this.text);
+	}
+
+	@Benchmark
+	public String nonNull() {
+		return Strings.nonNull(this.text, "");
+	}
+}
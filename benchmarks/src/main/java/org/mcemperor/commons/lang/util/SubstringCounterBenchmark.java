@@ -0,0 +1,68 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.concurrent.TimeUnit;
+import org.mcemperor.commons.lang.benchmark.Payload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks counting a set of keywords with a {@link SubstringCounter}, compared to calling
+ * {@link Strings#countSubstring(String, String)} once per keyword.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubstringCounterBenchmark {
+
+	private static final String[] KEYWORDS = {
+		"INFO", "WARN", "ERROR", "DEBUG", "GET", "POST", "PUT", "DELETE", "worker", "Service", "took", "ms",
+		"data", "export", "file", "txt", "select", "insert", "update", "commit", "rollback", "timeout", "retry", "null"
+	};
+
+	@Param
+	public Payload payload;
+
+	private String text;
+
+	private SubstringCounter counter;
+
+	@Setup
+	public void setUp() {
+		this.text = this.payload.text();
+		this.counter = SubstringCounter.of(KEYWORDS);
+	}
+
+	@Benchmark
+	public int[] countSubstringPerKeyword() {
+		int[] counts = new int[KEYWORDS.length];
+		for (int i = 0; i < KEYWORDS.length; i++) {
+			counts[i] = Strings.countSubstring(this.text, KEYWORDS[i]);
+		}
+		return counts;
+	}
+
+	@Benchmark
+	public int[] count() {
+		return this.counter.count(this.text);
+	}
+
+	@Benchmark
+	public int[] countWithOverlap() {
+		return this.counter.countWithOverlap(this.text);
+	}
+}
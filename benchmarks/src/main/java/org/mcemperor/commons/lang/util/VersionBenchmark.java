@@ -0,0 +1,90 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the public methods of {@link Version}, using version strings as they appear in dependency metadata.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersionBenchmark {
+
+	@Param({ "1.2.3", "2.0", "10.14.0.3.1" })
+	public String version;
+
+	private Version parsed;
+
+	private Version equal;
+
+	private Version other;
+
+	@Setup
+	public void setUp() {
+		this.parsed = new Version(this.version);
+		this.equal = new Version(this.version);
+		this.other = this.parsed.upgrade(1);
+	}
+
+	@Benchmark
+	public Version parse() {
+		return new Version(this.version);
+	}
+
+	@Benchmark
+	public Version parseCached() {
+		return Version.parseCached(this.version);
+	}
+
+	@Benchmark
+	public Version construct() {
+		return new Version(1, 2, 3, 0);
+	}
+
+	@Benchmark
+	public int compareTo() {
+		return this.parsed.compareTo(this.other);
+	}
+
+	@Benchmark
+	public int compareToEqual() {
+		return this.parsed.compareTo(this.equal);
+	}
+
+	@Benchmark
+	public boolean equalsTo() {
+		return this.parsed.equals(this.equal);
+	}
+
+	@Benchmark
+	public int hashCodeOf() {
+		return this.parsed.hashCode();
+	}
+
+	@Benchmark
+	public Version upgrade() {
+		return this.parsed.upgrade(2);
+	}
+
+	@Benchmark
+	public String toText() {
+		return this.parsed.toString();
+	}
+}
@@ -0,0 +1,74 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks resolving a {@link VersionRange} against a {@link VersionIndex}, compared to scanning all versions.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersionIndexBenchmark {
+
+	@Param({ "100", "5000" })
+	public int size;
+
+	private List<Version> versions;
+
+	private VersionIndex index;
+
+	private VersionRange range;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		this.versions = new ArrayList<>(this.size);
+		for (int i = 0; i < this.size; i++) {
+			this.versions.add(new Version(random.nextInt(20), random.nextInt(30), random.nextInt(50)));
+		}
+		this.index = VersionIndex.of(this.versions);
+		this.range = VersionRange.parse("^7.3");
+	}
+
+	@Benchmark
+	public Optional<Version> latestIndexed() {
+		return this.index.latest(this.range);
+	}
+
+	@Benchmark
+	public Version latestScanned() {
+		Version latest = null;
+		for (Version version : this.versions) {
+			if (this.range.contains(version) && (latest == null || version.compareTo(latest) > 0)) {
+				latest = version;
+			}
+		}
+		return latest;
+	}
+
+	@Benchmark
+	public VersionIndex build() {
+		return VersionIndex.of(this.versions);
+	}
+}
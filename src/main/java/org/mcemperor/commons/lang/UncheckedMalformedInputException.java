@@ -0,0 +1,32 @@
+package org.mcemperor.commons.lang;
+
+import java.util.Objects;
+
+/**
+ * An UncheckedMalformedInputException wraps a {@link MalformedInputException} with an unchecked exception. It is thrown
+ * where a checked exception cannot be thrown, for instance while lazily iterating over parsed input.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public class UncheckedMalformedInputException extends RuntimeException {
+
+	/**
+	 * Constructs an UncheckedMalformedInputException wrapping the given cause.
+	 *
+	 * @param cause The MalformedInputException to wrap.
+	 */
+	public UncheckedMalformedInputException(MalformedInputException cause) {
+		super(Objects.requireNonNull(cause).getMessage(), cause);
+	}
+
+	/**
+	 * Returns the wrapped MalformedInputException.
+	 *
+	 * @return The cause of this exception.
+	 */
+	@Override
+	public synchronized MalformedInputException getCause() {
+		return (MalformedInputException) super.getCause();
+	}
+}
@@ -0,0 +1,398 @@
+package org.mcemperor.commons.lang.builder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import org.mcemperor.commons.lang.reflect.ClassUtils;
+
+/**
+ * The EqualityStrategy class describes once which fields of a type take part in {@code equals} and {@code hashCode},
+ * and compiles that description into a reusable {@link Equalizer} and {@link Hasher}.<br>
+ * Unlike {@link EqualsBuilder} and {@link HashCodeBuilder}, which are created anew on every call and pass each field
+ * through a {@code Function<T, ?>}, the Equalizer and Hasher are composed once from {@code MethodHandle}s. Comparing or
+ * hashing objects with them allocates nothing, and primitive fields are compared and hashed without boxing.<br>
+ * An EqualityStrategy is immutable; each call adding a field returns a new instance.<br><br>
+ *
+ * Example usage:
+ *
+ * <pre>{@code  private static final EqualityStrategy<Customer> STRATEGY =
+ *     EqualityStrategy.of(Customer.class, MethodHandles.lookup())
+ *         .field("name")
+ *         .field("id");
+ * private static final Equalizer<Customer> EQUALIZER = STRATEGY.equalizer();
+ * private static final Hasher<Customer> HASHER = STRATEGY.hasher();
+ *
+ * public boolean equals(Object o) {
+ *     return EQUALIZER.areEqual(this, o);
+ * }
+ *
+ * public int hashCode() {
+ *     return HASHER.hash(this);
+ * }}</pre>
+ *
+ * Fields are compared in the order in which they are added, so cheap and distinctive fields should be added first.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ * @param <T> The type of the objects to compare and hash.
+ */
+public final class EqualityStrategy<T> {
+
+	/**
+	 * The lookup used to find the helper methods of this class.
+	 */
+	private static final MethodHandles.Lookup LOCAL = MethodHandles.lookup();
+
+	/**
+	 * The type of the objects to compare and hash.
+	 */
+	private final Class<T> type;
+
+	/**
+	 * The lookup used to resolve fields by name, with the access rights of the caller.
+	 */
+	private final MethodHandles.Lookup lookup;
+
+	/**
+	 * The accessors of the fields, each of type {@code (Object)F}, where {@code F} is the type of the field.
+	 */
+	private final List<MethodHandle> accessors;
+
+	/**
+	 * Creates a new EqualityStrategy.
+	 *
+	 * @param type The type of the objects to compare and hash.
+	 * @param lookup The lookup used to resolve fields by name.
+	 * @param accessors The accessors of the fields.
+	 */
+	private EqualityStrategy(Class<T> type, MethodHandles.Lookup lookup, List<MethodHandle> accessors) {
+		this.type = type;
+		this.lookup = lookup;
+		this.accessors = accessors;
+	}
+
+	/**
+	 * Returns an EqualityStrategy without fields for the given type. Fields added by name are resolved with the access
+	 * rights of the given lookup, so passing {@code MethodHandles.lookup()} from within the type itself grants access to
+	 * its private fields.
+	 *
+	 * @param <T> The type of the objects to compare and hash.
+	 * @param type The type of the objects to compare and hash.
+	 * @param lookup The lookup used to resolve fields by name.
+	 * @return A new EqualityStrategy instance.
+	 */
+	public static <T> EqualityStrategy<T> of(Class<T> type, MethodHandles.Lookup lookup) {
+		return new EqualityStrategy<>(type, lookup, Collections.emptyList());
+	}
+
+	/**
+	 * Adds the field with the given name, declared by the type of this strategy. Primitive fields are compared and
+	 * hashed without boxing, array fields are compared and hashed by their contents using {@link Arrays}, and all other
+	 * fields using {@link Objects#equals(Object, Object)} and {@link Objects#hashCode(Object)}. Arrays of objects, such
+	 * as {@code int[][]}, are compared deeply, like {@link EqualsBuilder} and {@link HashCodeBuilder} do.
+	 *
+	 * @param name The name of the field.
+	 * @return A new EqualityStrategy, which also includes the given field.
+	 * @throws IllegalArgumentException If the field does not exist or is not accessible with the lookup.
+	 */
+	public EqualityStrategy<T> field(String name) {
+		try {
+			Field field = this.type.getDeclaredField(name);
+			MethodHandle getter = this.lookup.findGetter(this.type, name, field.getType());
+			return with(getter.asType(MethodType.methodType(field.getType(), Object.class)));
+		}
+		catch (NoSuchFieldException | IllegalAccessException e) {
+			throw new IllegalArgumentException("Cannot access field " + name + " of " + this.type.getName(), e);
+		}
+	}
+
+	/**
+	 * Adds the property returned by the given function, compared and hashed using {@link Objects#equals(Object,
+	 * Object)} and {@link Objects#hashCode(Object)}.
+	 *
+	 * @param function The function returning the property.
+	 * @return A new EqualityStrategy, which also includes the given property.
+	 */
+	public EqualityStrategy<T> field(Function<? super T, ?> function) {
+		return with(bind(Function.class, "apply", Object.class, function));
+	}
+
+	/**
+	 * Adds the int property returned by the given function, compared and hashed without boxing.
+	 *
+	 * @param function The function returning the property.
+	 * @return A new EqualityStrategy, which also includes the given property.
+	 */
+	public EqualityStrategy<T> intField(ToIntFunction<? super T> function) {
+		return with(bind(ToIntFunction.class, "applyAsInt", int.class, function));
+	}
+
+	/**
+	 * Adds the long property returned by the given function, compared and hashed without boxing.
+	 *
+	 * @param function The function returning the property.
+	 * @return A new EqualityStrategy, which also includes the given property.
+	 */
+	public EqualityStrategy<T> longField(ToLongFunction<? super T> function) {
+		return with(bind(ToLongFunction.class, "applyAsLong", long.class, function));
+	}
+
+	/**
+	 * Adds the double property returned by the given function, compared and hashed without boxing. Like
+	 * {@link Double#equals(Object)}, two {@code NaN} values are equal, while {@code 0.0} and {@code -0.0} are not.
+	 *
+	 * @param function The function returning the property.
+	 * @return A new EqualityStrategy, which also includes the given property.
+	 */
+	public EqualityStrategy<T> doubleField(ToDoubleFunction<? super T> function) {
+		return with(bind(ToDoubleFunction.class, "applyAsDouble", double.class, function));
+	}
+
+	/**
+	 * Compiles the fields of this strategy into an Equalizer. The fields are tested in the order in which they were
+	 * added, and testing stops at the first field that differs.
+	 *
+	 * @return A new Equalizer instance.
+	 */
+	public Equalizer<T> equalizer() {
+		MethodHandle result = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, true), 0, Object.class, Object.class);
+		MethodHandle unequal = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false), 0, Object.class, Object.class);
+		for (int i = this.accessors.size() - 1; i >= 0; i--) {
+			MethodHandle accessor = this.accessors.get(i);
+			MethodHandle test = MethodHandles.filterArguments(equality(accessor.type().returnType()), 0, accessor, accessor);
+			result = MethodHandles.guardWithTest(test, result, unequal);
+		}
+		return new Equalizer<>(result);
+	}
+
+	/**
+	 * Compiles the fields of this strategy into a Hasher. The hash code is computed the same way as
+	 * {@link Arrays#hashCode(Object[])} does, so it depends on the order of the fields.
+	 *
+	 * @return A new Hasher instance.
+	 */
+	public Hasher<T> hasher() {
+		MethodHandle result = MethodHandles.dropArguments(MethodHandles.identity(int.class), 1, Object.class);
+		for (MethodHandle accessor : this.accessors) {
+			MethodHandle hash = MethodHandles.filterReturnValue(accessor, hashing(accessor.type().returnType()));
+			MethodHandle step = MethodHandles.filterArguments(find("combine", int.class, int.class, int.class), 1, hash);
+			result = MethodHandles.foldArguments(MethodHandles.dropArguments(step, 1, int.class), result);
+		}
+		return new Hasher<>(result);
+	}
+
+	/**
+	 * Returns a new EqualityStrategy with the given accessor appended.
+	 *
+	 * @param accessor The accessor of type {@code (Object)F}.
+	 * @return A new EqualityStrategy instance.
+	 */
+	EqualityStrategy<T> with(MethodHandle accessor) {
+		List<MethodHandle> extended = new ArrayList<>(this.accessors.size() + 1);
+		extended.addAll(this.accessors);
+		extended.add(accessor);
+		return new EqualityStrategy<>(this.type, this.lookup, Collections.unmodifiableList(extended));
+	}
+
+	/**
+	 * Returns the single abstract method of the given functional interface, bound to the given function.
+	 *
+	 * @param functionalInterface The functional interface.
+	 * @param name The name of the single abstract method.
+	 * @param returnType The return type of the method.
+	 * @param function The function to bind.
+	 * @return A method handle of type {@code (Object)R}.
+	 */
+	private static MethodHandle bind(Class<?> functionalInterface, String name, Class<?> returnType, Object function) {
+		try {
+			return LOCAL.findVirtual(functionalInterface, name, MethodType.methodType(returnType, Object.class))
+				.bindTo(Objects.requireNonNull(function));
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Returns a method handle testing two values of the given type for equality.
+	 *
+	 * @param fieldType The type of the values.
+	 * @return A method handle of type {@code (F, F)boolean}.
+	 */
+	private static MethodHandle equality(Class<?> fieldType) {
+		if (ClassUtils.isPrimitive(fieldType)) {
+			return find("equal", boolean.class, fieldType, fieldType);
+		}
+		if (fieldType.isArray()) {
+			if (!fieldType.getComponentType().isPrimitive()) {
+				return findIn(Arrays.class, "deepEquals", boolean.class, Object[].class, Object[].class)
+					.asType(MethodType.methodType(boolean.class, fieldType, fieldType));
+			}
+			return findIn(Arrays.class, "equals", boolean.class, fieldType, fieldType)
+				.asType(MethodType.methodType(boolean.class, fieldType, fieldType));
+		}
+		return findIn(Objects.class, "equals", boolean.class, Object.class, Object.class)
+			.asType(MethodType.methodType(boolean.class, fieldType, fieldType));
+	}
+
+	/**
+	 * Returns a method handle computing the hash code of a value of the given type.
+	 *
+	 * @param fieldType The type of the value.
+	 * @return A method handle of type {@code (F)int}.
+	 */
+	private static MethodHandle hashing(Class<?> fieldType) {
+		if (ClassUtils.isPrimitive(fieldType)) {
+			return findIn(ClassUtils.boxed(fieldType), "hashCode", int.class, fieldType);
+		}
+		if (fieldType.isArray()) {
+			if (!fieldType.getComponentType().isPrimitive()) {
+				return findIn(Arrays.class, "deepHashCode", int.class, Object[].class)
+					.asType(MethodType.methodType(int.class, fieldType));
+			}
+			return findIn(Arrays.class, "hashCode", int.class, fieldType)
+				.asType(MethodType.methodType(int.class, fieldType));
+		}
+		return findIn(Objects.class, "hashCode", int.class, Object.class)
+			.asType(MethodType.methodType(int.class, fieldType));
+	}
+
+	/**
+	 * Finds a static helper method of this class.
+	 *
+	 * @param name The name of the method.
+	 * @param returnType The return type of the method.
+	 * @param parameterTypes The parameter types of the method.
+	 * @return The method handle.
+	 */
+	private static MethodHandle find(String name, Class<?> returnType, Class<?>... parameterTypes) {
+		return findIn(EqualityStrategy.class, name, returnType, parameterTypes);
+	}
+
+	/**
+	 * Finds a public or local static method.
+	 *
+	 * @param owner The class declaring the method.
+	 * @param name The name of the method.
+	 * @param returnType The return type of the method.
+	 * @param parameterTypes The parameter types of the method.
+	 * @return The method handle.
+	 */
+	private static MethodHandle findIn(Class<?> owner, String name, Class<?> returnType, Class<?>... parameterTypes) {
+		try {
+			return LOCAL.findStatic(owner, name, MethodType.methodType(returnType, parameterTypes));
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Combines the running hash code with the hash code of the next field.
+	 *
+	 * @param hashCode The running hash code.
+	 * @param fieldHashCode The hash code of the next field.
+	 * @return The new running hash code.
+	 */
+	private static int combine(int hashCode, int fieldHashCode) {
+		return 31 * hashCode + fieldHashCode;
+	}
+
+	/**
+	 * Tests two {@code boolean} values for equality.
+	 *
+	 * @param a The first value.
+	 * @param b The second value.
+	 * @return Whether the values are equal.
+	 */
+	private static boolean equal(boolean a, boolean b) {
+		return a == b;
+	}
+
+	/**
+	 * Tests two {@code byte} values for equality.
+	 *
+	 * @param a The first value.
+	 * @param b The second value.
+	 * @return Whether the values are equal.
+	 */
+	private static boolean equal(byte a, byte b) {
+		return a == b;
+	}
+
+	/**
+	 * Tests two {@code short} values for equality.
+	 *
+	 * @param a The first value.
+	 * @param b The second value.
+	 * @return Whether the values are equal.
+	 */
+	private static boolean equal(short a, short b) {
+		return a == b;
+	}
+
+	/**
+	 * Tests two {@code char} values for equality.
+	 *
+	 * @param a The first value.
+	 * @param b The second value.
+	 * @return Whether the values are equal.
+	 */
+	private static boolean equal(char a, char b) {
+		return a == b;
+	}
+
+	/**
+	 * Tests two {@code int} values for equality.
+	 *
+	 * @param a The first value.
+	 * @param b The second value.
+	 * @return Whether the values are equal.
+	 */
+	private static boolean equal(int a, int b) {
+		return a == b;
+	}
+
+	/**
+	 * Tests two {@code long} values for equality.
+	 *
+	 * @param a The first value.
+	 * @param b The second value.
+	 * @return Whether the values are equal.
+	 */
+	private static boolean equal(long a, long b) {
+		return a == b;
+	}
+
+	/**
+	 * Tests two {@code float} values for equality, the same way {@link Float#equals(Object)} does.
+	 *
+	 * @param a The first value.
+	 * @param b The second value.
+	 * @return Whether the values are equal.
+	 */
+	private static boolean equal(float a, float b) {
+		return Float.floatToIntBits(a) == Float.floatToIntBits(b);
+	}
+
+	/**
+	 * Tests two {@code double} values for equality, the same way {@link Double#equals(Object)} does.
+	 *
+	 * @param a The first value.
+	 * @param b The second value.
+	 * @return Whether the values are equal.
+	 */
+	private static boolean equal(double a, double b) {
+		return Double.doubleToLongBits(a) == Double.doubleToLongBits(b);
+	}
+}
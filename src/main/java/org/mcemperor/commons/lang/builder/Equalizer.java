@@ -0,0 +1,56 @@
+package org.mcemperor.commons.lang.builder;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * The Equalizer class tests two objects for equality, comparing the fields described by an {@link EqualityStrategy}.
+ * An Equalizer is stateless and thread-safe, and is meant to be stored in a static final field and reused by the
+ * {@code equals} method of the type it was created for. Testing allocates nothing.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ * @param <T> The type of the objects to compare.
+ */
+public final class Equalizer<T> {
+
+	/**
+	 * The compiled equality test, of type {@code (Object, Object)boolean}.
+	 */
+	private final MethodHandle test;
+
+	/**
+	 * Creates a new Equalizer.
+	 *
+	 * @param test The compiled equality test.
+	 */
+	Equalizer(MethodHandle test) {
+		this.test = test;
+	}
+
+	/**
+	 * Tests whether the given objects are equal. Like {@link EqualsBuilder}, the objects are equal if they are the
+	 * same instance, or if neither is {@code null}, the first is an instance of the class of the second, and all fields
+	 * are equal.
+	 *
+	 * @param first The first object, often passed in as {@code this}.
+	 * @param second The other object to compare the first object to, or {@code null}.
+	 * @return Whether the two objects are equal.
+	 */
+	public boolean areEqual(T first, Object second) {
+		if (first == second) {
+			return true;
+		}
+		if (first == null || second == null || !second.getClass().isInstance(first)) {
+			return false;
+		}
+		try {
+			return (boolean) this.test.invokeExact((Object) first, second);
+		}
+		catch (RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable t) {
+			throw new IllegalStateException(t);
+		}
+	}
+}
@@ -3,6 +3,9 @@ package org.mcemperor.commons.lang.builder;
 import java.util.Objects;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * The EqualsBuilder class eases writing {@code equals} methods within classes.<br>
@@ -88,6 +91,19 @@ public class EqualsBuilder<T> {
 		return new EqualsBuilder<>(o, o2);
 	}
 
+	/**
+	 * Returns the reflectively derived {@code equals}, {@code hashCode} and {@code toString} implementations for the
+	 * given class. The fields of the class are resolved once and cached, so the returned instance is meant to be
+	 * stored in a static final field of the class. See {@link ObjectMethods} for more details.
+	 *
+	 * @param <T> The type of the objects.
+	 * @param type The class.
+	 * @return The ObjectMethods instance for the class.
+	 */
+	public static <T> ObjectMethods<T> reflective(Class<T> type) {
+		return ObjectMethods.of(type);
+	}
+
 	/**
 	 * Returns whether the result has already been determined or not. It is determined if the equality Boolean is not
 	 * null. With calling this method, the user is able to short-circuit a test when the result is already determined.
@@ -116,6 +132,65 @@ public class EqualsBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Applies the given function to the two objects to be compared and tests the resulting {@code int} values for
+	 * equality, without boxing them. This method also accepts functions returning {@code char}, {@code short} or
+	 * {@code byte} values.
+	 *
+	 * @param function The function to get properties of the passed objects.
+	 * @return This EqualsBuilder to allow method call chaining.
+	 */
+	public final EqualsBuilder<T> testInt(ToIntFunction<T> function) {
+		if (!result() && function.applyAsInt(this.first) != function.applyAsInt(this.second)) {
+			this.equal = false;
+		}
+		return this;
+	}
+
+	/**
+	 * Applies the given function to the two objects to be compared and tests the resulting {@code long} values for
+	 * equality, without boxing them.
+	 *
+	 * @param function The function to get properties of the passed objects.
+	 * @return This EqualsBuilder to allow method call chaining.
+	 */
+	public final EqualsBuilder<T> testLong(ToLongFunction<T> function) {
+		if (!result() && function.applyAsLong(this.first) != function.applyAsLong(this.second)) {
+			this.equal = false;
+		}
+		return this;
+	}
+
+	/**
+	 * Applies the given function to the two objects to be compared and tests the resulting {@code double} values for
+	 * equality, without boxing them. The values are compared the same way {@link Double#equals(Object)} does, so two
+	 * {@code NaN} values are equal, while {@code 0.0} and {@code -0.0} are not.
+	 *
+	 * @param function The function to get properties of the passed objects.
+	 * @return This EqualsBuilder to allow method call chaining.
+	 */
+	public final EqualsBuilder<T> testDouble(ToDoubleFunction<T> function) {
+		if (!result() && Double.compare(function.applyAsDouble(this.first), function.applyAsDouble(this.second)) != 0) {
+			this.equal = false;
+		}
+		return this;
+	}
+
+	/**
+	 * Applies the given function to the two objects to be compared and tests the resulting arrays for equality by their
+	 * contents, instead of by reference. Nested arrays are compared by their contents as well, as with
+	 * {@link Objects#deepEquals(Object, Object)}.
+	 *
+	 * @param function The function to get array properties of the passed objects.
+	 * @return This EqualsBuilder to allow method call chaining.
+	 */
+	public final EqualsBuilder<T> testArray(Function<T, ?> function) {
+		if (!result() && !Objects.deepEquals(function.apply(this.first), function.apply(this.second))) {
+			this.equal = false;
+		}
+		return this;
+	}
+
 	/**
 	 * Applies the given BiPredicate to the two objects to be compared. If the predicate returns {@code false}, then the
 	 * final result is set to {@code false}, causing all subsequent tests to return immediately.
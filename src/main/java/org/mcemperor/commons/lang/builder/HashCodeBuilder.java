@@ -1,7 +1,11 @@
 package org.mcemperor.commons.lang.builder;
 
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * The HashCodeBuilder class eases writing {@code hashCode()} methods within classes. Upon creating an instance of this
@@ -19,6 +23,9 @@ import java.util.function.Function;
  *         .get();
  * }}</pre>
  *
+ * By default, the field hash codes are combined using {@link HashMixing#ADDITIVE}, which does not depend on the order of
+ * the fields. Use {@link #of(Object, HashMixing)} to select an order-sensitive or a stronger mixing.
+ *
  * @author Maurits de Jong
  * @param <T> The type of the object contained in the HashCodeBuilder.
  */
@@ -30,18 +37,41 @@ public class HashCodeBuilder<T> {
 	private T instance;
 
 	/**
-	 * The eventual hash code.
+	 * The way the field hash codes are combined.
+	 */
+	private final HashMixing mixing;
+
+	/**
+	 * The running 64-bit state, from which the eventual hash code is computed.
+	 */
+	private long state;
+
+	/**
+	 * The number of fields added.
 	 */
-	private int hashCode;
+	private int count;
 
 	/**
-	 * Constructs a new HashCodeBuilder instance with the given object.
+	 * Constructs a new HashCodeBuilder instance with the given object, combining the field hash codes using
+	 * {@link HashMixing#ADDITIVE}.
 	 *
 	 * @param o The object to check.
 	 */
 	public HashCodeBuilder(T o) {
+		this(o, HashMixing.ADDITIVE);
+	}
+
+	/**
+	 * Constructs a new HashCodeBuilder instance with the given object, combining the field hash codes using the given
+	 * mixing.
+	 *
+	 * @param o The object to check.
+	 * @param mixing The way the field hash codes are combined.
+	 */
+	public HashCodeBuilder(T o, HashMixing mixing) {
 		this.instance = o;
-		this.hashCode = 3;
+		this.mixing = mixing;
+		this.state = mixing.seed();
 	}
 
 	/**
@@ -56,6 +86,32 @@ public class HashCodeBuilder<T> {
 		return new HashCodeBuilder<>(o);
 	}
 
+	/**
+	 * Static factory method to create a new HashCodeBuilder from the given object, combining the field hash codes
+	 * using the given mixing. For example, {@code HashCodeBuilder.of(this, HashMixing.ORDERED)} yields different hash
+	 * codes for objects whose field values are swapped.
+	 *
+	 * @param <T> The type of object contained in the HashCodeBuilder.
+	 * @param o The object to create a hash code from.
+	 * @param mixing The way the field hash codes are combined.
+	 * @return A HashCodeBuilder instance.
+	 */
+	public static <T> HashCodeBuilder<T> of(T o, HashMixing mixing) {
+		return new HashCodeBuilder<>(o, mixing);
+	}
+
+	/**
+	 * Returns the reflectively derived {@code equals}, {@code hashCode} and {@code toString} implementations for the
+	 * given class. This method is equivalent to {@link EqualsBuilder#reflective(Class)}.
+	 *
+	 * @param <T> The type of the objects.
+	 * @param type The class.
+	 * @return The ObjectMethods instance for the class.
+	 */
+	public static <T> ObjectMethods<T> reflective(Class<T> type) {
+		return ObjectMethods.of(type);
+	}
+
 	/**
 	 * Applies the given function to the object to inspect and get its add get using the {@code hashCode()} method.<br>
 	 * For instance, if some class {@code Foo} has a field {@code bar}, then a call to {@code add} could look like this:
@@ -66,17 +122,147 @@ public class HashCodeBuilder<T> {
 	 */
 	public HashCodeBuilder<T> add(Function<T, ?> function) {
 		if (this.instance != null) {
-			this.hashCode += 31 * Objects.hashCode(function.apply(this.instance));
+			combine(Objects.hashCode(function.apply(this.instance)));
+		}
+		return this;
+	}
+
+	/**
+	 * Applies the given function to the object to inspect and adds the resulting {@code int} value to the hash code,
+	 * without boxing it. This method also accepts functions returning {@code char}, {@code short} or {@code byte}
+	 * values.
+	 *
+	 * @param function The function to get properties of the passed objects.
+	 * @return This HashCodeBuilder, to allow method call chaining.
+	 */
+	public HashCodeBuilder<T> addInt(ToIntFunction<T> function) {
+		if (this.instance != null) {
+			combine(function.applyAsInt(this.instance));
 		}
 		return this;
 	}
 
+	/**
+	 * Applies the given function to the object to inspect and adds the resulting {@code long} value to the hash code,
+	 * without boxing it. With a 64-bit mixing, all bits of the value are mixed in; otherwise the value is hashed the
+	 * same way {@link Long#hashCode(long)} does.
+	 *
+	 * @param function The function to get properties of the passed objects.
+	 * @return This HashCodeBuilder, to allow method call chaining.
+	 */
+	public HashCodeBuilder<T> addLong(ToLongFunction<T> function) {
+		if (this.instance != null) {
+			combineLong(function.applyAsLong(this.instance));
+		}
+		return this;
+	}
+
+	/**
+	 * Applies the given function to the object to inspect and adds the resulting {@code double} value to the hash
+	 * code, without boxing it. With a 64-bit mixing, all bits of the value are mixed in; otherwise the value is hashed
+	 * the same way {@link Double#hashCode(double)} does.
+	 *
+	 * @param function The function to get properties of the passed objects.
+	 * @return This HashCodeBuilder, to allow method call chaining.
+	 */
+	public HashCodeBuilder<T> addDouble(ToDoubleFunction<T> function) {
+		if (this.instance != null) {
+			combineLong(Double.doubleToLongBits(function.applyAsDouble(this.instance)));
+		}
+		return this;
+	}
+
+	/**
+	 * Applies the given function to the object to inspect and adds the hash code of the contents of the resulting
+	 * array, instead of its identity hash code. Nested arrays are hashed by their contents as well, as with
+	 * {@link Arrays#deepHashCode(Object[])}. If the function returns an object which is not an array, then its
+	 * {@code hashCode()} method is used.
+	 *
+	 * @param function The function to get array properties of the passed objects.
+	 * @return This HashCodeBuilder, to allow method call chaining.
+	 */
+	public HashCodeBuilder<T> addArray(Function<T, ?> function) {
+		if (this.instance != null) {
+			combine(arrayHashCode(function.apply(this.instance)));
+		}
+		return this;
+	}
+
+	/**
+	 * Combines the given field hash code into the state.
+	 *
+	 * @param hash The hash code of the field.
+	 */
+	private void combine(int hash) {
+		this.state = this.mixing.combine(this.state, hash);
+		this.count++;
+	}
+
+	/**
+	 * Combines the given 64-bit field value into the state.
+	 *
+	 * @param value The value of the field.
+	 */
+	private void combineLong(long value) {
+		this.state = this.mixing.combineLong(this.state, value);
+		this.count++;
+	}
+
+	/**
+	 * Returns the hash code of the contents of the given array, without wrapping it into another array.
+	 *
+	 * @param array The array, or {@code null}.
+	 * @return The hash code.
+	 */
+	private static int arrayHashCode(Object array) {
+		if (array instanceof Object[]) {
+			return Arrays.deepHashCode((Object[]) array);
+		}
+		else if (array instanceof int[]) {
+			return Arrays.hashCode((int[]) array);
+		}
+		else if (array instanceof long[]) {
+			return Arrays.hashCode((long[]) array);
+		}
+		else if (array instanceof byte[]) {
+			return Arrays.hashCode((byte[]) array);
+		}
+		else if (array instanceof char[]) {
+			return Arrays.hashCode((char[]) array);
+		}
+		else if (array instanceof short[]) {
+			return Arrays.hashCode((short[]) array);
+		}
+		else if (array instanceof double[]) {
+			return Arrays.hashCode((double[]) array);
+		}
+		else if (array instanceof float[]) {
+			return Arrays.hashCode((float[]) array);
+		}
+		else if (array instanceof boolean[]) {
+			return Arrays.hashCode((boolean[]) array);
+		}
+		else {
+			return Objects.hashCode(array);
+		}
+	}
+
 	/**
 	 * Gets the eventual hash code.
 	 *
 	 * @return The hash code as an int.
 	 */
 	public int get() {
-		return this.hashCode;
+		return this.mixing.finishInt(this.state, this.count);
+	}
+
+	/**
+	 * Gets the eventual 64-bit hash code, for example for hash tables outside the Java heap. Only
+	 * {@link HashMixing#MURMUR3} and {@link HashMixing#XXHASH} produce well-distributed high bits.
+	 *
+	 * @return The hash code as a long.
+	 */
+	public long getLong() {
+		return this.mixing.finish(this.state, this.count);
 	}
 }
@@ -0,0 +1,200 @@
+package org.mcemperor.commons.lang.builder;
+
+/**
+ * The HashMixing enum defines how a {@link HashCodeBuilder} combines the hash codes of the individual fields into the
+ * final hash code. The modes differ in quality and cost:
+ * <ul>
+ * <li>{@link #ADDITIVE} sums the field hash codes. The order of the fields does not matter, so swapping two field
+ * values, as in {@code Pair.of(a, b)} and {@code Pair.of(b, a)}, yields the same hash code.</li>
+ * <li>{@link #ORDERED} multiplies the running hash code by 31 before adding each field hash code, the same way
+ * {@link java.util.Objects#hash(Object...)} does. It is order-sensitive and about as cheap as {@code ADDITIVE}.</li>
+ * <li>{@link #MURMUR3} and {@link #XXHASH} mix each field into a 64-bit state and apply a finalizer, so every input bit
+ * affects every output bit. They suit keys with low-entropy or regularly spaced fields, and hash tables indexing by
+ * the low bits of the hash code.</li>
+ * </ul>
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public enum HashMixing {
+
+	/**
+	 * Sums the field hash codes, each multiplied by 31, starting at 3. This is the original behavior of
+	 * {@link HashCodeBuilder}, and is order-insensitive.
+	 */
+	ADDITIVE {
+		@Override
+		long seed() {
+			return 3;
+		}
+
+		@Override
+		long combine(long state, int hash) {
+			return state + 31 * hash;
+		}
+	},
+
+	/**
+	 * Multiplies the running hash code by 31 and adds the field hash code, starting at 1.
+	 */
+	ORDERED {
+		@Override
+		long seed() {
+			return 1;
+		}
+
+		@Override
+		long combine(long state, int hash) {
+			return 31 * state + hash;
+		}
+	},
+
+	/**
+	 * Mixes each field into the state using the block mixing step of MurmurHash3, and finishes with its {@code fmix64}
+	 * finalizer.
+	 */
+	MURMUR3 {
+		@Override
+		long seed() {
+			return 0;
+		}
+
+		@Override
+		long combine(long state, int hash) {
+			return combineLong(state, hash);
+		}
+
+		@Override
+		long combineLong(long state, long value) {
+			long k = Long.rotateLeft(value * MURMUR_C1, 31) * MURMUR_C2;
+			return Long.rotateLeft(state ^ k, 27) * 5 + 0x52dce729;
+		}
+
+		@Override
+		long finish(long state, int count) {
+			long h = state ^ count;
+			h = (h ^ (h >>> 33)) * 0xff51afd7ed558ccdL;
+			h = (h ^ (h >>> 33)) * 0xc4ceb9fe1a85ec53L;
+			return h ^ (h >>> 33);
+		}
+	},
+
+	/**
+	 * Mixes each field into the state using the round function of xxHash64, and finishes with its avalanche step.
+	 */
+	XXHASH {
+		@Override
+		long seed() {
+			return XXH_PRIME5;
+		}
+
+		@Override
+		long combine(long state, int hash) {
+			return combineLong(state, hash);
+		}
+
+		@Override
+		long combineLong(long state, long value) {
+			long k = Long.rotateLeft(value * XXH_PRIME2, 31) * XXH_PRIME1;
+			return Long.rotateLeft(state ^ k, 27) * XXH_PRIME1 + XXH_PRIME4;
+		}
+
+		@Override
+		long finish(long state, int count) {
+			long h = state + count;
+			h = (h ^ (h >>> 33)) * XXH_PRIME2;
+			h = (h ^ (h >>> 29)) * XXH_PRIME3;
+			return h ^ (h >>> 32);
+		}
+	};
+
+	/**
+	 * The first multiplication constant of the MurmurHash3 block mixing step.
+	 */
+	private static final long MURMUR_C1 = 0x87c37b91114253d5L;
+
+	/**
+	 * The second multiplication constant of the MurmurHash3 block mixing step.
+	 */
+	private static final long MURMUR_C2 = 0x4cf5ad432745937fL;
+
+	/**
+	 * The first prime of xxHash64.
+	 */
+	private static final long XXH_PRIME1 = 0x9e3779b185ebca87L;
+
+	/**
+	 * The second prime of xxHash64.
+	 */
+	private static final long XXH_PRIME2 = 0xc2b2ae3d27d4eb4fL;
+
+	/**
+	 * The third prime of xxHash64.
+	 */
+	private static final long XXH_PRIME3 = 0x165667b19e3779f9L;
+
+	/**
+	 * The fourth prime of xxHash64.
+	 */
+	private static final long XXH_PRIME4 = 0x85ebca77c2b2ae63L;
+
+	/**
+	 * The fifth prime of xxHash64.
+	 */
+	private static final long XXH_PRIME5 = 0x27d4eb2f165667c5L;
+
+	/**
+	 * Returns the initial state.
+	 *
+	 * @return The initial state.
+	 */
+	abstract long seed();
+
+	/**
+	 * Combines the state with the 32-bit hash code of the next field.
+	 *
+	 * @param state The current state.
+	 * @param hash The hash code of the field.
+	 * @return The new state.
+	 */
+	abstract long combine(long state, int hash);
+
+	/**
+	 * Combines the state with a 64-bit field value. Modes with a 64-bit state use all bits of the value; the others
+	 * combine the value's hash code, as computed by {@link Long#hashCode(long)}.
+	 *
+	 * @param state The current state.
+	 * @param value The value of the field.
+	 * @return The new state.
+	 */
+	long combineLong(long state, long value) {
+		return combine(state, Long.hashCode(value));
+	}
+
+	/**
+	 * Applies the finalizer to the state.
+	 *
+	 * @param state The state after combining all fields.
+	 * @param count The number of fields combined.
+	 * @return The final 64-bit hash code.
+	 */
+	long finish(long state, int count) {
+		return state;
+	}
+
+	/**
+	 * Returns the final 32-bit hash code. The modes without a finalizer keep the low 32 bits, so their hash codes are
+	 * exactly those of 32-bit arithmetic; the others fold the high bits into the low bits.
+	 *
+	 * @param state The state after combining all fields.
+	 * @param count The number of fields combined.
+	 * @return The final 32-bit hash code.
+	 */
+	int finishInt(long state, int count) {
+		if (this == ADDITIVE || this == ORDERED) {
+			return (int) state;
+		}
+		long h = finish(state, count);
+		return (int) (h ^ (h >>> 32));
+	}
+}
@@ -0,0 +1,55 @@
+package org.mcemperor.commons.lang.builder;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * The Hasher class computes the hash code of an object from the fields described by an {@link EqualityStrategy}. A
+ * Hasher is stateless and thread-safe, and is meant to be stored in a static final field and reused by the
+ * {@code hashCode} method of the type it was created for. Hashing allocates nothing.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ * @param <T> The type of the objects to hash.
+ */
+public final class Hasher<T> {
+
+	/**
+	 * The initial hash code, to which the hash code of each field is combined.
+	 */
+	private static final int INITIAL = 1;
+
+	/**
+	 * The compiled hash function, of type {@code (int, Object)int}, taking the initial hash code and the object.
+	 */
+	private final MethodHandle function;
+
+	/**
+	 * Creates a new Hasher.
+	 *
+	 * @param function The compiled hash function.
+	 */
+	Hasher(MethodHandle function) {
+		this.function = function;
+	}
+
+	/**
+	 * Computes the hash code of the given object.
+	 *
+	 * @param instance The object to hash.
+	 * @return The hash code, or {@code 0} if the object is {@code null}.
+	 */
+	public int hash(T instance) {
+		if (instance == null) {
+			return 0;
+		}
+		try {
+			return (int) this.function.invokeExact(INITIAL, (Object) instance);
+		}
+		catch (RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable t) {
+			throw new IllegalStateException(t);
+		}
+	}
+}
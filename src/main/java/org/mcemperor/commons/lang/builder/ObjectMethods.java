@@ -0,0 +1,233 @@
+package org.mcemperor.commons.lang.builder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import org.mcemperor.commons.lang.reflect.ClassUtils;
+
+/**
+ * The ObjectMethods class provides {@code equals}, {@code hashCode} and {@code toString} implementations for a class,
+ * derived from its fields. The fields are looked up once per class, the first time {@link #of(Class)} is called for
+ * it, and turned into {@code MethodHandle}s, which are cached for the lifetime of the class. After that, comparing
+ * and hashing objects involves no reflection and no allocation, and primitive fields are not boxed.<br>
+ * All non-static, non-transient fields declared by the class and its superclasses take part, superclass fields first.
+ * Array fields are compared, hashed and printed by their contents.<br><br>
+ *
+ * Example usage:
+ *
+ * <pre>{@code  private static final ObjectMethods<Customer> METHODS = EqualsBuilder.reflective(Customer.class);
+ *
+ * public boolean equals(Object o) {
+ *     return METHODS.areEqual(this, o);
+ * }
+ *
+ * public int hashCode() {
+ *     return METHODS.hash(this);
+ * }
+ *
+ * public String toString() {
+ *     return METHODS.toString(this);
+ * }}</pre>
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ * @param <T> The type of the objects.
+ */
+public final class ObjectMethods<T> {
+
+	/**
+	 * The ObjectMethods instances, by class.
+	 */
+	private static final ClassValue<ObjectMethods<?>> CACHE = new ClassValue<ObjectMethods<?>>() {
+
+		@Override
+		protected ObjectMethods<?> computeValue(Class<?> type) {
+			return create(type);
+		}
+	};
+
+	/**
+	 * The lookup used to unreflect the fields.
+	 */
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	/**
+	 * The compiled equality test.
+	 */
+	private final Equalizer<T> equalizer;
+
+	/**
+	 * The compiled hash function.
+	 */
+	private final Hasher<T> hasher;
+
+	/**
+	 * The name of the class, as printed by {@link #toString(Object)}.
+	 */
+	private final String name;
+
+	/**
+	 * The names of the fields.
+	 */
+	private final String[] fieldNames;
+
+	/**
+	 * The accessors of the fields, each of type {@code (Object)Object}.
+	 */
+	private final MethodHandle[] getters;
+
+	/**
+	 * Creates a new ObjectMethods instance.
+	 *
+	 * @param equalizer The compiled equality test.
+	 * @param hasher The compiled hash function.
+	 * @param name The name of the class.
+	 * @param fieldNames The names of the fields.
+	 * @param getters The accessors of the fields.
+	 */
+	private ObjectMethods(Equalizer<T> equalizer, Hasher<T> hasher, String name, String[] fieldNames, MethodHandle[] getters) {
+		this.equalizer = equalizer;
+		this.hasher = hasher;
+		this.name = name;
+		this.fieldNames = fieldNames;
+		this.getters = getters;
+	}
+
+	/**
+	 * Returns the ObjectMethods for the given class. The instance is created the first time this method is called for
+	 * the class, and cached after that.
+	 *
+	 * @param <T> The type of the objects.
+	 * @param type The class.
+	 * @return The ObjectMethods instance for the class.
+	 * @throws IllegalArgumentException If the fields of the class cannot be made accessible.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> ObjectMethods<T> of(Class<T> type) {
+		return (ObjectMethods<T>) CACHE.get(type);
+	}
+
+	/**
+	 * Creates the ObjectMethods for the given class.
+	 *
+	 * @param <T> The type of the objects.
+	 * @param type The class.
+	 * @return A new ObjectMethods instance.
+	 */
+	private static <T> ObjectMethods<T> create(Class<T> type) {
+		Deque<Class<?>> hierarchy = new ArrayDeque<>();
+		for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+			hierarchy.push(c);
+		}
+		EqualityStrategy<T> strategy = EqualityStrategy.of(type, LOOKUP);
+		List<String> fieldNames = new ArrayList<>();
+		List<MethodHandle> getters = new ArrayList<>();
+		for (Class<?> c : hierarchy) {
+			for (Field field : c.getDeclaredFields()) {
+				int modifiers = field.getModifiers();
+				if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+					continue;
+				}
+				Class<?> fieldType = field.getType();
+				MethodHandle getter;
+				try {
+					field.setAccessible(true);
+					getter = LOOKUP.unreflectGetter(field).asType(MethodType.methodType(fieldType, Object.class));
+				}
+				catch (IllegalAccessException | RuntimeException e) {
+					throw new IllegalArgumentException("Cannot access field " + field.getName() + " of " + type.getName(), e);
+				}
+				strategy = strategy.with(getter);
+				fieldNames.add(field.getName());
+				getters.add(getter
+					.asType(MethodType.methodType(ClassUtils.boxed(fieldType), Object.class))
+					.asType(MethodType.methodType(Object.class, Object.class)));
+			}
+		}
+		return new ObjectMethods<>(
+			strategy.equalizer(),
+			strategy.hasher(),
+			type.getSimpleName(),
+			fieldNames.toArray(new String[0]),
+			getters.toArray(new MethodHandle[0]));
+	}
+
+	/**
+	 * Tests whether the given objects are equal, comparing all fields. See {@link Equalizer#areEqual(Object, Object)}.
+	 *
+	 * @param first The first object, often passed in as {@code this}.
+	 * @param second The other object to compare the first object to, or {@code null}.
+	 * @return Whether the two objects are equal.
+	 */
+	public boolean areEqual(T first, Object second) {
+		return this.equalizer.areEqual(first, second);
+	}
+
+	/**
+	 * Computes the hash code of the given object from all fields, the same way {@link Arrays#hashCode(Object[])}
+	 * does.
+	 *
+	 * @param instance The object to hash.
+	 * @return The hash code, or {@code 0} if the object is {@code null}.
+	 */
+	public int hash(T instance) {
+		return this.hasher.hash(instance);
+	}
+
+	/**
+	 * Returns a textual representation of the given object, consisting of the simple name of the class and the names
+	 * and values of all fields, for example {@code Customer(name=Alice, id=42)}.
+	 *
+	 * @param instance The object.
+	 * @return The object as a string.
+	 */
+	public String toString(T instance) {
+		if (instance == null) {
+			return "null";
+		}
+		StringBuilder sb = new StringBuilder(this.name.length() + 16 * this.getters.length)
+			.append(this.name)
+			.append('(');
+		for (int i = 0; i < this.getters.length; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(this.fieldNames[i]).append('=');
+			Object value;
+			try {
+				value = (Object) this.getters[i].invokeExact((Object) instance);
+			}
+			catch (RuntimeException | Error e) {
+				throw e;
+			}
+			catch (Throwable t) {
+				throw new IllegalStateException(t);
+			}
+			appendValue(sb, value);
+		}
+		return sb.append(')').toString();
+	}
+
+	/**
+	 * Appends the given value to the StringBuilder, printing arrays by their contents.
+	 *
+	 * @param sb The StringBuilder to append to.
+	 * @param value The value.
+	 */
+	private static void appendValue(StringBuilder sb, Object value) {
+		if (value == null || !value.getClass().isArray()) {
+			sb.append(value);
+		}
+		else {
+			String deep = Arrays.deepToString(new Object[] { value });
+			sb.append(deep, 1, deep.length() - 1);
+		}
+	}
+}
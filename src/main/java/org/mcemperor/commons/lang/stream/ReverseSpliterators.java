@@ -0,0 +1,319 @@
+package org.mcemperor.commons.lang.stream;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.LongConsumer;
+
+/**
+ * Spliterators traversing an index range from the highest index down to the lowest. They are sized and splittable, so
+ * reversed streams may be processed in parallel. Splitting hands out the higher half of the range, because those
+ * elements come first in the reversed encounter order.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+final class ReverseSpliterators {
+
+	/**
+	 * The characteristics shared by all reverse spliterators.
+	 */
+	private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+
+	/**
+	 * Private constructor, because this class only contains nested classes.
+	 */
+	private ReverseSpliterators() { }
+
+	/**
+	 * A reverse spliterator over objects accessed by index.
+	 *
+	 * @param <T> The type of the elements.
+	 */
+	static final class IndexedSpliterator<T> implements Spliterator<T> {
+
+		/**
+		 * The function returning the element at a given index.
+		 */
+		private final IntFunction<T> accessor;
+
+		/**
+		 * The lowest index to traverse, inclusive.
+		 */
+		private final int origin;
+
+		/**
+		 * The next index to traverse, plus one.
+		 */
+		private int fence;
+
+		/**
+		 * Creates a new spliterator traversing the given range in reverse.
+		 *
+		 * @param accessor The function returning the element at a given index.
+		 * @param origin The lowest index, inclusive.
+		 * @param fence The highest index, exclusive.
+		 */
+		IndexedSpliterator(IntFunction<T> accessor, int origin, int fence) {
+			this.accessor = accessor;
+			this.origin = origin;
+			this.fence = fence;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			if (this.fence <= this.origin) {
+				return false;
+			}
+			action.accept(this.accessor.apply(--this.fence));
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			for (int i = this.fence - 1; i >= this.origin; i--) {
+				action.accept(this.accessor.apply(i));
+			}
+			this.fence = this.origin;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			int mid = (this.origin + this.fence) >>> 1;
+			if (mid <= this.origin) {
+				return null;
+			}
+			Spliterator<T> prefix = new IndexedSpliterator<>(this.accessor, mid, this.fence);
+			this.fence = mid;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return this.fence - this.origin;
+		}
+
+		@Override
+		public int characteristics() {
+			return CHARACTERISTICS;
+		}
+	}
+
+	/**
+	 * A reverse spliterator over an int array.
+	 */
+	static final class IntArraySpliterator implements Spliterator.OfInt {
+
+		/**
+		 * The array to traverse.
+		 */
+		private final int[] array;
+
+		/**
+		 * The lowest index to traverse, inclusive.
+		 */
+		private final int origin;
+
+		/**
+		 * The next index to traverse, plus one.
+		 */
+		private int fence;
+
+		/**
+		 * Creates a new spliterator traversing the given range in reverse.
+		 *
+		 * @param array The array to traverse.
+		 * @param origin The lowest index, inclusive.
+		 * @param fence The highest index, exclusive.
+		 */
+		IntArraySpliterator(int[] array, int origin, int fence) {
+			this.array = array;
+			this.origin = origin;
+			this.fence = fence;
+		}
+
+		@Override
+		public boolean tryAdvance(IntConsumer action) {
+			if (this.fence <= this.origin) {
+				return false;
+			}
+			action.accept(this.array[--this.fence]);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(IntConsumer action) {
+			for (int i = this.fence - 1; i >= this.origin; i--) {
+				action.accept(this.array[i]);
+			}
+			this.fence = this.origin;
+		}
+
+		@Override
+		public Spliterator.OfInt trySplit() {
+			int mid = (this.origin + this.fence) >>> 1;
+			if (mid <= this.origin) {
+				return null;
+			}
+			Spliterator.OfInt prefix = new IntArraySpliterator(this.array, mid, this.fence);
+			this.fence = mid;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return this.fence - this.origin;
+		}
+
+		@Override
+		public int characteristics() {
+			return CHARACTERISTICS | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+		}
+	}
+
+	/**
+	 * A reverse spliterator over a long array.
+	 */
+	static final class LongArraySpliterator implements Spliterator.OfLong {
+
+		/**
+		 * The array to traverse.
+		 */
+		private final long[] array;
+
+		/**
+		 * The lowest index to traverse, inclusive.
+		 */
+		private final int origin;
+
+		/**
+		 * The next index to traverse, plus one.
+		 */
+		private int fence;
+
+		/**
+		 * Creates a new spliterator traversing the given range in reverse.
+		 *
+		 * @param array The array to traverse.
+		 * @param origin The lowest index, inclusive.
+		 * @param fence The highest index, exclusive.
+		 */
+		LongArraySpliterator(long[] array, int origin, int fence) {
+			this.array = array;
+			this.origin = origin;
+			this.fence = fence;
+		}
+
+		@Override
+		public boolean tryAdvance(LongConsumer action) {
+			if (this.fence <= this.origin) {
+				return false;
+			}
+			action.accept(this.array[--this.fence]);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(LongConsumer action) {
+			for (int i = this.fence - 1; i >= this.origin; i--) {
+				action.accept(this.array[i]);
+			}
+			this.fence = this.origin;
+		}
+
+		@Override
+		public Spliterator.OfLong trySplit() {
+			int mid = (this.origin + this.fence) >>> 1;
+			if (mid <= this.origin) {
+				return null;
+			}
+			Spliterator.OfLong prefix = new LongArraySpliterator(this.array, mid, this.fence);
+			this.fence = mid;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return this.fence - this.origin;
+		}
+
+		@Override
+		public int characteristics() {
+			return CHARACTERISTICS | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+		}
+	}
+
+	/**
+	 * A reverse spliterator over a double array.
+	 */
+	static final class DoubleArraySpliterator implements Spliterator.OfDouble {
+
+		/**
+		 * The array to traverse.
+		 */
+		private final double[] array;
+
+		/**
+		 * The lowest index to traverse, inclusive.
+		 */
+		private final int origin;
+
+		/**
+		 * The next index to traverse, plus one.
+		 */
+		private int fence;
+
+		/**
+		 * Creates a new spliterator traversing the given range in reverse.
+		 *
+		 * @param array The array to traverse.
+		 * @param origin The lowest index, inclusive.
+		 * @param fence The highest index, exclusive.
+		 */
+		DoubleArraySpliterator(double[] array, int origin, int fence) {
+			this.array = array;
+			this.origin = origin;
+			this.fence = fence;
+		}
+
+		@Override
+		public boolean tryAdvance(DoubleConsumer action) {
+			if (this.fence <= this.origin) {
+				return false;
+			}
+			action.accept(this.array[--this.fence]);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(DoubleConsumer action) {
+			for (int i = this.fence - 1; i >= this.origin; i--) {
+				action.accept(this.array[i]);
+			}
+			this.fence = this.origin;
+		}
+
+		@Override
+		public Spliterator.OfDouble trySplit() {
+			int mid = (this.origin + this.fence) >>> 1;
+			if (mid <= this.origin) {
+				return null;
+			}
+			Spliterator.OfDouble prefix = new DoubleArraySpliterator(this.array, mid, this.fence);
+			this.fence = mid;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return this.fence - this.origin;
+		}
+
+		@Override
+		public int characteristics() {
+			return CHARACTERISTICS | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+		}
+	}
+}
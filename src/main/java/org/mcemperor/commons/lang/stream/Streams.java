@@ -1,8 +1,17 @@
 package org.mcemperor.commons.lang.stream;
 
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Streams utilities.
@@ -11,33 +20,104 @@ import java.util.stream.Stream;
  * @since 2018-06-16
  */
 public class Streams {
-	
+
 	/**
 	 * Private constructor, for this is a utility class.
 	 */
 	private Streams() { }
-	
+
 	/**
-	 * Returns a stream of the elements in the given list in reversed order.
-	 * 
+	 * Returns a stream of the elements in the given list in reversed order. The stream is sized and, if the list
+	 * supports fast random access, can be split evenly for parallel processing. Other lists are traversed backwards
+	 * using a {@code ListIterator}, so each element is visited only once.
+	 *
 	 * @param <T> The type of elements in the list.
 	 * @param list The list to get the elements from.
 	 * @return A Stream with the elements in reversed order.
 	 */
 	public static <T> Stream<T> reverse(List<T> list) {
-		return reversedIndices(list)
-			.mapToObj(i -> list.get(i));
+		int size = list.size();
+		if (list instanceof RandomAccess) {
+			return StreamSupport.stream(new ReverseSpliterators.IndexedSpliterator<>(list::get, 0, size), false);
+		}
+		ListIterator<T> listIterator = list.listIterator(size);
+		Iterator<T> iterator = new Iterator<T>() {
+
+			@Override
+			public boolean hasNext() {
+				return listIterator.hasPrevious();
+			}
+
+			@Override
+			public T next() {
+				return listIterator.previous();
+			}
+		};
+		return StreamSupport.stream(Spliterators.spliterator(iterator, size, Spliterator.ORDERED), false);
+	}
+
+	/**
+	 * Returns a stream of the elements in the given array in reversed order.
+	 *
+	 * @param <T> The type of elements in the array.
+	 * @param array The array to get the elements from.
+	 * @return A Stream with the elements in reversed order.
+	 */
+	public static <T> Stream<T> reverse(T[] array) {
+		return StreamSupport.stream(new ReverseSpliterators.IndexedSpliterator<>(i -> array[i], 0, array.length), false);
+	}
+
+	/**
+	 * Returns a stream of the elements in the given array in reversed order, without boxing.
+	 *
+	 * @param array The array to get the elements from.
+	 * @return An IntStream with the elements in reversed order.
+	 */
+	public static IntStream reverse(int[] array) {
+		return StreamSupport.intStream(new ReverseSpliterators.IntArraySpliterator(array, 0, array.length), false);
 	}
-	
+
+	/**
+	 * Returns a stream of the elements in the given array in reversed order, without boxing.
+	 *
+	 * @param array The array to get the elements from.
+	 * @return A LongStream with the elements in reversed order.
+	 */
+	public static LongStream reverse(long[] array) {
+		return StreamSupport.longStream(new ReverseSpliterators.LongArraySpliterator(array, 0, array.length), false);
+	}
+
+	/**
+	 * Returns a stream of the elements in the given array in reversed order, without boxing.
+	 *
+	 * @param array The array to get the elements from.
+	 * @return A DoubleStream with the elements in reversed order.
+	 */
+	public static DoubleStream reverse(double[] array) {
+		return StreamSupport.doubleStream(new ReverseSpliterators.DoubleArraySpliterator(array, 0, array.length), false);
+	}
+
+	/**
+	 * Returns a stream of the elements in the given deque in descending order, that is, from last to first.
+	 *
+	 * @param <T> The type of elements in the deque.
+	 * @param deque The deque to get the elements from.
+	 * @return A Stream with the elements in descending order.
+	 */
+	public static <T> Stream<T> descending(Deque<T> deque) {
+		return StreamSupport.stream(Spliterators.spliterator(deque.descendingIterator(), deque.size(), Spliterator.ORDERED), false);
+	}
+
 	/**
 	 * Returns a Stream with all valid indices of {@code list}, in reversed order.
-	 * 
+	 *
 	 * @param <T> The type of elements of the list.
 	 * @param list The list to stream from.
 	 * @return A Stream consisting of the indices.
 	 */
 	public static <T> IntStream reversedIndices(List<T> list) {
-		return IntStream.range(0, list.size())
-			.map(i -> list.size() - 1 - i);
+		int last = list.size() - 1;
+		return IntStream.rangeClosed(0, last)
+			.map(i -> last - i);
 	}
 }
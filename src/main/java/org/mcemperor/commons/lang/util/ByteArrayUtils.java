@@ -1,5 +1,9 @@
 package org.mcemperor.commons.lang.util;
 
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
@@ -10,6 +14,34 @@ import java.util.Arrays;
  */
 public class ByteArrayUtils {
 	
+	/**
+	 * The lowercase hexadecimal representations of all byte values, two characters per byte, indexed by
+	 * {@code 2 * (b & 0xff)}.
+	 */
+	private static final char[] HEX_LOWER = hexTable("0123456789abcdef");
+
+	/**
+	 * The uppercase hexadecimal representations of all byte values, two characters per byte, indexed by
+	 * {@code 2 * (b & 0xff)}.
+	 */
+	private static final char[] HEX_UPPER = hexTable("0123456789ABCDEF");
+
+	/**
+	 * The values of the hexadecimal digits, indexed by character, with {@code -1} for any other ASCII character.
+	 */
+	private static final byte[] HEX_VALUES = new byte[128];
+
+	static {
+		Arrays.fill(HEX_VALUES, (byte) -1);
+		for (int i = 0; i < 10; i++) {
+			HEX_VALUES['0' + i] = (byte) i;
+		}
+		for (int i = 0; i < 6; i++) {
+			HEX_VALUES['a' + i] = (byte) (10 + i);
+			HEX_VALUES['A' + i] = (byte) (10 + i);
+		}
+	}
+	
 	/**
 	 * Private constructor, for this is a utility class.
 	 */
@@ -31,17 +63,185 @@ public class ByteArrayUtils {
 	}
 	
 	/**
-	 * Converts the given byte array into a hexadecimal represention.
+	 * Converts the given byte array into a lowercase hexadecimal represention.
 	 * 
 	 * @param bytes The bytes to display as a hex-string.
 	 * @return A hexadecimal string representing the byte array.
 	 */
 	public static String toHexString(byte[] bytes) {
-		String result = "";
+		return toHexString(bytes, false);
+	}
+
+	/**
+	 * Converts the given byte array into a hexadecimal represention, using two digits per byte.
+	 * 
+	 * @param bytes The bytes to display as a hex-string.
+	 * @param upperCase Whether to use the digits {@code A} to {@code F} instead of {@code a} to {@code f}.
+	 * @return A hexadecimal string representing the byte array.
+	 */
+	public static String toHexString(byte[] bytes, boolean upperCase) {
+		char[] chars = new char[2 * bytes.length];
+		toHexChars(bytes, 0, bytes.length, chars, 0, upperCase);
+		return new String(chars);
+	}
+
+	/**
+	 * Converts the remaining bytes of the given buffer into a hexadecimal represention. The position of the buffer is
+	 * not changed.
+	 * 
+	 * @param buffer The buffer with the bytes to display as a hex-string.
+	 * @param upperCase Whether to use the digits {@code A} to {@code F} instead of {@code a} to {@code f}.
+	 * @return A hexadecimal string representing the remaining bytes of the buffer.
+	 */
+	public static String toHexString(ByteBuffer buffer, boolean upperCase) {
+		char[] table = (upperCase ? HEX_UPPER : HEX_LOWER);
+		int position = buffer.position();
+		char[] chars = new char[2 * buffer.remaining()];
+		for (int i = 0; i < chars.length; i += 2) {
+			int index = 2 * (buffer.get(position + (i >> 1)) & 0xff);
+			chars[i] = table[index];
+			chars[i + 1] = table[index + 1];
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * Writes the hexadecimal represention of the given range of bytes into the given char array, two characters per
+	 * byte.
+	 * 
+	 * @param bytes The bytes to convert.
+	 * @param offset The index of the first byte to convert.
+	 * @param length The number of bytes to convert.
+	 * @param dest The array to write the characters into.
+	 * @param destOffset The index in {@code dest} of the first character to write.
+	 * @param upperCase Whether to use the digits {@code A} to {@code F} instead of {@code a} to {@code f}.
+	 * @return The index in {@code dest} following the last character written.
+	 * @throws IndexOutOfBoundsException If the range exceeds {@code bytes}, or {@code dest} is too short.
+	 */
+	public static int toHexChars(byte[] bytes, int offset, int length, char[] dest, int destOffset, boolean upperCase) {
+		checkRange(bytes.length, offset, length);
+		checkRange(dest.length, destOffset, 2 * length);
+		char[] table = (upperCase ? HEX_UPPER : HEX_LOWER);
+		int d = destOffset;
+		for (int i = offset, end = offset + length; i < end; i++) {
+			int index = 2 * (bytes[i] & 0xff);
+			dest[d++] = table[index];
+			dest[d++] = table[index + 1];
+		}
+		return d;
+	}
+
+	/**
+	 * Writes the hexadecimal represention of the given range of bytes into the given byte array as ASCII characters,
+	 * two per byte. This avoids the intermediate String when the result is written to a stream or buffer.
+	 * 
+	 * @param bytes The bytes to convert.
+	 * @param offset The index of the first byte to convert.
+	 * @param length The number of bytes to convert.
+	 * @param dest The array to write the ASCII characters into.
+	 * @param destOffset The index in {@code dest} of the first character to write.
+	 * @param upperCase Whether to use the digits {@code A} to {@code F} instead of {@code a} to {@code f}.
+	 * @return The index in {@code dest} following the last character written.
+	 * @throws IndexOutOfBoundsException If the range exceeds {@code bytes}, or {@code dest} is too short.
+	 */
+	public static int toHexBytes(byte[] bytes, int offset, int length, byte[] dest, int destOffset, boolean upperCase) {
+		checkRange(bytes.length, offset, length);
+		checkRange(dest.length, destOffset, 2 * length);
+		char[] table = (upperCase ? HEX_UPPER : HEX_LOWER);
+		int d = destOffset;
+		for (int i = offset, end = offset + length; i < end; i++) {
+			int index = 2 * (bytes[i] & 0xff);
+			dest[d++] = (byte) table[index];
+			dest[d++] = (byte) table[index + 1];
+		}
+		return d;
+	}
+
+	/**
+	 * Appends the hexadecimal represention of the given bytes to the given Appendable, such as a
+	 * {@code StringBuilder} or a {@code Writer}.
+	 * 
+	 * @param <A> The type of the Appendable.
+	 * @param out The Appendable to append to.
+	 * @param bytes The bytes to convert.
+	 * @param upperCase Whether to use the digits {@code A} to {@code F} instead of {@code a} to {@code f}.
+	 * @return The Appendable.
+	 * @throws IOException If appending fails.
+	 */
+	public static <A extends Appendable> A appendHex(A out, byte[] bytes, boolean upperCase) throws IOException {
+		char[] table = (upperCase ? HEX_UPPER : HEX_LOWER);
+		for (byte b : bytes) {
+			int index = 2 * (b & 0xff);
+			out.append(table[index]).append(table[index + 1]);
+		}
+		return out;
+	}
+
+	/**
+	 * Converts the given hexadecimal representation into bytes. Both lowercase and uppercase digits are accepted.
+	 * 
+	 * @param hex The hexadecimal representation, with two digits per byte.
+	 * @return A new byte array.
+	 * @throws IllegalArgumentException If the length is odd, or the input contains a character which is not a
+	 * hexadecimal digit.
+	 */
+	public static byte[] fromHexString(CharSequence hex) {
+		checkHexLength(hex.length());
+		byte[] bytes = new byte[hex.length() / 2];
 		for (int i = 0; i < bytes.length; i++) {
-			result += Integer.toString((bytes[i] & 0xff) + 0x100, 16).substring(1);
+			bytes[i] = decodeHexByte(hex, 2 * i);
+		}
+		return bytes;
+	}
+
+	/**
+	 * Converts the given hexadecimal representation into bytes, writing them into the given buffer, starting at its
+	 * position. The position of the buffer is advanced by the number of bytes written.
+	 * 
+	 * @param hex The hexadecimal representation, with two digits per byte.
+	 * @param dest The buffer to write the bytes into.
+	 * @return The number of bytes written.
+	 * @throws IllegalArgumentException If the length is odd, or the input contains a character which is not a
+	 * hexadecimal digit. The position of the buffer is left unchanged in that case, although the bytes preceding the
+	 * invalid character have been written.
+	 * @throws BufferOverflowException If the buffer has insufficient space remaining. Nothing is written in that case.
+	 */
+	public static int fromHexString(CharSequence hex, ByteBuffer dest) {
+		checkHexLength(hex.length());
+		int count = hex.length() / 2;
+		if (dest.remaining() < count) {
+			throw new BufferOverflowException();
 		}
-		return result;
+		int position = dest.position();
+		for (int i = 0; i < count; i++) {
+			dest.put(position + i, decodeHexByte(hex, 2 * i));
+		}
+		((Buffer) dest).position(position + count);
+		return count;
+	}
+
+	/**
+	 * Converts the given range of a hexadecimal representation into bytes, writing them into the given byte array.
+	 * 
+	 * @param hex The characters holding the hexadecimal representation.
+	 * @param offset The index of the first character to convert.
+	 * @param length The number of characters to convert, which must be even.
+	 * @param dest The array to write the bytes into.
+	 * @param destOffset The index in {@code dest} of the first byte to write.
+	 * @return The index in {@code dest} following the last byte written.
+	 * @throws IllegalArgumentException If the length is odd, or the range contains a character which is not a
+	 * hexadecimal digit. The bytes preceding the invalid character have been written in that case.
+	 * @throws IndexOutOfBoundsException If the range exceeds {@code hex}, or {@code dest} is too short.
+	 */
+	public static int fromHexChars(char[] hex, int offset, int length, byte[] dest, int destOffset) {
+		checkHexLength(length);
+		checkRange(hex.length, offset, length);
+		checkRange(dest.length, destOffset, length / 2);
+		int d = destOffset;
+		for (int i = offset, end = offset + length; i < end; i += 2) {
+			dest[d++] = (byte) ((hexValue(hex[i], i) << 4) | hexValue(hex[i + 1], i + 1));
+		}
+		return d;
 	}
 
 	/**
@@ -51,13 +251,79 @@ public class ByteArrayUtils {
 	 * @return The byte as a binary string.
 	 */
 	public static String toByteString(byte b) {
-		int r = b; if (r < 0) { r += 256; }
-		StringBuilder str = new StringBuilder();
-		int div = 1;
+		char[] chars = new char[8];
 		for (int i = 0; i < 8; i++) {
-			str.append((r & div) > 0 ? '1' : '0');
-			div <<= 1;
+			chars[i] = ((b & (0x80 >>> i)) != 0 ? '1' : '0');
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * Builds the table of the two-digit hexadecimal representations of all byte values.
+	 * 
+	 * @param digits The sixteen hexadecimal digits.
+	 * @return The table.
+	 */
+	private static char[] hexTable(String digits) {
+		char[] table = new char[512];
+		for (int i = 0; i < 256; i++) {
+			table[2 * i] = digits.charAt(i >>> 4);
+			table[2 * i + 1] = digits.charAt(i & 0xf);
+		}
+		return table;
+	}
+
+	/**
+	 * Decodes the byte represented by the two hexadecimal digits at the given index.
+	 * 
+	 * @param hex The hexadecimal representation.
+	 * @param index The index of the first digit.
+	 * @return The byte.
+	 * @throws IllegalArgumentException If one of the characters is not a hexadecimal digit.
+	 */
+	private static byte decodeHexByte(CharSequence hex, int index) {
+		return (byte) ((hexValue(hex.charAt(index), index) << 4) | hexValue(hex.charAt(index + 1), index + 1));
+	}
+
+	/**
+	 * Returns the value of the given hexadecimal digit.
+	 * 
+	 * @param c The digit.
+	 * @param index The index of the digit, used in the error message.
+	 * @return The value of the digit.
+	 * @throws IllegalArgumentException If the character is not a hexadecimal digit.
+	 */
+	private static int hexValue(char c, int index) {
+		int value = (c < 128 ? HEX_VALUES[c] : -1);
+		if (value < 0) {
+			throw new IllegalArgumentException("Invalid hexadecimal digit '" + c + "' at index " + index);
+		}
+		return value;
+	}
+
+	/**
+	 * Checks whether the given number of hexadecimal digits is even.
+	 * 
+	 * @param length The number of digits.
+	 * @throws IllegalArgumentException If the number is odd.
+	 */
+	private static void checkHexLength(int length) {
+		if ((length & 1) != 0) {
+			throw new IllegalArgumentException("A hexadecimal representation must have an even length, but has " + length);
+		}
+	}
+
+	/**
+	 * Checks whether the given range lies within an array of the given length.
+	 * 
+	 * @param arrayLength The length of the array.
+	 * @param offset The start of the range.
+	 * @param length The length of the range.
+	 * @throws IndexOutOfBoundsException If the range exceeds the array.
+	 */
+	private static void checkRange(int arrayLength, int offset, int length) {
+		if (offset < 0 || length < 0 || offset > arrayLength - length) {
+			throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length + ") out of bounds for length " + arrayLength);
 		}
-		return Strings.reverse(str.toString());
 	}
 }
@@ -0,0 +1,382 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
+/**
+ * The ByteList class is a growable list of {@code byte} values, stored without boxing in a single array. It replaces
+ * {@code ArrayList<Byte>} where the boxing overhead matters, and {@link #asList()} offers a {@code List<Byte>} view
+ * for code expecting a collection.<br>
+ * This class is not thread-safe.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public final class ByteList {
+
+	/**
+	 * The default capacity of a new list.
+	 */
+	private static final int DEFAULT_CAPACITY = 10;
+
+	/**
+	 * The elements, of which only the first {@link #size} are part of the list.
+	 */
+	private byte[] elements;
+
+	/**
+	 * The number of elements in the list.
+	 */
+	private int size;
+
+	/**
+	 * Creates a new, empty ByteList.
+	 */
+	public ByteList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new, empty ByteList, able to hold the given number of elements without growing.
+	 *
+	 * @param capacity The initial capacity.
+	 * @throws IllegalArgumentException If the capacity is negative.
+	 */
+	public ByteList(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Illegal capacity: " + capacity);
+		}
+		this.elements = new byte[capacity];
+	}
+
+	/**
+	 * Returns a new ByteList containing the given values.
+	 *
+	 * @param values The values.
+	 * @return A new ByteList instance.
+	 */
+	public static ByteList of(byte... values) {
+		ByteList list = new ByteList(values.length);
+		list.addAll(values);
+		return list;
+	}
+
+	/**
+	 * Returns the number of elements in this list.
+	 *
+	 * @return The number of elements.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Returns whether this list contains no elements.
+	 *
+	 * @return Whether this list is empty.
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Returns the element at the given position.
+	 *
+	 * @param index The position of the element.
+	 * @return The element.
+	 * @throws IndexOutOfBoundsException If the index is out of range.
+	 */
+	public byte get(int index) {
+		checkIndex(index);
+		return this.elements[index];
+	}
+
+	/**
+	 * Replaces the element at the given position.
+	 *
+	 * @param index The position of the element.
+	 * @param value The new element.
+	 * @return The element previously at the position.
+	 * @throws IndexOutOfBoundsException If the index is out of range.
+	 */
+	public byte set(int index, byte value) {
+		checkIndex(index);
+		byte previous = this.elements[index];
+		this.elements[index] = value;
+		return previous;
+	}
+
+	/**
+	 * Appends the given value to the end of this list.
+	 *
+	 * @param value The value to append.
+	 */
+	public void add(byte value) {
+		if (this.size == this.elements.length) {
+			grow(this.size + 1);
+		}
+		this.elements[this.size++] = value;
+	}
+
+	/**
+	 * Inserts the given value at the given position, shifting subsequent elements to the right.
+	 *
+	 * @param index The position to insert the value at.
+	 * @param value The value to insert.
+	 * @throws IndexOutOfBoundsException If the index is out of range.
+	 */
+	public void add(int index, byte value) {
+		if (index < 0 || index > this.size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+		}
+		if (this.size == this.elements.length) {
+			grow(this.size + 1);
+		}
+		System.arraycopy(this.elements, index, this.elements, index + 1, this.size - index);
+		this.elements[index] = value;
+		this.size++;
+	}
+
+	/**
+	 * Appends all given values to the end of this list.
+	 *
+	 * @param values The values to append.
+	 */
+	public void addAll(byte... values) {
+		if (this.size + values.length > this.elements.length) {
+			grow(this.size + values.length);
+		}
+		System.arraycopy(values, 0, this.elements, this.size, values.length);
+		this.size += values.length;
+	}
+
+	/**
+	 * Removes the element at the given position, shifting subsequent elements to the left.
+	 *
+	 * @param index The position of the element.
+	 * @return The removed element.
+	 * @throws IndexOutOfBoundsException If the index is out of range.
+	 */
+	public byte removeAt(int index) {
+		checkIndex(index);
+		byte removed = this.elements[index];
+		System.arraycopy(this.elements, index + 1, this.elements, index, this.size - index - 1);
+		this.size--;
+		return removed;
+	}
+
+	/**
+	 * Removes all elements.
+	 */
+	public void clear() {
+		this.size = 0;
+	}
+
+	/**
+	 * Returns the position of the first occurrence of the given value.
+	 *
+	 * @param value The value to search for.
+	 * @return The position, or {@code -1} if the value does not occur.
+	 */
+	public int indexOf(byte value) {
+		for (int i = 0; i < this.size; i++) {
+			if (this.elements[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns whether this list contains the given value.
+	 *
+	 * @param value The value to search for.
+	 * @return Whether the value occurs.
+	 */
+	public boolean contains(byte value) {
+		return indexOf(value) >= 0;
+	}
+
+	/**
+	 * Sorts this list into ascending numerical order.
+	 */
+	public void sort() {
+		Arrays.sort(this.elements, 0, this.size);
+	}
+
+	/**
+	 * Searches this list for the given value using binary search. The list must be sorted, for example by calling
+	 * {@link #sort()}.
+	 *
+	 * @param value The value to search for.
+	 * @return The position of the value, if it occurs; otherwise {@code -(insertion point) - 1}, like
+	 * {@link Arrays#binarySearch(byte[], byte)}.
+	 */
+	public int binarySearch(byte value) {
+		return Arrays.binarySearch(this.elements, 0, this.size, value);
+	}
+
+	/**
+	 * Reduces the capacity of this list to its size.
+	 */
+	public void trimToSize() {
+		if (this.elements.length > this.size) {
+			this.elements = Arrays.copyOf(this.elements, this.size);
+		}
+	}
+
+	/**
+	 * Returns the elements of this list.
+	 *
+	 * @return A new array with the elements.
+	 */
+	public byte[] toArray() {
+		return Arrays.copyOf(this.elements, this.size);
+	}
+
+	/**
+	 * Returns a sequential stream of the elements of this list, without copying or boxing them. The elements are widened
+	 * to {@code int}.
+	 *
+	 * @return A stream of the elements.
+	 */
+	public IntStream stream() {
+		return IntStream.range(0, this.size).map(i -> this.elements[i]);
+	}
+
+	/**
+	 * Returns a {@code List<Byte>} view of this list. Elements are boxed one at a time as they are read, and changes
+	 * to the view write through to this list, and vice versa.
+	 *
+	 * @return The List view.
+	 */
+	public List<Byte> asList() {
+		return new ListView();
+	}
+
+	/**
+	 * Whether this list is equal to the specified object. It is equal if the object is also a ByteList with the same
+	 * elements in the same order.
+	 *
+	 * @param obj The other object.
+	 * @return Whether this list is considered equal to the specified object.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof ByteList)) {
+			return false;
+		}
+		ByteList other = (ByteList) obj;
+		if (this.size != other.size) {
+			return false;
+		}
+		for (int i = 0; i < this.size; i++) {
+			if (this.elements[i] != other.elements[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns a hash code for this list, which is equal to the hash code of a {@code List<Byte>} with the same
+	 * elements.
+	 *
+	 * @return The hash code.
+	 */
+	@Override
+	public int hashCode() {
+		int hashCode = 1;
+		for (int i = 0; i < this.size; i++) {
+			byte e = this.elements[i];
+			hashCode = 31 * hashCode + e;
+		}
+		return hashCode;
+	}
+
+	/**
+	 * Returns a textual representation of this list, formatted like {@link Arrays#toString(byte[])}.
+	 *
+	 * @return This list as a string.
+	 */
+	@Override
+	public String toString() {
+		if (this.size == 0) {
+			return "[]";
+		}
+		StringBuilder sb = new StringBuilder(this.size * 4).append('[').append(this.elements[0]);
+		for (int i = 1; i < this.size; i++) {
+			sb.append(", ").append(this.elements[i]);
+		}
+		return sb.append(']').toString();
+	}
+
+	/**
+	 * Checks whether the given index refers to an element.
+	 *
+	 * @param index The index.
+	 * @throws IndexOutOfBoundsException If the index is out of range.
+	 */
+	private void checkIndex(int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+		}
+	}
+
+	/**
+	 * Grows the array to hold at least the given number of elements, by at least half its length.
+	 *
+	 * @param minCapacity The required capacity.
+	 */
+	private void grow(int minCapacity) {
+		int length = this.elements.length;
+		int capacity = Math.max(minCapacity, length + (length >> 1) + 1);
+		this.elements = Arrays.copyOf(this.elements, capacity);
+	}
+
+	/**
+	 * The List view of the list.
+	 */
+	private final class ListView extends AbstractList<Byte> implements RandomAccess {
+
+		@Override
+		public Byte get(int index) {
+			return ByteList.this.get(index);
+		}
+
+		@Override
+		public Byte set(int index, Byte element) {
+			return ByteList.this.set(index, element);
+		}
+
+		@Override
+		public void add(int index, Byte element) {
+			ByteList.this.add(index, element);
+			this.modCount++;
+		}
+
+		@Override
+		public Byte remove(int index) {
+			Byte removed = ByteList.this.removeAt(index);
+			this.modCount++;
+			return removed;
+		}
+
+		@Override
+		public void clear() {
+			ByteList.this.clear();
+			this.modCount++;
+		}
+
+		@Override
+		public int size() {
+			return ByteList.this.size;
+		}
+	}
+}
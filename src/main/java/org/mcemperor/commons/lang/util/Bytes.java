@@ -1,6 +1,13 @@
 package org.mcemperor.commons.lang.util;
 
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 /**
+ * Conversions between bytes and wider primitives. The bulk conversions copy through the typed views of a
+ * {@link ByteBuffer}, such as {@link ByteBuffer#asIntBuffer()}, in either byte order.
  *
  * @author Maurits de Jong
  */
@@ -22,9 +29,7 @@ public class Bytes {
 	public static short[] toShortArray(byte[] bytes) {
 		int iterateTo = bytes.length / 2;
 		short[] shorts = new short[bytes.length / 2 + (bytes.length % 2)];
-		for (int i = 0; i < iterateTo; i++) {
-			shorts[i] = (short) ((bytes[2 * i] << 8) + (bytes[2 * i + 1] & 0xff));
-		}
+		toShortArray(bytes, 0, shorts, 0, iterateTo, ByteOrder.BIG_ENDIAN);
 
 		if (iterateTo != shorts.length) {
 			shorts[shorts.length - 1] = (short) (bytes[bytes.length - 1] << 8);
@@ -32,4 +37,502 @@ public class Bytes {
 
 		return shorts;
 	}
+
+	/**
+	 * Converts the given byte array to a short array, reading two bytes per element in the given byte order. Unlike
+	 * {@link #toShortArray(byte[])}, the length of the byte array must be even.
+	 *
+	 * @param bytes The byte array to convert, of which the length must be a multiple of 2.
+	 * @param order The byte order of the elements.
+	 * @return A new short array.
+	 * @throws IllegalArgumentException If the length of the byte array is odd.
+	 */
+	public static short[] toShortArray(byte[] bytes, ByteOrder order) {
+		short[] shorts = new short[elementCount(bytes.length, 2)];
+		toShortArray(bytes, 0, shorts, 0, shorts.length, order);
+		return shorts;
+	}
+
+	/**
+	 * Reads shorts from the given byte array into the given short array.
+	 *
+	 * @param src The byte array to read from.
+	 * @param srcOffset The index in {@code src} of the first byte to read.
+	 * @param dest The short array to write to.
+	 * @param destOffset The index in {@code dest} of the first element to write.
+	 * @param count The number of elements to read.
+	 * @param order The byte order of the elements.
+	 * @throws IndexOutOfBoundsException If {@code src} or {@code dest} is too short.
+	 */
+	public static void toShortArray(byte[] src, int srcOffset, short[] dest, int destOffset, int count, ByteOrder order) {
+		wrap(src, srcOffset, count, 2, order).asShortBuffer().get(dest, destOffset, count);
+	}
+
+	/**
+	 * Reads all remaining bytes of the given buffer as shorts, in the byte order of the buffer. The position of the buffer
+	 * is advanced past the bytes read.
+	 *
+	 * @param buffer The buffer to read from, of which the number of remaining bytes must be a multiple of 2.
+	 * @return A new short array.
+	 * @throws IllegalArgumentException If the number of remaining bytes is not a multiple of 2.
+	 */
+	public static short[] toShortArray(ByteBuffer buffer) {
+		short[] shorts = new short[elementCount(buffer.remaining(), 2)];
+		buffer.asShortBuffer().get(shorts);
+		advance(buffer, shorts.length * 2);
+		return shorts;
+	}
+
+	/**
+	 * Converts the given short array to a byte array, writing two bytes per element in the given byte order.
+	 *
+	 * @param shorts The short array to convert.
+	 * @param order The byte order of the elements.
+	 * @return A new byte array.
+	 */
+	public static byte[] toByteArray(short[] shorts, ByteOrder order) {
+		byte[] bytes = new byte[shorts.length * 2];
+		toByteArray(shorts, 0, bytes, 0, shorts.length, order);
+		return bytes;
+	}
+
+	/**
+	 * Writes shorts from the given short array into the given byte array.
+	 *
+	 * @param src The short array to read from.
+	 * @param srcOffset The index in {@code src} of the first element to read.
+	 * @param dest The byte array to write to.
+	 * @param destOffset The index in {@code dest} of the first byte to write.
+	 * @param count The number of elements to write.
+	 * @param order The byte order of the elements.
+	 * @return The index in {@code dest} following the last byte written.
+	 * @throws IndexOutOfBoundsException If {@code src} or {@code dest} is too short.
+	 */
+	public static int toByteArray(short[] src, int srcOffset, byte[] dest, int destOffset, int count, ByteOrder order) {
+		wrap(dest, destOffset, count, 2, order).asShortBuffer().put(src, srcOffset, count);
+		return destOffset + count * 2;
+	}
+
+	/**
+	 * Writes the given shorts into the given buffer, in the byte order of the buffer. The position of the buffer is
+	 * advanced past the bytes written.
+	 *
+	 * @param shorts The shorts to write.
+	 * @param buffer The buffer to write to.
+	 * @throws java.nio.BufferOverflowException If the buffer has insufficient space remaining.
+	 */
+	public static void put(short[] shorts, ByteBuffer buffer) {
+		if (buffer.remaining() < shorts.length * 2) {
+			throw new BufferOverflowException();
+		}
+		buffer.asShortBuffer().put(shorts);
+		advance(buffer, shorts.length * 2);
+	}
+
+	/**
+	 * Converts the given byte array to an int array, reading 4 bytes per element in the given byte order.
+	 *
+	 * @param bytes The byte array to convert, of which the length must be a multiple of 4.
+	 * @param order The byte order of the elements.
+	 * @return A new int array.
+	 * @throws IllegalArgumentException If the length of the byte array is not a multiple of 4.
+	 */
+	public static int[] toIntArray(byte[] bytes, ByteOrder order) {
+		int[] ints = new int[elementCount(bytes.length, 4)];
+		toIntArray(bytes, 0, ints, 0, ints.length, order);
+		return ints;
+	}
+
+	/**
+	 * Reads ints from the given byte array into the given int array.
+	 *
+	 * @param src The byte array to read from.
+	 * @param srcOffset The index in {@code src} of the first byte to read.
+	 * @param dest The int array to write to.
+	 * @param destOffset The index in {@code dest} of the first element to write.
+	 * @param count The number of elements to read.
+	 * @param order The byte order of the elements.
+	 * @throws IndexOutOfBoundsException If {@code src} or {@code dest} is too short.
+	 */
+	public static void toIntArray(byte[] src, int srcOffset, int[] dest, int destOffset, int count, ByteOrder order) {
+		wrap(src, srcOffset, count, 4, order).asIntBuffer().get(dest, destOffset, count);
+	}
+
+	/**
+	 * Reads all remaining bytes of the given buffer as ints, in the byte order of the buffer. The position of the buffer
+	 * is advanced past the bytes read.
+	 *
+	 * @param buffer The buffer to read from, of which the number of remaining bytes must be a multiple of 4.
+	 * @return A new int array.
+	 * @throws IllegalArgumentException If the number of remaining bytes is not a multiple of 4.
+	 */
+	public static int[] toIntArray(ByteBuffer buffer) {
+		int[] ints = new int[elementCount(buffer.remaining(), 4)];
+		buffer.asIntBuffer().get(ints);
+		advance(buffer, ints.length * 4);
+		return ints;
+	}
+
+	/**
+	 * Converts the given int array to a byte array, writing 4 bytes per element in the given byte order.
+	 *
+	 * @param ints The int array to convert.
+	 * @param order The byte order of the elements.
+	 * @return A new byte array.
+	 */
+	public static byte[] toByteArray(int[] ints, ByteOrder order) {
+		byte[] bytes = new byte[ints.length * 4];
+		toByteArray(ints, 0, bytes, 0, ints.length, order);
+		return bytes;
+	}
+
+	/**
+	 * Writes ints from the given int array into the given byte array.
+	 *
+	 * @param src The int array to read from.
+	 * @param srcOffset The index in {@code src} of the first element to read.
+	 * @param dest The byte array to write to.
+	 * @param destOffset The index in {@code dest} of the first byte to write.
+	 * @param count The number of elements to write.
+	 * @param order The byte order of the elements.
+	 * @return The index in {@code dest} following the last byte written.
+	 * @throws IndexOutOfBoundsException If {@code src} or {@code dest} is too short.
+	 */
+	public static int toByteArray(int[] src, int srcOffset, byte[] dest, int destOffset, int count, ByteOrder order) {
+		wrap(dest, destOffset, count, 4, order).asIntBuffer().put(src, srcOffset, count);
+		return destOffset + count * 4;
+	}
+
+	/**
+	 * Writes the given ints into the given buffer, in the byte order of the buffer. The position of the buffer is
+	 * advanced past the bytes written.
+	 *
+	 * @param ints The ints to write.
+	 * @param buffer The buffer to write to.
+	 * @throws java.nio.BufferOverflowException If the buffer has insufficient space remaining.
+	 */
+	public static void put(int[] ints, ByteBuffer buffer) {
+		if (buffer.remaining() < ints.length * 4) {
+			throw new BufferOverflowException();
+		}
+		buffer.asIntBuffer().put(ints);
+		advance(buffer, ints.length * 4);
+	}
+
+	/**
+	 * Converts the given byte array to a long array, reading 8 bytes per element in the given byte order.
+	 *
+	 * @param bytes The byte array to convert, of which the length must be a multiple of 8.
+	 * @param order The byte order of the elements.
+	 * @return A new long array.
+	 * @throws IllegalArgumentException If the length of the byte array is not a multiple of 8.
+	 */
+	public static long[] toLongArray(byte[] bytes, ByteOrder order) {
+		long[] longs = new long[elementCount(bytes.length, 8)];
+		toLongArray(bytes, 0, longs, 0, longs.length, order);
+		return longs;
+	}
+
+	/**
+	 * Reads longs from the given byte array into the given long array.
+	 *
+	 * @param src The byte array to read from.
+	 * @param srcOffset The index in {@code src} of the first byte to read.
+	 * @param dest The long array to write to.
+	 * @param destOffset The index in {@code dest} of the first element to write.
+	 * @param count The number of elements to read.
+	 * @param order The byte order of the elements.
+	 * @throws IndexOutOfBoundsException If {@code src} or {@code dest} is too short.
+	 */
+	public static void toLongArray(byte[] src, int srcOffset, long[] dest, int destOffset, int count, ByteOrder order) {
+		wrap(src, srcOffset, count, 8, order).asLongBuffer().get(dest, destOffset, count);
+	}
+
+	/**
+	 * Reads all remaining bytes of the given buffer as longs, in the byte order of the buffer. The position of the buffer
+	 * is advanced past the bytes read.
+	 *
+	 * @param buffer The buffer to read from, of which the number of remaining bytes must be a multiple of 8.
+	 * @return A new long array.
+	 * @throws IllegalArgumentException If the number of remaining bytes is not a multiple of 8.
+	 */
+	public static long[] toLongArray(ByteBuffer buffer) {
+		long[] longs = new long[elementCount(buffer.remaining(), 8)];
+		buffer.asLongBuffer().get(longs);
+		advance(buffer, longs.length * 8);
+		return longs;
+	}
+
+	/**
+	 * Converts the given long array to a byte array, writing 8 bytes per element in the given byte order.
+	 *
+	 * @param longs The long array to convert.
+	 * @param order The byte order of the elements.
+	 * @return A new byte array.
+	 */
+	public static byte[] toByteArray(long[] longs, ByteOrder order) {
+		byte[] bytes = new byte[longs.length * 8];
+		toByteArray(longs, 0, bytes, 0, longs.length, order);
+		return bytes;
+	}
+
+	/**
+	 * Writes longs from the given long array into the given byte array.
+	 *
+	 * @param src The long array to read from.
+	 * @param srcOffset The index in {@code src} of the first element to read.
+	 * @param dest The byte array to write to.
+	 * @param destOffset The index in {@code dest} of the first byte to write.
+	 * @param count The number of elements to write.
+	 * @param order The byte order of the elements.
+	 * @return The index in {@code dest} following the last byte written.
+	 * @throws IndexOutOfBoundsException If {@code src} or {@code dest} is too short.
+	 */
+	public static int toByteArray(long[] src, int srcOffset, byte[] dest, int destOffset, int count, ByteOrder order) {
+		wrap(dest, destOffset, count, 8, order).asLongBuffer().put(src, srcOffset, count);
+		return destOffset + count * 8;
+	}
+
+	/**
+	 * Writes the given longs into the given buffer, in the byte order of the buffer. The position of the buffer is
+	 * advanced past the bytes written.
+	 *
+	 * @param longs The longs to write.
+	 * @param buffer The buffer to write to.
+	 * @throws java.nio.BufferOverflowException If the buffer has insufficient space remaining.
+	 */
+	public static void put(long[] longs, ByteBuffer buffer) {
+		if (buffer.remaining() < longs.length * 8) {
+			throw new BufferOverflowException();
+		}
+		buffer.asLongBuffer().put(longs);
+		advance(buffer, longs.length * 8);
+	}
+
+	/**
+	 * Converts the given byte array to a float array, reading 4 bytes per element in the given byte order.
+	 *
+	 * @param bytes The byte array to convert, of which the length must be a multiple of 4.
+	 * @param order The byte order of the elements.
+	 * @return A new float array.
+	 * @throws IllegalArgumentException If the length of the byte array is not a multiple of 4.
+	 */
+	public static float[] toFloatArray(byte[] bytes, ByteOrder order) {
+		float[] floats = new float[elementCount(bytes.length, 4)];
+		toFloatArray(bytes, 0, floats, 0, floats.length, order);
+		return floats;
+	}
+
+	/**
+	 * Reads floats from the given byte array into the given float array.
+	 *
+	 * @param src The byte array to read from.
+	 * @param srcOffset The index in {@code src} of the first byte to read.
+	 * @param dest The float array to write to.
+	 * @param destOffset The index in {@code dest} of the first element to write.
+	 * @param count The number of elements to read.
+	 * @param order The byte order of the elements.
+	 * @throws IndexOutOfBoundsException If {@code src} or {@code dest} is too short.
+	 */
+	public static void toFloatArray(byte[] src, int srcOffset, float[] dest, int destOffset, int count, ByteOrder order) {
+		wrap(src, srcOffset, count, 4, order).asFloatBuffer().get(dest, destOffset, count);
+	}
+
+	/**
+	 * Reads all remaining bytes of the given buffer as floats, in the byte order of the buffer. The position of the buffer
+	 * is advanced past the bytes read.
+	 *
+	 * @param buffer The buffer to read from, of which the number of remaining bytes must be a multiple of 4.
+	 * @return A new float array.
+	 * @throws IllegalArgumentException If the number of remaining bytes is not a multiple of 4.
+	 */
+	public static float[] toFloatArray(ByteBuffer buffer) {
+		float[] floats = new float[elementCount(buffer.remaining(), 4)];
+		buffer.asFloatBuffer().get(floats);
+		advance(buffer, floats.length * 4);
+		return floats;
+	}
+
+	/**
+	 * Converts the given float array to a byte array, writing 4 bytes per element in the given byte order.
+	 *
+	 * @param floats The float array to convert.
+	 * @param order The byte order of the elements.
+	 * @return A new byte array.
+	 */
+	public static byte[] toByteArray(float[] floats, ByteOrder order) {
+		byte[] bytes = new byte[floats.length * 4];
+		toByteArray(floats, 0, bytes, 0, floats.length, order);
+		return bytes;
+	}
+
+	/**
+	 * Writes floats from the given float array into the given byte array.
+	 *
+	 * @param src The float array to read from.
+	 * @param srcOffset The index in {@code src} of the first element to read.
+	 * @param dest The byte array to write to.
+	 * @param destOffset The index in {@code dest} of the first byte to write.
+	 * @param count The number of elements to write.
+	 * @param order The byte order of the elements.
+	 * @return The index in {@code dest} following the last byte written.
+	 * @throws IndexOutOfBoundsException If {@code src} or {@code dest} is too short.
+	 */
+	public static int toByteArray(float[] src, int srcOffset, byte[] dest, int destOffset, int count, ByteOrder order) {
+		wrap(dest, destOffset, count, 4, order).asFloatBuffer().put(src, srcOffset, count);
+		return destOffset + count * 4;
+	}
+
+	/**
+	 * Writes the given floats into the given buffer, in the byte order of the buffer. The position of the buffer is
+	 * advanced past the bytes written.
+	 *
+	 * @param floats The floats to write.
+	 * @param buffer The buffer to write to.
+	 * @throws java.nio.BufferOverflowException If the buffer has insufficient space remaining.
+	 */
+	public static void put(float[] floats, ByteBuffer buffer) {
+		if (buffer.remaining() < floats.length * 4) {
+			throw new BufferOverflowException();
+		}
+		buffer.asFloatBuffer().put(floats);
+		advance(buffer, floats.length * 4);
+	}
+
+	/**
+	 * Converts the given byte array to a double array, reading 8 bytes per element in the given byte order.
+	 *
+	 * @param bytes The byte array to convert, of which the length must be a multiple of 8.
+	 * @param order The byte order of the elements.
+	 * @return A new double array.
+	 * @throws IllegalArgumentException If the length of the byte array is not a multiple of 8.
+	 */
+	public static double[] toDoubleArray(byte[] bytes, ByteOrder order) {
+		double[] doubles = new double[elementCount(bytes.length, 8)];
+		toDoubleArray(bytes, 0, doubles, 0, doubles.length, order);
+		return doubles;
+	}
+
+	/**
+	 * Reads doubles from the given byte array into the given double array.
+	 *
+	 * @param src The byte array to read from.
+	 * @param srcOffset The index in {@code src} of the first byte to read.
+	 * @param dest The double array to write to.
+	 * @param destOffset The index in {@code dest} of the first element to write.
+	 * @param count The number of elements to read.
+	 * @param order The byte order of the elements.
+	 * @throws IndexOutOfBoundsException If {@code src} or {@code dest} is too short.
+	 */
+	public static void toDoubleArray(byte[] src, int srcOffset, double[] dest, int destOffset, int count, ByteOrder order) {
+		wrap(src, srcOffset, count, 8, order).asDoubleBuffer().get(dest, destOffset, count);
+	}
+
+	/**
+	 * Reads all remaining bytes of the given buffer as doubles, in the byte order of the buffer. The position of the buffer
+	 * is advanced past the bytes read.
+	 *
+	 * @param buffer The buffer to read from, of which the number of remaining bytes must be a multiple of 8.
+	 * @return A new double array.
+	 * @throws IllegalArgumentException If the number of remaining bytes is not a multiple of 8.
+	 */
+	public static double[] toDoubleArray(ByteBuffer buffer) {
+		double[] doubles = new double[elementCount(buffer.remaining(), 8)];
+		buffer.asDoubleBuffer().get(doubles);
+		advance(buffer, doubles.length * 8);
+		return doubles;
+	}
+
+	/**
+	 * Converts the given double array to a byte array, writing 8 bytes per element in the given byte order.
+	 *
+	 * @param doubles The double array to convert.
+	 * @param order The byte order of the elements.
+	 * @return A new byte array.
+	 */
+	public static byte[] toByteArray(double[] doubles, ByteOrder order) {
+		byte[] bytes = new byte[doubles.length * 8];
+		toByteArray(doubles, 0, bytes, 0, doubles.length, order);
+		return bytes;
+	}
+
+	/**
+	 * Writes doubles from the given double array into the given byte array.
+	 *
+	 * @param src The double array to read from.
+	 * @param srcOffset The index in {@code src} of the first element to read.
+	 * @param dest The byte array to write to.
+	 * @param destOffset The index in {@code dest} of the first byte to write.
+	 * @param count The number of elements to write.
+	 * @param order The byte order of the elements.
+	 * @return The index in {@code dest} following the last byte written.
+	 * @throws IndexOutOfBoundsException If {@code src} or {@code dest} is too short.
+	 */
+	public static int toByteArray(double[] src, int srcOffset, byte[] dest, int destOffset, int count, ByteOrder order) {
+		wrap(dest, destOffset, count, 8, order).asDoubleBuffer().put(src, srcOffset, count);
+		return destOffset + count * 8;
+	}
+
+	/**
+	 * Writes the given doubles into the given buffer, in the byte order of the buffer. The position of the buffer is
+	 * advanced past the bytes written.
+	 *
+	 * @param doubles The doubles to write.
+	 * @param buffer The buffer to write to.
+	 * @throws java.nio.BufferOverflowException If the buffer has insufficient space remaining.
+	 */
+	public static void put(double[] doubles, ByteBuffer buffer) {
+		if (buffer.remaining() < doubles.length * 8) {
+			throw new BufferOverflowException();
+		}
+		buffer.asDoubleBuffer().put(doubles);
+		advance(buffer, doubles.length * 8);
+	}
+
+	/**
+	 * Returns the number of elements of the given width in the given number of bytes.
+	 *
+	 * @param byteCount The number of bytes.
+	 * @param width The number of bytes per element.
+	 * @return The number of elements.
+	 * @throws IllegalArgumentException If the number of bytes is not a multiple of the width.
+	 */
+	private static int elementCount(int byteCount, int width) {
+		if (byteCount % width != 0) {
+			throw new IllegalArgumentException("The number of bytes (" + byteCount + ") is not a multiple of " + width);
+		}
+		return byteCount / width;
+	}
+
+	/**
+	 * Wraps the given range of a byte array in a ByteBuffer with the given byte order, so that it can be viewed as a
+	 * buffer of wider elements, which are then copied in bulk.
+	 *
+	 * @param bytes The byte array.
+	 * @param offset The index of the first byte.
+	 * @param count The number of elements.
+	 * @param width The number of bytes per element.
+	 * @param order The byte order.
+	 * @return The ByteBuffer.
+	 * @throws IndexOutOfBoundsException If the range exceeds the array.
+	 */
+	private static ByteBuffer wrap(byte[] bytes, int offset, int count, int width, ByteOrder order) {
+		if (offset < 0 || count < 0 || count > (bytes.length - offset) / width) {
+			throw new IndexOutOfBoundsException("Range of " + count + " elements of " + width + " bytes at " + offset
+				+ " out of bounds for length " + bytes.length);
+		}
+		return ByteBuffer.wrap(bytes, offset, count * width).order(order);
+	}
+
+	/**
+	 * Advances the position of the given buffer. The buffer is used through the {@code Buffer} type, so that the
+	 * compiled code also runs on Java 8, where {@code ByteBuffer} does not override {@code position(int)}.
+	 *
+	 * @param buffer The buffer.
+	 * @param byteCount The number of bytes to advance.
+	 */
+	private static void advance(ByteBuffer buffer, int byteCount) {
+		Buffer b = buffer;
+		b.position(b.position() + byteCount);
+	}
 }
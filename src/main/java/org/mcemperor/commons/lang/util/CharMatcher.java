@@ -0,0 +1,216 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.Arrays;
+
+/**
+ * The CharMatcher class represents an immutable set of characters, which can be used to trim strings without compiling
+ * regular expressions. ASCII characters are kept in a 128-bit mask; all other characters are kept in a sorted array and
+ * looked up using a binary search.<br>
+ * A CharMatcher is thread-safe and is meant to be created once and reused.<br><br>
+ *
+ * Example usage:
+ *
+ * <pre>{@code  private static final CharMatcher WHITESPACE = CharMatcher.anyOf(" \t\r\n");
+ *
+ * String trimmed = WHITESPACE.trim(line);}</pre>
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public final class CharMatcher {
+
+	/**
+	 * The bitmask for the characters {@code 0} to {@code 63} inclusive.
+	 */
+	private final long low;
+
+	/**
+	 * The bitmask for the characters {@code 64} to {@code 127} inclusive.
+	 */
+	private final long high;
+
+	/**
+	 * The sorted non-ASCII characters.
+	 */
+	private final char[] others;
+
+	/**
+	 * Creates a new CharMatcher from the given masks and non-ASCII characters.
+	 *
+	 * @param low The bitmask for the characters {@code 0} to {@code 63} inclusive.
+	 * @param high The bitmask for the characters {@code 64} to {@code 127} inclusive.
+	 * @param others The sorted non-ASCII characters, without duplicates.
+	 */
+	private CharMatcher(long low, long high, char[] others) {
+		this.low = low;
+		this.high = high;
+		this.others = others;
+	}
+
+	/**
+	 * Returns a CharMatcher matching only the given character.
+	 *
+	 * @param c The character to match.
+	 * @return A new CharMatcher instance.
+	 */
+	public static CharMatcher is(char c) {
+		return anyOf(String.valueOf(c));
+	}
+
+	/**
+	 * Returns a CharMatcher matching any of the characters in the given sequence.
+	 *
+	 * @param chars The characters to match. The order and duplicates are ignored.
+	 * @return A new CharMatcher instance.
+	 */
+	public static CharMatcher anyOf(CharSequence chars) {
+		long low = 0L;
+		long high = 0L;
+		char[] others = new char[chars.length()];
+		int count = 0;
+		for (int i = 0; i < chars.length(); i++) {
+			char c = chars.charAt(i);
+			if (c < 64) {
+				low |= (1L << c);
+			}
+			else if (c < 128) {
+				high |= (1L << (c - 64));
+			}
+			else {
+				others[count++] = c;
+			}
+		}
+		Arrays.sort(others, 0, count);
+		int unique = 0;
+		for (int i = 0; i < count; i++) {
+			if (unique == 0 || others[unique - 1] != others[i]) {
+				others[unique++] = others[i];
+			}
+		}
+		return new CharMatcher(low, high, Arrays.copyOf(others, unique));
+	}
+
+	/**
+	 * Returns whether the given character is matched by this CharMatcher.
+	 *
+	 * @param c The character to test.
+	 * @return Whether the character is part of this set.
+	 */
+	public boolean matches(char c) {
+		if (c < 64) {
+			return (this.low & (1L << c)) != 0;
+		}
+		else if (c < 128) {
+			return (this.high & (1L << (c - 64))) != 0;
+		}
+		else {
+			return (this.others.length > 0 && Arrays.binarySearch(this.others, c) >= 0);
+		}
+	}
+
+	/**
+	 * Counts the number of consecutive matching characters at the start of the given sequence.
+	 *
+	 * @param sequence The sequence to inspect.
+	 * @return The number of matching characters at the start.
+	 */
+	public int countLeading(CharSequence sequence) {
+		int length = sequence.length();
+		int i = 0;
+		while (i < length && matches(sequence.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * Counts the number of consecutive matching characters at the end of the given sequence.
+	 *
+	 * @param sequence The sequence to inspect.
+	 * @return The number of matching characters at the end.
+	 */
+	public int countTrailing(CharSequence sequence) {
+		int length = sequence.length();
+		int i = length;
+		while (i > 0 && matches(sequence.charAt(i - 1))) {
+			i--;
+		}
+		return length - i;
+	}
+
+	/**
+	 * Removes all consecutive matching characters from the start of the given string. If nothing is to be removed, the
+	 * given string itself is returned.
+	 *
+	 * @param string The string to trim.
+	 * @return The trimmed string.
+	 */
+	public String trimLeading(String string) {
+		return string.substring(countLeading(string));
+	}
+
+	/**
+	 * Removes all consecutive matching characters from the end of the given string. If nothing is to be removed, the
+	 * given string itself is returned.
+	 *
+	 * @param string The string to trim.
+	 * @return The trimmed string.
+	 */
+	public String trimTrailing(String string) {
+		return string.substring(0, string.length() - countTrailing(string));
+	}
+
+	/**
+	 * Removes all consecutive matching characters from both sides of the given string. If nothing is to be removed, the
+	 * given string itself is returned.
+	 *
+	 * @param string The string to trim.
+	 * @return The trimmed string.
+	 */
+	public String trim(String string) {
+		int end = string.length() - countTrailing(string);
+		int begin = 0;
+		while (begin < end && matches(string.charAt(begin))) {
+			begin++;
+		}
+		return string.substring(begin, end);
+	}
+
+	/**
+	 * Removes all consecutive matching characters from the start of the given sequence, returning a view through
+	 * {@code subSequence}, so no characters are copied if the sequence supports it.
+	 *
+	 * @param sequence The sequence to trim.
+	 * @return The trimmed sequence.
+	 */
+	public CharSequence trimLeading(CharSequence sequence) {
+		return sequence.subSequence(countLeading(sequence), sequence.length());
+	}
+
+	/**
+	 * Removes all consecutive matching characters from the end of the given sequence, returning a view through
+	 * {@code subSequence}, so no characters are copied if the sequence supports it.
+	 *
+	 * @param sequence The sequence to trim.
+	 * @return The trimmed sequence.
+	 */
+	public CharSequence trimTrailing(CharSequence sequence) {
+		return sequence.subSequence(0, sequence.length() - countTrailing(sequence));
+	}
+
+	/**
+	 * Removes all consecutive matching characters from both sides of the given sequence, returning a view through
+	 * {@code subSequence}, so no characters are copied if the sequence supports it.
+	 *
+	 * @param sequence The sequence to trim.
+	 * @return The trimmed sequence.
+	 */
+	public CharSequence trim(CharSequence sequence) {
+		int end = sequence.length() - countTrailing(sequence);
+		int begin = 0;
+		while (begin < end && matches(sequence.charAt(begin))) {
+			begin++;
+		}
+		return sequence.subSequence(begin, end);
+	}
+}
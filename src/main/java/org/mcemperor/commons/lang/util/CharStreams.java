@@ -0,0 +1,427 @@
+package org.mcemperor.commons.lang.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * The CharStreams class contains streaming counterparts of {@link Strings#chunk(String, int)},
+ * {@link Strings#chunkToString(String, int, String)} and {@link Strings#normalize(String, int)}. They read their
+ * input from a {@code Reader}, a file or a {@code FileChannel} in buffers of a fixed size, and write their output
+ * incrementally, so input of any size is processed with bounded memory.<br>
+ * Files are read through {@link #mappedReader(FileChannel, Charset)}, which maps the file into memory one region at a
+ * time and decodes each region with a {@link CharsetDecoder}, so the bytes are never copied onto the heap. Like
+ * {@code Files.newBufferedReader}, it reports malformed input by throwing an exception.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public final class CharStreams {
+
+	/**
+	 * The size, in characters, of the buffers used for reading and writing.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * The size, in bytes, of the regions of a file mapped at once.
+	 */
+	private static final int REGION_SIZE = 64 * 1024 * 1024;
+
+	/**
+	 * The smallest region size, which holds any encoded character.
+	 */
+	private static final int MIN_REGION_SIZE = 16;
+
+	/**
+	 * Private constructor, because this class is a utility class.
+	 */
+	private CharStreams() { }
+
+	/**
+	 * Returns a Reader decoding the contents of the given channel, from its start to its current size. The channel is
+	 * mapped into memory one region at a time; a character of which the bytes span two regions is decoded correctly.
+	 * Closing the Reader does not close the channel.
+	 *
+	 * @param channel The channel to read.
+	 * @param charset The charset of the contents.
+	 * @return A new Reader.
+	 * @throws IOException If the size of the channel cannot be determined.
+	 */
+	public static Reader mappedReader(FileChannel channel, Charset charset) throws IOException {
+		return mappedReader(channel, charset, REGION_SIZE);
+	}
+
+	/**
+	 * Returns a Reader decoding the contents of the given channel, mapping regions of the given size.
+	 *
+	 * @param channel The channel to read.
+	 * @param charset The charset of the contents.
+	 * @param regionSize The size, in bytes, of the regions mapped at once.
+	 * @return A new Reader.
+	 * @throws IOException If the size of the channel cannot be determined.
+	 * @throws IllegalArgumentException If the region size is less than 16 bytes.
+	 */
+	static Reader mappedReader(FileChannel channel, Charset charset, int regionSize) throws IOException {
+		if (regionSize < MIN_REGION_SIZE) {
+			throw new IllegalArgumentException("The region size must be at least " + MIN_REGION_SIZE + " bytes");
+		}
+		return new MappedReader(channel, charset, regionSize);
+	}
+
+	/**
+	 * Reads all characters from the given Reader, and passes them to the given action in chunks with a size of
+	 * exactly {@code chunkSize}. The last chunk might be smaller if there are no more characters to consume.<br>
+	 * The chunks share a single buffer, which is overwritten by the next chunk, so the action must not retain a chunk;
+	 * convert it to a String to keep it.
+	 *
+	 * @param in The Reader to read from.
+	 * @param chunkSize The chunk size.
+	 * @param action The action to perform on each chunk.
+	 * @return The number of chunks.
+	 * @throws IOException If reading fails.
+	 */
+	public static long chunk(Reader in, int chunkSize, Consumer<? super CharSequence> action) throws IOException {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("The chunk size must be greater than 0");
+		}
+		char[] buffer = new char[chunkSize];
+		long count = 0;
+		int filled;
+		while ((filled = fill(in, buffer)) > 0) {
+			action.accept(CharBuffer.wrap(buffer, 0, filled));
+			count++;
+			if (filled < chunkSize) {
+				break;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Reads all characters from the given file, and passes them to the given action in chunks with a size of exactly
+	 * {@code chunkSize}. See {@link #chunk(Reader, int, Consumer)}.
+	 *
+	 * @param in The file to read from.
+	 * @param charset The charset of the file.
+	 * @param chunkSize The chunk size.
+	 * @param action The action to perform on each chunk.
+	 * @return The number of chunks.
+	 * @throws IOException If reading fails.
+	 */
+	public static long chunk(Path in, Charset charset, int chunkSize, Consumer<? super CharSequence> action) throws IOException {
+		try (FileChannel channel = FileChannel.open(in, StandardOpenOption.READ)) {
+			return chunk(mappedReader(channel, charset), chunkSize, action);
+		}
+	}
+
+	/**
+	 * Reads all characters from the given Reader, and writes them to the given Writer in chunks with a size of
+	 * {@code chunkSize}, with {@code glue} between them. The output is equal to that of
+	 * {@link Strings#chunkToString(String, int, String)}.
+	 *
+	 * @param in The Reader to read from.
+	 * @param chunkSize The chunk size.
+	 * @param glue The glue to insert among the chunks.
+	 * @param out The Writer to write to.
+	 * @return The number of chunks.
+	 * @throws IOException If reading or writing fails.
+	 */
+	public static long chunkTo(Reader in, int chunkSize, String glue, Writer out) throws IOException {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("The chunk size must be greater than 0");
+		}
+		char[] buffer = new char[chunkSize];
+		long count = 0;
+		int filled;
+		while ((filled = fill(in, buffer)) > 0) {
+			if (count > 0) {
+				out.write(glue);
+			}
+			out.write(buffer, 0, filled);
+			count++;
+			if (filled < chunkSize) {
+				break;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Reads all characters from the given Reader, normalizes them and writes them to the given Writer. The output is
+	 * equal to that of {@link Strings#normalize(String, int)}; in particular, a {@code \r\n} is replaced by a single
+	 * {@code \n}, even if the {@code \r} and the {@code \n} are read into different buffers.
+	 *
+	 * @param in The Reader to read from.
+	 * @param out The Writer to write to.
+	 * @param scope The scope of what strength the normalization should have.
+	 * @return The number of characters written.
+	 * @throws IOException If reading or writing fails.
+	 */
+	public static long normalize(Reader in, Writer out, int scope) throws IOException {
+		return normalize(in, out, Normalizer.of(scope));
+	}
+
+	/**
+	 * Reads all characters from the given Reader, normalizes them using the given Normalizer and writes them to the
+	 * given Writer. The output is equal to that of {@link Normalizer#normalize(String)}; in particular, a
+	 * {@code \r\n} is replaced by a single {@code \n}, even if the {@code \r} and the {@code \n} are read into
+	 * different buffers.
+	 *
+	 * @param in The Reader to read from.
+	 * @param out The Writer to write to.
+	 * @param normalizer The Normalizer to apply.
+	 * @return The number of characters written.
+	 * @throws IOException If reading or writing fails.
+	 */
+	public static long normalize(Reader in, Writer out, Normalizer normalizer) throws IOException {
+		char[] buffer = new char[BUFFER_SIZE];
+		boolean afterCarriageReturn = false;
+		long written = 0;
+		int read;
+		while ((read = in.read(buffer)) != -1) {
+			if (read == 0) {
+				continue;
+			}
+			boolean endsWithCarriageReturn = (buffer[read - 1] == '\r');
+			int length = normalizer.apply(buffer, 0, read, afterCarriageReturn);
+			afterCarriageReturn = endsWithCarriageReturn;
+			out.write(buffer, 0, length);
+			written += length;
+		}
+		return written;
+	}
+
+	/**
+	 * Reads all characters from the given file, normalizes them and writes them to the given Writer. See
+	 * {@link #normalize(Reader, Writer, int)}.
+	 *
+	 * @param in The file to read from.
+	 * @param charset The charset of the file.
+	 * @param out The Writer to write to.
+	 * @param scope The scope of what strength the normalization should have.
+	 * @return The number of characters written.
+	 * @throws IOException If reading or writing fails.
+	 */
+	public static long normalize(Path in, Charset charset, Writer out, int scope) throws IOException {
+		return normalize(in, charset, out, Normalizer.of(scope));
+	}
+
+	/**
+	 * Reads all characters from the given file, normalizes them using the given Normalizer and writes them to the
+	 * given Writer. See {@link #normalize(Reader, Writer, Normalizer)}.
+	 *
+	 * @param in The file to read from.
+	 * @param charset The charset of the file.
+	 * @param out The Writer to write to.
+	 * @param normalizer The Normalizer to apply.
+	 * @return The number of characters written.
+	 * @throws IOException If reading or writing fails.
+	 */
+	public static long normalize(Path in, Charset charset, Writer out, Normalizer normalizer) throws IOException {
+		try (FileChannel channel = FileChannel.open(in, StandardOpenOption.READ)) {
+			return normalize(mappedReader(channel, charset), out, normalizer);
+		}
+	}
+
+	/**
+	 * Reads all characters from the given channel, normalizes them and writes them, encoded with the same charset, to
+	 * the given channel. See {@link #normalize(Reader, Writer, int)}. Neither channel is closed.
+	 *
+	 * @param in The channel to read from.
+	 * @param charset The charset of the input and the output.
+	 * @param out The channel to write to.
+	 * @param scope The scope of what strength the normalization should have.
+	 * @return The number of characters written.
+	 * @throws IOException If reading or writing fails.
+	 */
+	public static long normalize(FileChannel in, Charset charset, WritableByteChannel out, int scope) throws IOException {
+		return normalize(in, charset, out, Normalizer.of(scope));
+	}
+
+	/**
+	 * Reads all characters from the given channel, normalizes them using the given Normalizer and writes them, encoded
+	 * with the same charset, to the given channel. See {@link #normalize(Reader, Writer, Normalizer)}. Neither channel
+	 * is closed.
+	 *
+	 * @param in The channel to read from.
+	 * @param charset The charset of the input and the output.
+	 * @param out The channel to write to.
+	 * @param normalizer The Normalizer to apply.
+	 * @return The number of characters written.
+	 * @throws IOException If reading or writing fails.
+	 */
+	public static long normalize(FileChannel in, Charset charset, WritableByteChannel out, Normalizer normalizer) throws IOException {
+		Writer writer = Channels.newWriter(out, charset.newEncoder(), BUFFER_SIZE);
+		long written = normalize(mappedReader(in, charset), writer, normalizer);
+		writer.flush();
+		return written;
+	}
+
+	/**
+	 * Reads from the given Reader until the given buffer is full or the input ends.
+	 *
+	 * @param in The Reader to read from.
+	 * @param buffer The buffer to fill.
+	 * @return The number of characters read, which is less than the length of the buffer only at the end of the input.
+	 * @throws IOException If reading fails.
+	 */
+	private static int fill(Reader in, char[] buffer) throws IOException {
+		int filled = 0;
+		int read;
+		while (filled < buffer.length && (read = in.read(buffer, filled, buffer.length - filled)) != -1) {
+			filled += read;
+		}
+		return filled;
+	}
+
+	/**
+	 * A Reader decoding a FileChannel, which is mapped into memory one region at a time.
+	 */
+	private static final class MappedReader extends Reader {
+
+		/**
+		 * An empty buffer, passed to the decoder at the end of the input.
+		 */
+		private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+		/**
+		 * The channel to read.
+		 */
+		private final FileChannel channel;
+
+		/**
+		 * The size of the channel.
+		 */
+		private final long size;
+
+		/**
+		 * The size of the regions mapped at once.
+		 */
+		private final int regionSize;
+
+		/**
+		 * The decoder.
+		 */
+		private final CharsetDecoder decoder;
+
+		/**
+		 * A buffer for a character which did not fit in the buffer passed to {@link #read(char[], int, int)}.
+		 */
+		private final CharBuffer spill = CharBuffer.allocate(2);
+
+		/**
+		 * The position in the channel of the first byte which has not been decoded, if {@link #region} is {@code null}, or
+		 * the position of the start of {@code region} otherwise.
+		 */
+		private long position;
+
+		/**
+		 * The region being decoded, or {@code null} if the next region must be mapped.
+		 */
+		private MappedByteBuffer region;
+
+		/**
+		 * Whether the whole input has been decoded and the decoder has been flushed.
+		 */
+		private boolean finished;
+
+		/**
+		 * Creates a new MappedReader.
+		 *
+		 * @param channel The channel to read.
+		 * @param charset The charset of the contents.
+		 * @param regionSize The size of the regions mapped at once.
+		 * @throws IOException If the size of the channel cannot be determined.
+		 */
+		private MappedReader(FileChannel channel, Charset charset, int regionSize) throws IOException {
+			this.channel = channel;
+			this.size = channel.size();
+			this.regionSize = regionSize;
+			this.decoder = charset.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPORT)
+				.onUnmappableCharacter(CodingErrorAction.REPORT);
+			((Buffer) this.spill).limit(0);
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+			if (this.spill.hasRemaining()) {
+				cbuf[off] = this.spill.get();
+				return 1;
+			}
+			CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+			while (out.position() == off) {
+				if (this.finished) {
+					return -1;
+				}
+				CoderResult result = decodeNext(out);
+				if (result.isOverflow() && out.position() == off) {
+					// The next character is a surrogate pair, which does not fit in a single char.
+					((Buffer) this.spill).clear();
+					decodeNext(this.spill);
+					((Buffer) this.spill).flip();
+					cbuf[off] = this.spill.get();
+					return 1;
+				}
+			}
+			return out.position() - off;
+		}
+
+		/**
+		 * Decodes the next characters into the given buffer, mapping the next region if needed.
+		 *
+		 * @param out The buffer to decode into.
+		 * @return The result of the decoder.
+		 * @throws IOException If mapping fails, or the input is malformed.
+		 */
+		private CoderResult decodeNext(CharBuffer out) throws IOException {
+			if (this.region == null && this.position < this.size) {
+				this.region = this.channel.map(FileChannel.MapMode.READ_ONLY, this.position, Math.min(this.regionSize, this.size - this.position));
+			}
+			CoderResult result;
+			if (this.region == null) {
+				result = this.decoder.decode(EMPTY, out, true);
+				if (result.isUnderflow()) {
+					result = this.decoder.flush(out);
+					this.finished = result.isUnderflow();
+				}
+			}
+			else {
+				boolean last = (this.position + this.region.limit() == this.size);
+				result = this.decoder.decode(this.region, out, last);
+				if (result.isUnderflow()) {
+					this.position += this.region.position();
+					this.region = null;
+				}
+			}
+			if (result.isError()) {
+				result.throwException();
+			}
+			return result;
+		}
+
+		@Override
+		public void close() {
+			this.region = null;
+			this.finished = true;
+		}
+	}
+}
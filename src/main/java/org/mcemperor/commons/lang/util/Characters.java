@@ -1,7 +1,10 @@
 package org.mcemperor.commons.lang.util;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
 
 /**
  * The Characters class contains a set of static methods which make calculating with and getting properties from chars
@@ -18,17 +21,25 @@ public class Characters {
 	private Characters() { }
 	
 	/**
-	 * Converts a char[] to a List&lt;Character&gt;.
+	 * Converts a char[] to a List&lt;Character&gt;. The returned list is a modifiable copy, which is independent of the
+	 * array; use {@link #asList(char[])} to avoid the copy.
 	 * 
 	 * @param chars The array to convert.
 	 * @return A List&lt;Character&gt; with the chars.
 	 */
 	public static List<Character> boxed(char[] chars) {
-		List<Character> charList = new ArrayList<>();
-		for (int i = 0; i < chars.length; i++) {
-			charList.add(chars[i]);
-		}
-		return charList;
+		return new ArrayList<>(asList(chars));
+	}
+	
+	/**
+	 * Returns a fixed-size List&lt;Character&gt; view of the given char[]. Unlike {@link #boxed(char[])}, this does not copy
+	 * the array; each element is boxed when it is read. Changes to the list write through to the array, and vice versa.
+	 * 
+	 * @param chars The array to view.
+	 * @return A List&lt;Character&gt; backed by the array.
+	 */
+	public static List<Character> asList(char[] chars) {
+		return new ArrayView(chars);
 	}
 	
 	/**
@@ -45,4 +56,58 @@ public class Characters {
 		return charArray;
 	}
 	
+	/**
+	 * A fixed-size List view of a char[].
+	 */
+	private static final class ArrayView extends AbstractList<Character> implements RandomAccess {
+		
+		/**
+		 * The backing array.
+		 */
+		private final char[] array;
+		
+		/**
+		 * Creates a new view of the given array.
+		 * 
+		 * @param array The backing array.
+		 */
+		private ArrayView(char[] array) {
+			this.array = Objects.requireNonNull(array);
+		}
+		
+		@Override
+		public Character get(int index) {
+			return this.array[index];
+		}
+		
+		@Override
+		public Character set(int index, Character element) {
+			char previous = this.array[index];
+			this.array[index] = element;
+			return previous;
+		}
+		
+		@Override
+		public int size() {
+			return this.array.length;
+		}
+		
+		@Override
+		public int indexOf(Object o) {
+			if (o instanceof Character) {
+				char value = (Character) o;
+				for (int i = 0; i < this.array.length; i++) {
+					if (this.array[i] == value) {
+						return i;
+					}
+				}
+			}
+			return -1;
+		}
+		
+		@Override
+		public boolean contains(Object o) {
+			return indexOf(o) >= 0;
+		}
+	}
 }
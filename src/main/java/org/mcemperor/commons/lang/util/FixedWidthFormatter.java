@@ -0,0 +1,327 @@
+package org.mcemperor.commons.lang.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * The FixedWidthFormatter class formats records consisting of columns of a fixed width, such as the records of
+ * mainframe files. The layout of the columns is defined once; each column has a width, a padding character and an
+ * alignment. A FixedWidthFormatter is immutable and thread-safe, and is meant to be created once and reused.<br>
+ * Records are written through a {@link Record}, which holds a reusable buffer of the width of the whole record. Setting
+ * a field writes its padded value straight into the buffer, so no String is created per field, and numbers are written
+ * without being converted to a String first.<br><br>
+ *
+ * Example usage:
+ *
+ * <pre>{@code  private static final FixedWidthFormatter LAYOUT = FixedWidthFormatter.of()
+ *     .left(10)
+ *     .right(8, '0');
+ *
+ * FixedWidthFormatter.Record record = LAYOUT.newRecord();
+ * for (Customer customer : customers) {
+ *     record.set(0, customer.getName()).set(1, customer.getId()).appendTo(writer);
+ * }}</pre>
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public final class FixedWidthFormatter {
+
+	/**
+	 * The formatter without columns.
+	 */
+	private static final FixedWidthFormatter EMPTY = new FixedWidthFormatter(new int[0], new int[0], new char[0], new boolean[0]);
+
+	/**
+	 * The offsets of the columns within a record.
+	 */
+	private final int[] offsets;
+
+	/**
+	 * The widths of the columns.
+	 */
+	private final int[] widths;
+
+	/**
+	 * The padding characters of the columns.
+	 */
+	private final char[] pads;
+
+	/**
+	 * Whether the values of the columns are left-aligned, that is, whether the padding follows the value.
+	 */
+	private final boolean[] leftAligned;
+
+	/**
+	 * A record with all columns blank, copied into new records.
+	 */
+	private final char[] blank;
+
+	/**
+	 * Creates a new FixedWidthFormatter.
+	 *
+	 * @param offsets The offsets of the columns.
+	 * @param widths The widths of the columns.
+	 * @param pads The padding characters of the columns.
+	 * @param leftAligned Whether the values of the columns are left-aligned.
+	 */
+	private FixedWidthFormatter(int[] offsets, int[] widths, char[] pads, boolean[] leftAligned) {
+		this.offsets = offsets;
+		this.widths = widths;
+		this.pads = pads;
+		this.leftAligned = leftAligned;
+		int width = (widths.length == 0 ? 0 : offsets[offsets.length - 1] + widths[widths.length - 1]);
+		this.blank = new char[width];
+		for (int i = 0; i < widths.length; i++) {
+			Arrays.fill(this.blank, offsets[i], offsets[i] + widths[i], pads[i]);
+		}
+	}
+
+	/**
+	 * Returns a FixedWidthFormatter without columns. Columns are added using {@link #left(int)}, {@link #right(int)}
+	 * and their variants.
+	 *
+	 * @return A FixedWidthFormatter without columns.
+	 */
+	public static FixedWidthFormatter of() {
+		return EMPTY;
+	}
+
+	/**
+	 * Returns a FixedWidthFormatter with an additional column, of which the values are left-aligned and padded with
+	 * spaces.
+	 *
+	 * @param width The width of the column.
+	 * @return A new FixedWidthFormatter instance.
+	 * @throws IllegalArgumentException If the width is not positive.
+	 */
+	public FixedWidthFormatter left(int width) {
+		return with(width, ' ', true);
+	}
+
+	/**
+	 * Returns a FixedWidthFormatter with an additional column, of which the values are left-aligned and padded with
+	 * the given character.
+	 *
+	 * @param width The width of the column.
+	 * @param pad The padding character.
+	 * @return A new FixedWidthFormatter instance.
+	 * @throws IllegalArgumentException If the width is not positive.
+	 */
+	public FixedWidthFormatter left(int width, char pad) {
+		return with(width, pad, true);
+	}
+
+	/**
+	 * Returns a FixedWidthFormatter with an additional column, of which the values are right-aligned and padded with
+	 * spaces.
+	 *
+	 * @param width The width of the column.
+	 * @return A new FixedWidthFormatter instance.
+	 * @throws IllegalArgumentException If the width is not positive.
+	 */
+	public FixedWidthFormatter right(int width) {
+		return with(width, ' ', false);
+	}
+
+	/**
+	 * Returns a FixedWidthFormatter with an additional column, of which the values are right-aligned and padded with
+	 * the given character. Numbers are commonly padded with {@code '0'}; like {@link Strings#pad(long, int)}, the
+	 * padding then precedes the minus sign of a negative number.
+	 *
+	 * @param width The width of the column.
+	 * @param pad The padding character.
+	 * @return A new FixedWidthFormatter instance.
+	 * @throws IllegalArgumentException If the width is not positive.
+	 */
+	public FixedWidthFormatter right(int width, char pad) {
+		return with(width, pad, false);
+	}
+
+	/**
+	 * Returns the number of columns.
+	 *
+	 * @return The number of columns.
+	 */
+	public int columnCount() {
+		return this.widths.length;
+	}
+
+	/**
+	 * Returns the width of a record, which is the sum of the widths of all columns.
+	 *
+	 * @return The width of a record.
+	 */
+	public int width() {
+		return this.blank.length;
+	}
+
+	/**
+	 * Returns a new Record, with all columns blank.
+	 *
+	 * @return A new Record.
+	 */
+	public Record newRecord() {
+		return new Record();
+	}
+
+	/**
+	 * Returns a FixedWidthFormatter with an additional column.
+	 *
+	 * @param width The width of the column.
+	 * @param pad The padding character.
+	 * @param left Whether the values of the column are left-aligned.
+	 * @return A new FixedWidthFormatter instance.
+	 * @throws IllegalArgumentException If the width is not positive.
+	 */
+	private FixedWidthFormatter with(int width, char pad, boolean left) {
+		if (width <= 0) {
+			throw new IllegalArgumentException("The width of a column must be positive, but is " + width);
+		}
+		int count = this.widths.length;
+		int[] newOffsets = Arrays.copyOf(this.offsets, count + 1);
+		int[] newWidths = Arrays.copyOf(this.widths, count + 1);
+		char[] newPads = Arrays.copyOf(this.pads, count + 1);
+		boolean[] newLeftAligned = Arrays.copyOf(this.leftAligned, count + 1);
+		newOffsets[count] = this.blank.length;
+		newWidths[count] = width;
+		newPads[count] = pad;
+		newLeftAligned[count] = left;
+		return new FixedWidthFormatter(newOffsets, newWidths, newPads, newLeftAligned);
+	}
+
+	/**
+	 * A record formatted by a FixedWidthFormatter. A Record holds a buffer with the characters of the whole record,
+	 * which is reused when the fields are set again, so one Record can format any number of lines.<br>
+	 * Fields which are not set are blank, that is, they consist of padding characters only. This class is not
+	 * thread-safe.
+	 */
+	public final class Record {
+
+		/**
+		 * The characters of the record.
+		 */
+		private final char[] buffer;
+
+		/**
+		 * Creates a new Record, with all columns blank.
+		 */
+		private Record() {
+			this.buffer = FixedWidthFormatter.this.blank.clone();
+		}
+
+		/**
+		 * Sets the value of the given column.
+		 *
+		 * @param column The index of the column.
+		 * @param value The value.
+		 * @return This Record.
+		 * @throws IllegalArgumentException If the value is wider than the column.
+		 * @throws IndexOutOfBoundsException If there is no such column.
+		 */
+		public Record set(int column, CharSequence value) {
+			int width = FixedWidthFormatter.this.widths[column];
+			checkWidth(column, value.length(), width);
+			Strings.padTo(this.buffer, FixedWidthFormatter.this.offsets[column], value, width,
+				FixedWidthFormatter.this.pads[column], FixedWidthFormatter.this.leftAligned[column]);
+			return this;
+		}
+
+		/**
+		 * Sets the value of the given column to the decimal representation of the given number.
+		 *
+		 * @param column The index of the column.
+		 * @param value The number.
+		 * @return This Record.
+		 * @throws IllegalArgumentException If the number is wider than the column.
+		 * @throws IndexOutOfBoundsException If there is no such column.
+		 */
+		public Record set(int column, long value) {
+			int width = FixedWidthFormatter.this.widths[column];
+			int valueWidth = Integers.getWidth(value);
+			checkWidth(column, valueWidth, width);
+			int offset = FixedWidthFormatter.this.offsets[column];
+			int end = offset + width;
+			char pad = FixedWidthFormatter.this.pads[column];
+			if (FixedWidthFormatter.this.leftAligned[column]) {
+				Arrays.fill(this.buffer, Integers.getChars(value, this.buffer, offset), end, pad);
+			}
+			else {
+				Arrays.fill(this.buffer, offset, end - valueWidth, pad);
+				Integers.getChars(value, this.buffer, end - valueWidth);
+			}
+			return this;
+		}
+
+		/**
+		 * Makes all columns blank.
+		 *
+		 * @return This Record.
+		 */
+		public Record clear() {
+			System.arraycopy(FixedWidthFormatter.this.blank, 0, this.buffer, 0, this.buffer.length);
+			return this;
+		}
+
+		/**
+		 * Appends the characters of this record to the given target. Writers and StringBuilders receive the buffer in
+		 * bulk.
+		 *
+		 * @param <A> The type of the target.
+		 * @param target The Appendable to write to, for example a {@code Writer} or {@code StringBuilder}.
+		 * @return The given target.
+		 * @throws IOException If writing to the target fails.
+		 */
+		public <A extends Appendable> A appendTo(A target) throws IOException {
+			if (target instanceof Writer) {
+				((Writer) target).write(this.buffer);
+			}
+			else if (target instanceof StringBuilder) {
+				((StringBuilder) target).append(this.buffer);
+			}
+			else {
+				target.append(CharBuffer.wrap(this.buffer));
+			}
+			return target;
+		}
+
+		/**
+		 * Copies the characters of this record into the given array.
+		 *
+		 * @param target The array to copy into.
+		 * @param offset The index in {@code target} of the first character.
+		 * @return The index in {@code target} following the last character copied.
+		 * @throws IndexOutOfBoundsException If {@code target} is too short.
+		 */
+		public int copyTo(char[] target, int offset) {
+			System.arraycopy(this.buffer, 0, target, offset, this.buffer.length);
+			return offset + this.buffer.length;
+		}
+
+		/**
+		 * Returns the characters of this record as a String.
+		 *
+		 * @return The record.
+		 */
+		@Override
+		public String toString() {
+			return new String(this.buffer);
+		}
+
+		/**
+		 * Checks whether a value fits in its column.
+		 *
+		 * @param column The index of the column.
+		 * @param valueWidth The width of the value.
+		 * @param width The width of the column.
+		 * @throws IllegalArgumentException If the value is wider than the column.
+		 */
+		private void checkWidth(int column, int valueWidth, int width) {
+			if (valueWidth > width) {
+				throw new IllegalArgumentException("A value of width " + valueWidth + " does not fit in column " + column + " of width " + width);
+			}
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package org.mcemperor.commons.lang.util;
+
+/**
+ * Utilities shared by the open-addressing hash tables in this package. The tables use linear probing over arrays whose
+ * length is a power of two, and keep their load factor at or below one half, so a probe sequence is short.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+final class HashTables {
+
+	/**
+	 * The default number of entries a table should hold without growing.
+	 */
+	static final int DEFAULT_EXPECTED_SIZE = 16;
+
+	/**
+	 * The largest table length.
+	 */
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	/**
+	 * Private constructor, because this class is a utility class.
+	 */
+	private HashTables() { }
+
+	/**
+	 * Returns the table length needed to hold the given number of entries without exceeding the maximum load factor.
+	 *
+	 * @param expectedSize The number of entries.
+	 * @return The table length, which is a power of two.
+	 * @throws IllegalArgumentException If the expected size is negative or too large.
+	 */
+	static int capacityFor(int expectedSize) {
+		if (expectedSize < 0 || expectedSize > MAX_CAPACITY / 2) {
+			throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+		}
+		int capacity = Integer.highestOneBit(Math.max(expectedSize * 2, 2) - 1) << 1;
+		return Math.max(capacity, 2);
+	}
+
+	/**
+	 * Returns the number of entries above which a table of the given length must grow.
+	 *
+	 * @param capacity The table length.
+	 * @return The maximum number of entries.
+	 */
+	static int threshold(int capacity) {
+		return capacity >>> 1;
+	}
+
+	/**
+	 * Returns the table length to grow to from the given length.
+	 *
+	 * @param capacity The current table length.
+	 * @return The new table length.
+	 * @throws IllegalStateException If the table cannot grow any further.
+	 */
+	static int grow(int capacity) {
+		if (capacity >= MAX_CAPACITY) {
+			throw new IllegalStateException("Hash table is full");
+		}
+		return capacity << 1;
+	}
+
+	/**
+	 * Scrambles the given key, so that keys differing only in their high bits, or regularly spaced keys, spread over
+	 * the table.
+	 *
+	 * @param key The key.
+	 * @return The scrambled hash.
+	 */
+	static int mix(int key) {
+		int h = key * 0x9E37_79B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Scrambles the given key, so that all of its bits affect the slot.
+	 *
+	 * @param key The key.
+	 * @return The scrambled hash.
+	 */
+	static int mix(long key) {
+		long h = key * 0x9E37_79B9_7F4A_7C15L;
+		h ^= (h >>> 32);
+		return (int) (h ^ (h >>> 16));
+	}
+
+	/**
+	 * Returns whether the entry in slot {@code candidate}, whose preferred slot is {@code home}, may be moved into the
+	 * emptied slot {@code gap} while deleting with backward shifting. This is the case if its home does not lie
+	 * cyclically within {@code (gap, candidate]}.
+	 *
+	 * @param gap The emptied slot.
+	 * @param home The preferred slot of the candidate entry.
+	 * @param candidate The slot of the candidate entry.
+	 * @return Whether the candidate entry may fill the gap.
+	 */
+	static boolean canShift(int gap, int home, int candidate) {
+		if (gap <= candidate) {
+			return (home <= gap || home > candidate);
+		}
+		return (home <= gap && home > candidate);
+	}
+}
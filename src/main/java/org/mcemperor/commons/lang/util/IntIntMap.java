@@ -0,0 +1,382 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.Arrays;
+
+/**
+ * The IntIntMap class maps {@code int} keys to {@code int} values without boxing and without creating an entry object
+ * per mapping. The keys and values are stored in two parallel arrays, using open addressing with linear probing over a
+ * table whose length is a power of two.<br>
+ * Methods looking up an absent key return the <em>missing value</em> of the map, which is {@code 0} unless specified
+ * otherwise at construction. Use {@link #containsKey(int)} to distinguish an absent key from a key mapped to the
+ * missing value.<br>
+ * This class is not thread-safe.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public final class IntIntMap {
+
+	/**
+	 * The key marking an empty slot. A mapping for this key is stored outside the table.
+	 */
+	private static final int FREE = 0;
+
+	/**
+	 * The value returned for absent keys.
+	 */
+	private final int missingValue;
+
+	/**
+	 * The keys, with {@link #FREE} marking empty slots.
+	 */
+	private int[] keys;
+
+	/**
+	 * The values, at the same positions as their keys.
+	 */
+	private int[] values;
+
+	/**
+	 * Whether the key {@link #FREE} is mapped.
+	 */
+	private boolean hasFreeKey;
+
+	/**
+	 * The value mapped to the key {@link #FREE}.
+	 */
+	private int freeKeyValue;
+
+	/**
+	 * The number of mappings in the table, excluding the mapping for {@link #FREE}.
+	 */
+	private int tableSize;
+
+	/**
+	 * The number of mappings the table holds before it grows.
+	 */
+	private int threshold;
+
+	/**
+	 * Creates a new, empty IntIntMap with {@code 0} as missing value.
+	 */
+	public IntIntMap() {
+		this(HashTables.DEFAULT_EXPECTED_SIZE, 0);
+	}
+
+	/**
+	 * Creates a new, empty IntIntMap, able to hold the given number of mappings without growing.
+	 *
+	 * @param expectedSize The expected number of mappings.
+	 * @param missingValue The value returned for absent keys.
+	 * @throws IllegalArgumentException If the expected size is negative.
+	 */
+	public IntIntMap(int expectedSize, int missingValue) {
+		this.missingValue = missingValue;
+		allocate(HashTables.capacityFor(expectedSize));
+	}
+
+	/**
+	 * Returns the number of mappings in this map.
+	 *
+	 * @return The number of mappings.
+	 */
+	public int size() {
+		return this.tableSize + (this.hasFreeKey ? 1 : 0);
+	}
+
+	/**
+	 * Returns whether this map contains no mappings.
+	 *
+	 * @return Whether this map is empty.
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Returns the value returned for absent keys.
+	 *
+	 * @return The missing value.
+	 */
+	public int missingValue() {
+		return this.missingValue;
+	}
+
+	/**
+	 * Returns the value mapped to the given key.
+	 *
+	 * @param key The key.
+	 * @return The value, or the missing value if the key is absent.
+	 */
+	public int get(int key) {
+		return getOrDefault(key, this.missingValue);
+	}
+
+	/**
+	 * Returns the value mapped to the given key, or the given default value if the key is absent.
+	 *
+	 * @param key The key.
+	 * @param defaultValue The value to return if the key is absent.
+	 * @return The value mapped to the key, or the default value.
+	 */
+	public int getOrDefault(int key, int defaultValue) {
+		if (key == FREE) {
+			return (this.hasFreeKey ? this.freeKeyValue : defaultValue);
+		}
+		int slot = find(key);
+		return (slot >= 0 ? this.values[slot] : defaultValue);
+	}
+
+	/**
+	 * Returns whether the given key is present.
+	 *
+	 * @param key The key.
+	 * @return Whether a value is mapped to the key.
+	 */
+	public boolean containsKey(int key) {
+		return (key == FREE ? this.hasFreeKey : find(key) >= 0);
+	}
+
+	/**
+	 * Maps the given key to the given value.
+	 *
+	 * @param key The key.
+	 * @param value The value.
+	 * @return The value previously mapped to the key, or the missing value if there was none.
+	 */
+	public int put(int key, int value) {
+		if (key == FREE) {
+			int previous = (this.hasFreeKey ? this.freeKeyValue : this.missingValue);
+			this.hasFreeKey = true;
+			this.freeKeyValue = value;
+			return previous;
+		}
+		int slot = slotFor(key);
+		if (slot < 0) {
+			slot = -slot - 1;
+			int previous = this.values[slot];
+			this.values[slot] = value;
+			return previous;
+		}
+		insert(slot, key, value);
+		return this.missingValue;
+	}
+
+	/**
+	 * Adds the given increment to the value mapped to the given key. If the key is absent, the increment is added to
+	 * the missing value. This is useful for counting without looking up the key twice.
+	 *
+	 * @param key The key.
+	 * @param increment The value to add.
+	 * @return The new value mapped to the key.
+	 */
+	public int addTo(int key, int increment) {
+		if (key == FREE) {
+			this.freeKeyValue = (this.hasFreeKey ? this.freeKeyValue : this.missingValue) + increment;
+			this.hasFreeKey = true;
+			return this.freeKeyValue;
+		}
+		int slot = slotFor(key);
+		if (slot < 0) {
+			slot = -slot - 1;
+			return (this.values[slot] += increment);
+		}
+		int value = this.missingValue + increment;
+		insert(slot, key, value);
+		return value;
+	}
+
+	/**
+	 * Removes the mapping for the given key, if present.
+	 *
+	 * @param key The key.
+	 * @return The value previously mapped to the key, or the missing value if there was none.
+	 */
+	public int remove(int key) {
+		if (key == FREE) {
+			int previous = (this.hasFreeKey ? this.freeKeyValue : this.missingValue);
+			this.hasFreeKey = false;
+			return previous;
+		}
+		int slot = find(key);
+		if (slot < 0) {
+			return this.missingValue;
+		}
+		int previous = this.values[slot];
+		delete(slot);
+		return previous;
+	}
+
+	/**
+	 * Removes all mappings.
+	 */
+	public void clear() {
+		Arrays.fill(this.keys, FREE);
+		this.hasFreeKey = false;
+		this.tableSize = 0;
+	}
+
+	/**
+	 * Performs the given action for each mapping, in no particular order. The map must not be modified by the action.
+	 *
+	 * @param action The action to perform.
+	 */
+	public void forEach(EntryConsumer action) {
+		if (this.hasFreeKey) {
+			action.accept(FREE, this.freeKeyValue);
+		}
+		int[] k = this.keys;
+		int[] v = this.values;
+		for (int i = 0; i < k.length; i++) {
+			if (k[i] != FREE) {
+				action.accept(k[i], v[i]);
+			}
+		}
+	}
+
+	/**
+	 * Returns the keys of this map, in no particular order.
+	 *
+	 * @return A new array with the keys.
+	 */
+	public int[] keys() {
+		int[] result = new int[size()];
+		int index = 0;
+		if (this.hasFreeKey) {
+			result[index++] = FREE;
+		}
+		for (int key : this.keys) {
+			if (key != FREE) {
+				result[index++] = key;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the slot of the given key.
+	 *
+	 * @param key The key, which is not {@link #FREE}.
+	 * @return The slot, or {@code -1} if the key is absent.
+	 */
+	private int find(int key) {
+		int[] k = this.keys;
+		int mask = k.length - 1;
+		int slot = HashTables.mix(key) & mask;
+		int current;
+		while ((current = k[slot]) != FREE) {
+			if (current == key) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the slot holding the given key, or the empty slot where it would be inserted.
+	 *
+	 * @param key The key, which is not {@link #FREE}.
+	 * @return {@code -(slot + 1)} if the key is present, or the empty slot otherwise.
+	 */
+	private int slotFor(int key) {
+		int[] k = this.keys;
+		int mask = k.length - 1;
+		int slot = HashTables.mix(key) & mask;
+		int current;
+		while ((current = k[slot]) != FREE) {
+			if (current == key) {
+				return -slot - 1;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Stores a new mapping in the given empty slot, growing the table if needed.
+	 *
+	 * @param slot The empty slot.
+	 * @param key The key.
+	 * @param value The value.
+	 */
+	private void insert(int slot, int key, int value) {
+		this.keys[slot] = key;
+		this.values[slot] = value;
+		if (++this.tableSize > this.threshold) {
+			rehash(HashTables.grow(this.keys.length));
+		}
+	}
+
+	/**
+	 * Empties the given slot, shifting subsequent entries of the same probe sequence back, so that no tombstones are
+	 * needed.
+	 *
+	 * @param slot The slot to empty.
+	 */
+	private void delete(int slot) {
+		int[] k = this.keys;
+		int mask = k.length - 1;
+		int gap = slot;
+		int candidate = (gap + 1) & mask;
+		while (k[candidate] != FREE) {
+			if (HashTables.canShift(gap, HashTables.mix(k[candidate]) & mask, candidate)) {
+				k[gap] = k[candidate];
+				this.values[gap] = this.values[candidate];
+				gap = candidate;
+			}
+			candidate = (candidate + 1) & mask;
+		}
+		k[gap] = FREE;
+		this.tableSize--;
+	}
+
+	/**
+	 * Allocates empty arrays of the given length.
+	 *
+	 * @param capacity The table length.
+	 */
+	private void allocate(int capacity) {
+		this.keys = new int[capacity];
+		this.values = new int[capacity];
+		this.threshold = HashTables.threshold(capacity);
+	}
+
+	/**
+	 * Moves all entries into new arrays of the given length.
+	 *
+	 * @param capacity The new table length.
+	 */
+	private void rehash(int capacity) {
+		int[] oldKeys = this.keys;
+		int[] oldValues = this.values;
+		allocate(capacity);
+		int mask = capacity - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			int key = oldKeys[i];
+			if (key != FREE) {
+				int slot = HashTables.mix(key) & mask;
+				while (this.keys[slot] != FREE) {
+					slot = (slot + 1) & mask;
+				}
+				this.keys[slot] = key;
+				this.values[slot] = oldValues[i];
+			}
+		}
+	}
+
+	/**
+	 * An action performed on a mapping of an IntIntMap.
+	 */
+	@FunctionalInterface
+	public interface EntryConsumer {
+
+		/**
+		 * Performs the action on the given mapping.
+		 *
+		 * @param key The key.
+		 * @param value The value.
+		 */
+		void accept(int key, int value);
+	}
+}
@@ -0,0 +1,179 @@
+package org.mcemperor.commons.lang.util;
+
+/**
+ * The IntIntPair class represents an unchangeable pair of {@code int} values, stored without boxing. A pair can be
+ * packed into a single {@code long} using {@link #pack()}, for example to key a primitive map or to sort pairs in a
+ * {@code long[]} without creating objects. Sorting packed values orders the pairs by their first element, then by
+ * their second element.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public final class IntIntPair implements Pairable<Integer, Integer> {
+
+	/**
+	 * The mask of the sign bit of the second element, flipped when packing so that packed values sort in the same
+	 * order as the pairs.
+	 */
+	private static final int SIGN_BIT = 0x8000_0000;
+
+	/**
+	 * The first element.
+	 */
+	private final int first;
+
+	/**
+	 * The second element.
+	 */
+	private final int second;
+
+	/**
+	 * Creates a new IntIntPair instance from the given values.
+	 *
+	 * @param first The first value.
+	 * @param second The second value.
+	 */
+	private IntIntPair(int first, int second) {
+		this.first = first;
+		this.second = second;
+	}
+
+	/**
+	 * Static factory method to create an IntIntPair instance.
+	 *
+	 * @param first The first element.
+	 * @param second The second element.
+	 * @return A new IntIntPair instance.
+	 */
+	public static IntIntPair of(int first, int second) {
+		return new IntIntPair(first, second);
+	}
+
+	/**
+	 * Packs the given values into a single {@code long}. Packed values compare in the same order as the pairs they
+	 * represent, ordered by the first element, then by the second element.
+	 *
+	 * @param first The first element.
+	 * @param second The second element.
+	 * @return The packed pair.
+	 */
+	public static long pack(int first, int second) {
+		return ((long) first << 32) | ((second ^ SIGN_BIT) & 0xFFFF_FFFFL);
+	}
+
+	/**
+	 * Returns the first element of the given packed pair.
+	 *
+	 * @param packed The packed pair, as returned by {@link #pack(int, int)}.
+	 * @return The first element.
+	 */
+	public static int firstOf(long packed) {
+		return (int) (packed >> 32);
+	}
+
+	/**
+	 * Returns the second element of the given packed pair.
+	 *
+	 * @param packed The packed pair, as returned by {@link #pack(int, int)}.
+	 * @return The second element.
+	 */
+	public static int secondOf(long packed) {
+		return (int) packed ^ SIGN_BIT;
+	}
+
+	/**
+	 * Returns the pair represented by the given packed value.
+	 *
+	 * @param packed The packed pair, as returned by {@link #pack(int, int)}.
+	 * @return A new IntIntPair instance.
+	 */
+	public static IntIntPair unpack(long packed) {
+		return new IntIntPair(firstOf(packed), secondOf(packed));
+	}
+
+	/**
+	 * Packs this pair into a single {@code long}. See {@link #pack(int, int)}.
+	 *
+	 * @return The packed pair.
+	 */
+	public long pack() {
+		return pack(this.first, this.second);
+	}
+
+	/**
+	 * Gets the first element, without boxing.
+	 *
+	 * @return The first element.
+	 */
+	public int firstInt() {
+		return this.first;
+	}
+
+	/**
+	 * Gets the second element, without boxing.
+	 *
+	 * @return The second element.
+	 */
+	public int secondInt() {
+		return this.second;
+	}
+
+	/**
+	 * Gets the first element, boxed.
+	 *
+	 * @return The first element.
+	 */
+	@Override
+	public Integer first() {
+		return this.first;
+	}
+
+	/**
+	 * Gets the second element, boxed.
+	 *
+	 * @return The second element.
+	 */
+	@Override
+	public Integer second() {
+		return this.second;
+	}
+
+	/**
+	 * Whether this pair is equal to the specified one. A {@link Pair} or another pair of this package with equal boxed
+	 * elements is equal to this pair.
+	 *
+	 * @param obj The other object.
+	 * @return Whether this pair is considered equal to the specified object.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof IntIntPair)) {
+			return Pair.equalElements(this, obj);
+		}
+		IntIntPair other = (IntIntPair) obj;
+		return this.first == other.first && this.second == other.second;
+	}
+
+	/**
+	 * Returns a hash code for this object. The hash code is equal to that of a {@link Pair} with the same elements.
+	 *
+	 * @return The hash code.
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * (31 + this.first) + this.second;
+	}
+
+	/**
+	 * Returns a textual representation of this IntIntPair instance.
+	 *
+	 * @return This instance as a string.
+	 */
+	@Override
+	public String toString() {
+		return "IntIntPair(" + this.first + ", " + this.second + ")";
+	}
+}
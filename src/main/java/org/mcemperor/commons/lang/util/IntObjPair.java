@@ -0,0 +1,115 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.Objects;
+
+/**
+ * The IntObjPair class represents an unchangeable pair, of which the first element is an {@code int} value, stored
+ * without boxing, and the second element is an object.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ * @param <U> The type of the second element.
+ */
+public final class IntObjPair<U> implements Pairable<Integer, U> {
+
+	/**
+	 * The first element.
+	 */
+	private final int first;
+
+	/**
+	 * The second element.
+	 */
+	private final U second;
+
+	/**
+	 * Creates a new IntObjPair instance from the given values.
+	 *
+	 * @param first The first value.
+	 * @param second The second value.
+	 */
+	private IntObjPair(int first, U second) {
+		this.first = first;
+		this.second = second;
+	}
+
+	/**
+	 * Static factory method to create an IntObjPair instance.
+	 *
+	 * @param <U> The type of the second element.
+	 * @param first The first element.
+	 * @param second The second element.
+	 * @return A new IntObjPair instance.
+	 */
+	public static <U> IntObjPair<U> of(int first, U second) {
+		return new IntObjPair<>(first, second);
+	}
+
+	/**
+	 * Gets the first element, without boxing.
+	 *
+	 * @return The first element.
+	 */
+	public int firstInt() {
+		return this.first;
+	}
+
+	/**
+	 * Gets the first element, boxed.
+	 *
+	 * @return The first element.
+	 */
+	@Override
+	public Integer first() {
+		return this.first;
+	}
+
+	/**
+	 * Gets the second element.
+	 *
+	 * @return The second element.
+	 */
+	@Override
+	public U second() {
+		return this.second;
+	}
+
+	/**
+	 * Whether this pair is equal to the specified one. A {@link Pair} or another pair of this package with equal boxed
+	 * elements is equal to this pair.
+	 *
+	 * @param obj The other object.
+	 * @return Whether this pair is considered equal to the specified object.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof IntObjPair)) {
+			return Pair.equalElements(this, obj);
+		}
+		IntObjPair<?> other = (IntObjPair<?>) obj;
+		return this.first == other.first && Objects.equals(this.second, other.second);
+	}
+
+	/**
+	 * Returns a hash code for this object. The hash code is equal to that of a {@link Pair} with the same elements.
+	 *
+	 * @return The hash code.
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * (31 + this.first) + Objects.hashCode(this.second);
+	}
+
+	/**
+	 * Returns a textual representation of this IntObjPair instance.
+	 *
+	 * @return This instance as a string.
+	 */
+	@Override
+	public String toString() {
+		return "IntObjPair(" + this.first + ", " + this.second + ")";
+	}
+}
@@ -1,9 +1,10 @@
 package org.mcemperor.commons.lang.util;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.RandomAccess;
 
 /**
  * The Integers class contains a set of static methods which make calculating with and getting properties from
@@ -14,19 +15,43 @@ import java.util.stream.Collectors;
  */
 public class Integers {
 	
+	/**
+	 * The powers of ten which fit in a long, indexed by exponent.
+	 */
+	private static final long[] POWERS_OF_TEN = new long[19];
+	
+	static {
+		POWERS_OF_TEN[0] = 1;
+		for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+		}
+	}
+	
 	/**
 	 * Private constructor, for this is a utility class.
 	 */
 	private Integers() { }
 	
 	/**
-	 * Converts an int[] to a List&lt;Integer&gt;.
+	 * Converts an int[] to a List&lt;Integer&gt;. The returned list is a modifiable copy, which is independent of the
+	 * array; use {@link #asList(int[])} to avoid the copy.
 	 * 
 	 * @param ints The array to convert.
 	 * @return A List&lt;Integer&gt; with the integers.
 	 */
 	public static List<Integer> boxed(int[] ints) {
-		return Arrays.stream(ints).boxed().collect(Collectors.toList());
+		return new ArrayList<>(asList(ints));
+	}
+	
+	/**
+	 * Returns a fixed-size List&lt;Integer&gt; view of the given int[]. Unlike {@link #boxed(int[])}, this does not copy
+	 * the array; each element is boxed when it is read. Changes to the list write through to the array, and vice versa.
+	 * 
+	 * @param ints The array to view.
+	 * @return A List&lt;Integer&gt; backed by the array.
+	 */
+	public static List<Integer> asList(int[] ints) {
+		return new ArrayView(ints);
 	}
 	
 	/**
@@ -36,43 +61,134 @@ public class Integers {
 	 * @return An int[] with the integers.
 	 */
 	public static int[] unboxed(List<Integer> ints) {
-		return ints.stream()
-			.mapToInt(i -> i)
-			.toArray();
+		int[] array = new int[ints.size()];
+		int i = 0;
+		for (Integer value : ints) {
+			array[i++] = value;
+		}
+		return array;
 	}
 	
 	/**
 	 * Gets the width of the given long. The width is the number of digits of the given number. The additive inversion
-	 * sign (minus sign), if applicable, increases the width by 1.
+	 * sign (minus sign), if applicable, increases the width by 1. The width is equal to the length of
+	 * {@code String.valueOf(value)}, so the width of {@code 0} is 1.
 	 * 
 	 * @param value An long.
 	 * @return The width of the given long.
 	 */
 	public static int getWidth(long value) {
-		int i = (value < 0 ? 1 : 0);
-		while (value != 0) {
-			value /= 10;
-			i++;
-		}
-		return i;
+		return digitCount(value) + (value < 0 ? 1 : 0);
 	}
 	
 	/**
-	 * Gets all digits of a number as an {@code List&lt;Integer&gt;}.
+	 * Gets all digits of a number as an {@code List&lt;Integer&gt;}, starting with the most significant digit. The
+	 * sign of the number is ignored.
 	 * 
 	 * @param number The number to get the digits from.
 	 * @return An array with the digits.
 	 */
 	public static List<Integer> getDigits(int number) {
-		int width = Integers.getWidth(number);
-		List<Integer> digits = new ArrayList<>();
-		for (int i = 0; i < width; i++) {
-			int div = (int) Math.pow(10, width - (i + 1));
-			int digit = number / div;
-			digits.add(digit);
-			number -= (digit * div);
-		}
-		return digits;
+		int[] digits = new int[digitCount(number)];
+		getDigits(number, digits, 0);
+		return boxed(digits);
+	}
+	
+	/**
+	 * Writes all digits of a number into the given array, starting with the most significant digit. The sign of the
+	 * number is ignored.
+	 * 
+	 * @param number The number to get the digits from.
+	 * @param dest The array to write the digits into.
+	 * @param offset The index in {@code dest} of the first digit.
+	 * @return The number of digits written.
+	 * @throws IndexOutOfBoundsException If {@code dest} is too short to hold all digits.
+	 */
+	public static int getDigits(long number, int[] dest, int offset) {
+		int count = digitCount(number);
+		checkRange(dest.length, offset, count);
+		long n = (number > 0 ? -number : number);
+		for (int i = offset + count - 1; i >= offset; i--) {
+			dest[i] = (int) -(n % 10);
+			n /= 10;
+		}
+		return count;
+	}
+	
+	/**
+	 * Writes all digits of a number into the given array, starting with the most significant digit. The sign of the
+	 * number is ignored.
+	 * 
+	 * @param number The number to get the digits from.
+	 * @param dest The array to write the digits into.
+	 * @param offset The index in {@code dest} of the first digit.
+	 * @return The number of digits written.
+	 * @throws IndexOutOfBoundsException If {@code dest} is too short to hold all digits.
+	 */
+	public static int getDigits(long number, byte[] dest, int offset) {
+		int count = digitCount(number);
+		checkRange(dest.length, offset, count);
+		long n = (number > 0 ? -number : number);
+		for (int i = offset + count - 1; i >= offset; i--) {
+			dest[i] = (byte) -(n % 10);
+			n /= 10;
+		}
+		return count;
+	}
+	
+	/**
+	 * Writes the decimal representation of the given number into the given array, the same characters as
+	 * {@code String.valueOf(value)} consists of, without creating the String.
+	 * 
+	 * @param value The number to write.
+	 * @param dest The array to write the characters into.
+	 * @param offset The index in {@code dest} of the first character.
+	 * @return The index in {@code dest} following the last character written.
+	 * @throws IndexOutOfBoundsException If {@code dest} is too short to hold all characters.
+	 */
+	public static int getChars(long value, char[] dest, int offset) {
+		int width = getWidth(value);
+		checkRange(dest.length, offset, width);
+		int end = offset + width;
+		long n = (value > 0 ? -value : value);
+		for (int i = end - 1; i >= offset; i--) {
+			dest[i] = (char) ('0' - (n % 10));
+			n /= 10;
+		}
+		if (value < 0) {
+			dest[offset] = '-';
+		}
+		return end;
+	}
+	
+	/**
+	 * Returns the number of decimal digits of the given number, ignoring its sign. The number of digits is estimated
+	 * from the number of significant bits, and corrected by a single comparison with a power of ten.
+	 * 
+	 * @param value The number.
+	 * @return The number of digits, which is at least 1.
+	 */
+	private static int digitCount(long value) {
+		if (value == Long.MIN_VALUE) {
+			return 19;
+		}
+		long magnitude = Math.abs(value);
+		int estimate = ((64 - Long.numberOfLeadingZeros(magnitude)) * 1233) >>> 12;
+		return Math.max(1, estimate + (magnitude >= POWERS_OF_TEN[estimate] ? 1 : 0));
+	}
+	
+	/**
+	 * Checks whether the given range lies within an array of the given length.
+	 * 
+	 * @param arrayLength The length of the array.
+	 * @param offset The start of the range.
+	 * @param length The length of the range.
+	 * @throws IndexOutOfBoundsException If the range exceeds the array.
+	 */
+	private static void checkRange(int arrayLength, int offset, int length) {
+		if (offset < 0 || offset > arrayLength - length) {
+			throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length + ") out of bounds for length " + arrayLength);
+		}
 	}
 	
 	/**
@@ -104,4 +220,59 @@ public class Integers {
 		}
 		return newArray;
 	}
+	
+	/**
+	 * A fixed-size List view of an int[].
+	 */
+	private static final class ArrayView extends AbstractList<Integer> implements RandomAccess {
+		
+		/**
+		 * The backing array.
+		 */
+		private final int[] array;
+		
+		/**
+		 * Creates a new view of the given array.
+		 * 
+		 * @param array The backing array.
+		 */
+		private ArrayView(int[] array) {
+			this.array = Objects.requireNonNull(array);
+		}
+		
+		@Override
+		public Integer get(int index) {
+			return this.array[index];
+		}
+		
+		@Override
+		public Integer set(int index, Integer element) {
+			int previous = this.array[index];
+			this.array[index] = element;
+			return previous;
+		}
+		
+		@Override
+		public int size() {
+			return this.array.length;
+		}
+		
+		@Override
+		public int indexOf(Object o) {
+			if (o instanceof Integer) {
+				int value = (Integer) o;
+				for (int i = 0; i < this.array.length; i++) {
+					if (this.array[i] == value) {
+						return i;
+					}
+				}
+			}
+			return -1;
+		}
+		
+		@Override
+		public boolean contains(Object o) {
+			return indexOf(o) >= 0;
+		}
+	}
 }
@@ -0,0 +1,119 @@
+package org.mcemperor.commons.lang.util;
+
+/**
+ * The LongLongPair class represents an unchangeable pair of {@code long} values, stored without boxing.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public final class LongLongPair implements Pairable<Long, Long> {
+
+	/**
+	 * The first element.
+	 */
+	private final long first;
+
+	/**
+	 * The second element.
+	 */
+	private final long second;
+
+	/**
+	 * Creates a new LongLongPair instance from the given values.
+	 *
+	 * @param first The first value.
+	 * @param second The second value.
+	 */
+	private LongLongPair(long first, long second) {
+		this.first = first;
+		this.second = second;
+	}
+
+	/**
+	 * Static factory method to create a LongLongPair instance.
+	 *
+	 * @param first The first element.
+	 * @param second The second element.
+	 * @return A new LongLongPair instance.
+	 */
+	public static LongLongPair of(long first, long second) {
+		return new LongLongPair(first, second);
+	}
+
+	/**
+	 * Gets the first element, without boxing.
+	 *
+	 * @return The first element.
+	 */
+	public long firstLong() {
+		return this.first;
+	}
+
+	/**
+	 * Gets the second element, without boxing.
+	 *
+	 * @return The second element.
+	 */
+	public long secondLong() {
+		return this.second;
+	}
+
+	/**
+	 * Gets the first element, boxed.
+	 *
+	 * @return The first element.
+	 */
+	@Override
+	public Long first() {
+		return this.first;
+	}
+
+	/**
+	 * Gets the second element, boxed.
+	 *
+	 * @return The second element.
+	 */
+	@Override
+	public Long second() {
+		return this.second;
+	}
+
+	/**
+	 * Whether this pair is equal to the specified one. A {@link Pair} or another pair of this package with equal boxed
+	 * elements is equal to this pair.
+	 *
+	 * @param obj The other object.
+	 * @return Whether this pair is considered equal to the specified object.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof LongLongPair)) {
+			return Pair.equalElements(this, obj);
+		}
+		LongLongPair other = (LongLongPair) obj;
+		return this.first == other.first && this.second == other.second;
+	}
+
+	/**
+	 * Returns a hash code for this object. The hash code is equal to that of a {@link Pair} with the same elements.
+	 *
+	 * @return The hash code.
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * (31 + Long.hashCode(this.first)) + Long.hashCode(this.second);
+	}
+
+	/**
+	 * Returns a textual representation of this LongLongPair instance.
+	 *
+	 * @return This instance as a string.
+	 */
+	@Override
+	public String toString() {
+		return "LongLongPair(" + this.first + ", " + this.second + ")";
+	}
+}
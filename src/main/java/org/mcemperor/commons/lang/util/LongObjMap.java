@@ -0,0 +1,322 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.Arrays;
+
+/**
+ * The LongObjMap class maps {@code long} keys to object values without boxing the keys and without creating an entry
+ * object per mapping. The keys and values are stored in two parallel arrays, using open addressing with linear probing
+ * over a table whose length is a power of two.<br>
+ * A LongObjMap does not permit {@code null} values, so {@link #get(long)} returning {@code null} means that the key is
+ * absent. Pairs of {@code int}s can be used as keys by packing them with {@link IntIntPair#pack(int, int)}; see also
+ * {@link PairIndex}.<br>
+ * This class is not thread-safe.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ * @param <V> The type of the values.
+ */
+public final class LongObjMap<V> {
+
+	/**
+	 * The key marking an empty slot. A mapping for this key is stored outside the table.
+	 */
+	private static final long FREE = 0L;
+
+	/**
+	 * The keys, with {@link #FREE} marking empty slots.
+	 */
+	private long[] keys;
+
+	/**
+	 * The values, at the same positions as their keys.
+	 */
+	private Object[] values;
+
+	/**
+	 * The value mapped to the key {@link #FREE}, or {@code null} if there is none.
+	 */
+	private Object freeKeyValue;
+
+	/**
+	 * The number of mappings in the table, excluding the mapping for {@link #FREE}.
+	 */
+	private int tableSize;
+
+	/**
+	 * The number of mappings the table holds before it grows.
+	 */
+	private int threshold;
+
+	/**
+	 * Creates a new, empty LongObjMap.
+	 */
+	public LongObjMap() {
+		this(HashTables.DEFAULT_EXPECTED_SIZE);
+	}
+
+	/**
+	 * Creates a new, empty LongObjMap, able to hold the given number of mappings without growing.
+	 *
+	 * @param expectedSize The expected number of mappings.
+	 * @throws IllegalArgumentException If the expected size is negative.
+	 */
+	public LongObjMap(int expectedSize) {
+		allocate(HashTables.capacityFor(expectedSize));
+	}
+
+	/**
+	 * Returns the number of mappings in this map.
+	 *
+	 * @return The number of mappings.
+	 */
+	public int size() {
+		return this.tableSize + (this.freeKeyValue != null ? 1 : 0);
+	}
+
+	/**
+	 * Returns whether this map contains no mappings.
+	 *
+	 * @return Whether this map is empty.
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Returns the value mapped to the given key.
+	 *
+	 * @param key The key.
+	 * @return The value, or {@code null} if the key is absent.
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(long key) {
+		if (key == FREE) {
+			return (V) this.freeKeyValue;
+		}
+		int slot = find(key);
+		return (slot >= 0 ? (V) this.values[slot] : null);
+	}
+
+	/**
+	 * Returns the value mapped to the given key, or the given default value if the key is absent.
+	 *
+	 * @param key The key.
+	 * @param defaultValue The value to return if the key is absent.
+	 * @return The value mapped to the key, or the default value.
+	 */
+	public V getOrDefault(long key, V defaultValue) {
+		V value = get(key);
+		return (value != null ? value : defaultValue);
+	}
+
+	/**
+	 * Returns whether the given key is present.
+	 *
+	 * @param key The key.
+	 * @return Whether a value is mapped to the key.
+	 */
+	public boolean containsKey(long key) {
+		return (key == FREE ? this.freeKeyValue != null : find(key) >= 0);
+	}
+
+	/**
+	 * Maps the given key to the given value.
+	 *
+	 * @param key The key.
+	 * @param value The value.
+	 * @return The value previously mapped to the key, or {@code null} if there was none.
+	 * @throws NullPointerException If the value is {@code null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(long key, V value) {
+		if (value == null) {
+			throw new NullPointerException("LongObjMap does not permit null values");
+		}
+		if (key == FREE) {
+			V previous = (V) this.freeKeyValue;
+			this.freeKeyValue = value;
+			return previous;
+		}
+		int mask = this.keys.length - 1;
+		int slot = HashTables.mix(key) & mask;
+		while (this.keys[slot] != FREE) {
+			if (this.keys[slot] == key) {
+				V previous = (V) this.values[slot];
+				this.values[slot] = value;
+				return previous;
+			}
+			slot = (slot + 1) & mask;
+		}
+		this.keys[slot] = key;
+		this.values[slot] = value;
+		if (++this.tableSize > this.threshold) {
+			rehash(HashTables.grow(this.keys.length));
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the mapping for the given key, if present.
+	 *
+	 * @param key The key.
+	 * @return The value previously mapped to the key, or {@code null} if there was none.
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(long key) {
+		if (key == FREE) {
+			V previous = (V) this.freeKeyValue;
+			this.freeKeyValue = null;
+			return previous;
+		}
+		int slot = find(key);
+		if (slot < 0) {
+			return null;
+		}
+		V previous = (V) this.values[slot];
+		delete(slot);
+		return previous;
+	}
+
+	/**
+	 * Removes all mappings.
+	 */
+	public void clear() {
+		Arrays.fill(this.keys, FREE);
+		Arrays.fill(this.values, null);
+		this.freeKeyValue = null;
+		this.tableSize = 0;
+	}
+
+	/**
+	 * Performs the given action for each mapping, in no particular order. The map must not be modified by the action.
+	 *
+	 * @param action The action to perform.
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(EntryConsumer<? super V> action) {
+		if (this.freeKeyValue != null) {
+			action.accept(FREE, (V) this.freeKeyValue);
+		}
+		long[] k = this.keys;
+		Object[] v = this.values;
+		for (int i = 0; i < k.length; i++) {
+			if (k[i] != FREE) {
+				action.accept(k[i], (V) v[i]);
+			}
+		}
+	}
+
+	/**
+	 * Returns the keys of this map, in no particular order.
+	 *
+	 * @return A new array with the keys.
+	 */
+	public long[] keys() {
+		long[] result = new long[size()];
+		int index = 0;
+		if (this.freeKeyValue != null) {
+			result[index++] = FREE;
+		}
+		for (long key : this.keys) {
+			if (key != FREE) {
+				result[index++] = key;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the slot of the given key.
+	 *
+	 * @param key The key, which is not {@link #FREE}.
+	 * @return The slot, or {@code -1} if the key is absent.
+	 */
+	private int find(long key) {
+		long[] k = this.keys;
+		int mask = k.length - 1;
+		int slot = HashTables.mix(key) & mask;
+		long current;
+		while ((current = k[slot]) != FREE) {
+			if (current == key) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * Empties the given slot, shifting subsequent entries of the same probe sequence back, so that no tombstones are
+	 * needed.
+	 *
+	 * @param slot The slot to empty.
+	 */
+	private void delete(int slot) {
+		long[] k = this.keys;
+		int mask = k.length - 1;
+		int gap = slot;
+		int candidate = (gap + 1) & mask;
+		while (k[candidate] != FREE) {
+			if (HashTables.canShift(gap, HashTables.mix(k[candidate]) & mask, candidate)) {
+				k[gap] = k[candidate];
+				this.values[gap] = this.values[candidate];
+				gap = candidate;
+			}
+			candidate = (candidate + 1) & mask;
+		}
+		k[gap] = FREE;
+		this.values[gap] = null;
+		this.tableSize--;
+	}
+
+	/**
+	 * Allocates empty arrays of the given length.
+	 *
+	 * @param capacity The table length.
+	 */
+	private void allocate(int capacity) {
+		this.keys = new long[capacity];
+		this.values = new Object[capacity];
+		this.threshold = HashTables.threshold(capacity);
+	}
+
+	/**
+	 * Moves all entries into new arrays of the given length.
+	 *
+	 * @param capacity The new table length.
+	 */
+	private void rehash(int capacity) {
+		long[] oldKeys = this.keys;
+		Object[] oldValues = this.values;
+		allocate(capacity);
+		int mask = capacity - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			long key = oldKeys[i];
+			if (key != FREE) {
+				int slot = HashTables.mix(key) & mask;
+				while (this.keys[slot] != FREE) {
+					slot = (slot + 1) & mask;
+				}
+				this.keys[slot] = key;
+				this.values[slot] = oldValues[i];
+			}
+		}
+	}
+
+	/**
+	 * An action performed on a mapping of a LongObjMap.
+	 *
+	 * @param <V> The type of the values.
+	 */
+	@FunctionalInterface
+	public interface EntryConsumer<V> {
+
+		/**
+		 * Performs the action on the given mapping.
+		 *
+		 * @param key The key.
+		 * @param value The value.
+		 */
+		void accept(long key, V value);
+	}
+}
@@ -0,0 +1,250 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * The LongSet class is a set of {@code long} values, stored without boxing in a single array, using open addressing
+ * with linear probing over a table whose length is a power of two. Pairs of {@code int}s can be stored by packing them
+ * with {@link IntIntPair#pack(int, int)}.<br>
+ * This class is not thread-safe.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public final class LongSet {
+
+	/**
+	 * The value marking an empty slot. Whether this value is in the set is tracked separately.
+	 */
+	private static final long FREE = 0L;
+
+	/**
+	 * The values, with {@link #FREE} marking empty slots.
+	 */
+	private long[] values;
+
+	/**
+	 * Whether the value {@link #FREE} is in the set.
+	 */
+	private boolean hasFreeValue;
+
+	/**
+	 * The number of values in the table, excluding {@link #FREE}.
+	 */
+	private int tableSize;
+
+	/**
+	 * The number of values the table holds before it grows.
+	 */
+	private int threshold;
+
+	/**
+	 * Creates a new, empty LongSet.
+	 */
+	public LongSet() {
+		this(HashTables.DEFAULT_EXPECTED_SIZE);
+	}
+
+	/**
+	 * Creates a new, empty LongSet, able to hold the given number of values without growing.
+	 *
+	 * @param expectedSize The expected number of values.
+	 * @throws IllegalArgumentException If the expected size is negative.
+	 */
+	public LongSet(int expectedSize) {
+		allocate(HashTables.capacityFor(expectedSize));
+	}
+
+	/**
+	 * Returns the number of values in this set.
+	 *
+	 * @return The number of values.
+	 */
+	public int size() {
+		return this.tableSize + (this.hasFreeValue ? 1 : 0);
+	}
+
+	/**
+	 * Returns whether this set contains no values.
+	 *
+	 * @return Whether this set is empty.
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Returns whether this set contains the given value.
+	 *
+	 * @param value The value.
+	 * @return Whether the value is present.
+	 */
+	public boolean contains(long value) {
+		if (value == FREE) {
+			return this.hasFreeValue;
+		}
+		long[] v = this.values;
+		int mask = v.length - 1;
+		int slot = HashTables.mix(value) & mask;
+		long current;
+		while ((current = v[slot]) != FREE) {
+			if (current == value) {
+				return true;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return false;
+	}
+
+	/**
+	 * Adds the given value to this set.
+	 *
+	 * @param value The value.
+	 * @return Whether the value was absent.
+	 */
+	public boolean add(long value) {
+		if (value == FREE) {
+			boolean added = !this.hasFreeValue;
+			this.hasFreeValue = true;
+			return added;
+		}
+		long[] v = this.values;
+		int mask = v.length - 1;
+		int slot = HashTables.mix(value) & mask;
+		long current;
+		while ((current = v[slot]) != FREE) {
+			if (current == value) {
+				return false;
+			}
+			slot = (slot + 1) & mask;
+		}
+		v[slot] = value;
+		if (++this.tableSize > this.threshold) {
+			rehash(HashTables.grow(v.length));
+		}
+		return true;
+	}
+
+	/**
+	 * Removes the given value from this set.
+	 *
+	 * @param value The value.
+	 * @return Whether the value was present.
+	 */
+	public boolean remove(long value) {
+		if (value == FREE) {
+			boolean removed = this.hasFreeValue;
+			this.hasFreeValue = false;
+			return removed;
+		}
+		long[] v = this.values;
+		int mask = v.length - 1;
+		int slot = HashTables.mix(value) & mask;
+		long current;
+		while ((current = v[slot]) != FREE) {
+			if (current == value) {
+				delete(slot);
+				return true;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return false;
+	}
+
+	/**
+	 * Removes all values.
+	 */
+	public void clear() {
+		Arrays.fill(this.values, FREE);
+		this.hasFreeValue = false;
+		this.tableSize = 0;
+	}
+
+	/**
+	 * Performs the given action for each value, in no particular order. The set must not be modified by the action.
+	 *
+	 * @param action The action to perform.
+	 */
+	public void forEach(LongConsumer action) {
+		if (this.hasFreeValue) {
+			action.accept(FREE);
+		}
+		for (long value : this.values) {
+			if (value != FREE) {
+				action.accept(value);
+			}
+		}
+	}
+
+	/**
+	 * Returns the values of this set, in no particular order.
+	 *
+	 * @return A new array with the values.
+	 */
+	public long[] toArray() {
+		long[] result = new long[size()];
+		int index = 0;
+		if (this.hasFreeValue) {
+			result[index++] = FREE;
+		}
+		for (long value : this.values) {
+			if (value != FREE) {
+				result[index++] = value;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Empties the given slot, shifting subsequent values of the same probe sequence back, so that no tombstones are
+	 * needed.
+	 *
+	 * @param slot The slot to empty.
+	 */
+	private void delete(int slot) {
+		long[] v = this.values;
+		int mask = v.length - 1;
+		int gap = slot;
+		int candidate = (gap + 1) & mask;
+		while (v[candidate] != FREE) {
+			if (HashTables.canShift(gap, HashTables.mix(v[candidate]) & mask, candidate)) {
+				v[gap] = v[candidate];
+				gap = candidate;
+			}
+			candidate = (candidate + 1) & mask;
+		}
+		v[gap] = FREE;
+		this.tableSize--;
+	}
+
+	/**
+	 * Allocates an empty array of the given length.
+	 *
+	 * @param capacity The table length.
+	 */
+	private void allocate(int capacity) {
+		this.values = new long[capacity];
+		this.threshold = HashTables.threshold(capacity);
+	}
+
+	/**
+	 * Moves all values into a new array of the given length.
+	 *
+	 * @param capacity The new table length.
+	 */
+	private void rehash(int capacity) {
+		long[] old = this.values;
+		allocate(capacity);
+		int mask = capacity - 1;
+		for (long value : old) {
+			if (value != FREE) {
+				int slot = HashTables.mix(value) & mask;
+				while (this.values[slot] != FREE) {
+					slot = (slot + 1) & mask;
+				}
+				this.values[slot] = value;
+			}
+		}
+	}
+}
@@ -1,8 +1,10 @@
 package org.mcemperor.commons.lang.util;
 
-import java.util.Arrays;
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.RandomAccess;
 
 /**
  * The Longs class contains a set of static methods which make calculating with and getting properties from longs
@@ -19,13 +21,25 @@ public class Longs {
 	private Longs() { }
 	
 	/**
-	 * Converts a long[] to a List&lt;Long&gt;.
+	 * Converts a long[] to a List&lt;Long&gt;. The returned list is a modifiable copy, which is independent of the
+	 * array; use {@link #asList(long[])} to avoid the copy.
 	 * 
 	 * @param longs The array to convert.
 	 * @return A List&lt;Long&gt; with the longs.
 	 */
 	public static List<Long> boxed(long[] longs) {
-		return Arrays.stream(longs).boxed().collect(Collectors.toList());
+		return new ArrayList<>(asList(longs));
+	}
+	
+	/**
+	 * Returns a fixed-size List&lt;Long&gt; view of the given long[]. Unlike {@link #boxed(long[])}, this does not copy
+	 * the array; each element is boxed when it is read. Changes to the list write through to the array, and vice versa.
+	 * 
+	 * @param longs The array to view.
+	 * @return A List&lt;Long&gt; backed by the array.
+	 */
+	public static List<Long> asList(long[] longs) {
+		return new ArrayView(longs);
 	}
 	
 	/**
@@ -35,9 +49,66 @@ public class Longs {
 	 * @return A long[] with the longs.
 	 */
 	public static long[] unboxed(List<Long> longs) {
-		return longs.stream()
-			.mapToLong(i -> i)
-			.toArray();
+		long[] array = new long[longs.size()];
+		int i = 0;
+		for (Long value : longs) {
+			array[i++] = value;
+		}
+		return array;
 	}
 	
+	/**
+	 * A fixed-size List view of a long[].
+	 */
+	private static final class ArrayView extends AbstractList<Long> implements RandomAccess {
+		
+		/**
+		 * The backing array.
+		 */
+		private final long[] array;
+		
+		/**
+		 * Creates a new view of the given array.
+		 * 
+		 * @param array The backing array.
+		 */
+		private ArrayView(long[] array) {
+			this.array = Objects.requireNonNull(array);
+		}
+		
+		@Override
+		public Long get(int index) {
+			return this.array[index];
+		}
+		
+		@Override
+		public Long set(int index, Long element) {
+			long previous = this.array[index];
+			this.array[index] = element;
+			return previous;
+		}
+		
+		@Override
+		public int size() {
+			return this.array.length;
+		}
+		
+		@Override
+		public int indexOf(Object o) {
+			if (o instanceof Long) {
+				long value = (Long) o;
+				for (int i = 0; i < this.array.length; i++) {
+					if (this.array[i] == value) {
+						return i;
+					}
+				}
+			}
+			return -1;
+		}
+		
+		@Override
+		public boolean contains(Object o) {
+			return indexOf(o) >= 0;
+		}
+	}
 }
@@ -0,0 +1,253 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.Arrays;
+
+/**
+ * The Normalizer class normalizes text in a single scan, applying all selected normalizations at once. It is the
+ * reusable form of {@link Strings#normalize(String, int)}: the scope is decoded when the Normalizer is created, and
+ * the scan copies the text at most once. Text which needs no normalization is returned as is, without copying.<br>
+ * Besides the normalizations of the scope, a Normalizer can replace characters by other characters, using
+ * {@link #map(char, char)}. Newlines are normalized first, so the {@code \n} replacing a {@code \r} or {@code \r\n} is
+ * subject to a mapping of {@code '\n'}, and a mapping of {@code '\r'} has no effect if newlines are normalized.<br>
+ * A Normalizer is immutable and thread-safe.<br><br>
+ *
+ * Example usage:
+ *
+ * <pre>{@code  private static final Normalizer NORMALIZER = Normalizer.of(Strings.NORMALIZE_NEWLINES)
+ *     .map('\t', ' ')
+ *     .map(';', ',');
+ *
+ * String normalized = NORMALIZER.normalize(text);}</pre>
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public final class Normalizer {
+
+	/**
+	 * The bits of the scope which select a normalization.
+	 */
+	private static final int SCOPE_MASK = Strings.NORMALIZE_NEWLINES | Strings.NORMALIZE_SPACE_TO_UNDERSCORE | Strings.NORMALIZE_PATH;
+
+	/**
+	 * The Normalizers without mappings, by scope.
+	 */
+	private static final Normalizer[] SCOPES = new Normalizer[SCOPE_MASK + 1];
+
+	/**
+	 * The buffer of each thread, into which strings are copied and normalized.
+	 */
+	private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[256]);
+
+	static {
+		for (int scope = 0; scope <= SCOPE_MASK; scope++) {
+			if ((scope & ~SCOPE_MASK) == 0) {
+				SCOPES[scope] = create(scope);
+			}
+		}
+	}
+
+	/**
+	 * Whether to replace {@code \r\n} and {@code \r} by {@code \n}.
+	 */
+	private final boolean newlines;
+
+	/**
+	 * The replacement of each character lower than the length of the table; characters without a mapping map to
+	 * themselves. Characters not in the table are not replaced.
+	 */
+	private final char[] table;
+
+	/**
+	 * The only character affected by this Normalizer, or {@code -1} if there are none or several.
+	 */
+	private final int single;
+
+	/**
+	 * Creates a new Normalizer.
+	 *
+	 * @param newlines Whether to normalize newlines.
+	 * @param table The replacements of the characters.
+	 */
+	private Normalizer(boolean newlines, char[] table) {
+		this.newlines = newlines;
+		this.table = table;
+		int affected = (newlines ? '\r' : -1);
+		int count = (newlines ? 1 : 0);
+		for (int c = 0; c < table.length; c++) {
+			if (table[c] != c && (c != '\r' || !newlines)) {
+				affected = c;
+				count++;
+			}
+		}
+		this.single = (count == 1 ? affected : -1);
+	}
+
+	/**
+	 * Returns a Normalizer applying the normalizations selected by the given scope, which is a combination of
+	 * {@link Strings#NORMALIZE_NEWLINES}, {@link Strings#NORMALIZE_SPACE_TO_UNDERSCORE} and
+	 * {@link Strings#NORMALIZE_PATH}. Other bits are ignored.
+	 *
+	 * @param scope The scope of what strength the normalization should have.
+	 * @return A Normalizer.
+	 */
+	public static Normalizer of(int scope) {
+		return SCOPES[scope & SCOPE_MASK];
+	}
+
+	/**
+	 * Returns a Normalizer which additionally replaces the given character by another character. A later mapping of
+	 * the same character replaces an earlier one, including a mapping implied by the scope.
+	 *
+	 * @param from The character to replace.
+	 * @param to The replacement.
+	 * @return A new Normalizer instance.
+	 */
+	public Normalizer map(char from, char to) {
+		char[] newTable = this.table;
+		if (from >= newTable.length) {
+			newTable = Arrays.copyOf(newTable, from + 1);
+			for (int c = this.table.length; c < newTable.length; c++) {
+				newTable[c] = (char) c;
+			}
+		}
+		else {
+			newTable = newTable.clone();
+		}
+		newTable[from] = to;
+		return new Normalizer(this.newlines, newTable);
+	}
+
+	/**
+	 * Normalizes the given string.
+	 *
+	 * @param string The string to normalize.
+	 * @return The normalized string, which is the given string itself if nothing needed normalizing.
+	 */
+	public String normalize(String string) {
+		if (this.single >= 0) {
+			return normalize(string, (char) this.single);
+		}
+		int length = string.length();
+		int i = 0;
+		while (i < length && !isAffected(string.charAt(i))) {
+			i++;
+		}
+		if (i == length) {
+			return string;
+		}
+		char[] chars = scratch(length);
+		string.getChars(0, length, chars, 0);
+		return new String(chars, 0, apply(chars, i, length, false));
+	}
+
+	/**
+	 * Normalizes the given string, of which only the given character is affected. The occurrences of the character
+	 * are found with {@link String#indexOf(int, int)}, and the text between them is copied in bulk.
+	 *
+	 * @param string The string to normalize.
+	 * @param affected The only character affected by this Normalizer.
+	 * @return The normalized string, which is the given string itself if nothing needed normalizing.
+	 */
+	private String normalize(String string, char affected) {
+		int i = string.indexOf(affected);
+		if (i < 0) {
+			return string;
+		}
+		boolean carriageReturn = (this.newlines && affected == '\r');
+		char replacement = (carriageReturn ? '\n' : this.table[affected]);
+		int length = string.length();
+		char[] chars = scratch(length);
+		int j = 0;
+		int runStart = 0;
+		do {
+			string.getChars(runStart, i, chars, j);
+			j += i - runStart;
+			chars[j++] = replacement;
+			runStart = i + 1;
+			if (carriageReturn && runStart < length && string.charAt(runStart) == '\n') {
+				runStart++;
+			}
+			i = string.indexOf(affected, runStart);
+		} while (i >= 0);
+		string.getChars(runStart, length, chars, j);
+		return new String(chars, 0, j + length - runStart);
+	}
+
+	/**
+	 * Normalizes the given characters in place. If {@code afterCarriageReturn} is {@code true} and newlines are
+	 * normalized, a {@code \n} at {@code from} is dropped, as it completes a {@code \r\n} started before {@code from}.
+	 *
+	 * @param chars The buffer.
+	 * @param from The index of the first character to normalize.
+	 * @param to The index following the last character to normalize.
+	 * @param afterCarriageReturn Whether the character preceding {@code from} was a {@code \r}.
+	 * @return The index following the last normalized character.
+	 */
+	int apply(char[] chars, int from, int to, boolean afterCarriageReturn) {
+		boolean newlines = this.newlines;
+		char[] t = this.table;
+		int j = from;
+		for (int i = from; i < to; i++) {
+			char c = chars[i];
+			if (newlines) {
+				if (c == '\n' && afterCarriageReturn) {
+					afterCarriageReturn = false;
+					continue;
+				}
+				afterCarriageReturn = (c == '\r');
+				if (afterCarriageReturn) {
+					c = '\n';
+				}
+			}
+			chars[j++] = (c < t.length ? t[c] : c);
+		}
+		return j;
+	}
+
+	/**
+	 * Returns a buffer of at least the given length. Buffers up to {@link StringBuilderPool#MAX_RETAINED_CAPACITY}
+	 * characters are reused by the current thread; longer buffers are allocated for a single use.
+	 *
+	 * @param length The minimum length.
+	 * @return A buffer.
+	 */
+	private static char[] scratch(int length) {
+		if (length > StringBuilderPool.MAX_RETAINED_CAPACITY) {
+			return new char[length];
+		}
+		char[] buffer = SCRATCH.get();
+		if (buffer.length < length) {
+			buffer = new char[Math.max(length, Math.min(buffer.length * 2, StringBuilderPool.MAX_RETAINED_CAPACITY))];
+			SCRATCH.set(buffer);
+		}
+		return buffer;
+	}
+
+	/**
+	 * Returns whether the given character is changed or removed by this Normalizer.
+	 *
+	 * @param c The character.
+	 * @return Whether the character is affected.
+	 */
+	private boolean isAffected(char c) {
+		return (c < this.table.length && this.table[c] != c) || (this.newlines && c == '\r');
+	}
+
+	/**
+	 * Creates a Normalizer without mappings for the given scope.
+	 *
+	 * @param scope The scope, without bits other than those of {@link #SCOPE_MASK}.
+	 * @return A new Normalizer instance.
+	 */
+	private static Normalizer create(int scope) {
+		Normalizer normalizer = new Normalizer((scope & Strings.NORMALIZE_NEWLINES) != 0, new char[0]);
+		if ((scope & Strings.NORMALIZE_SPACE_TO_UNDERSCORE) != 0) {
+			normalizer = normalizer.map(' ', '_');
+		}
+		if ((scope & Strings.NORMALIZE_PATH) != 0) {
+			normalizer = normalizer.map('\\', '/');
+		}
+		return normalizer;
+	}
+}
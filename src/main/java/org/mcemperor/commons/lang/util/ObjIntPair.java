@@ -0,0 +1,115 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.Objects;
+
+/**
+ * The ObjIntPair class represents an unchangeable pair, of which the first element is an object, and the second
+ * element is an {@code int} value, stored without boxing.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ * @param <T> The type of the first element.
+ */
+public final class ObjIntPair<T> implements Pairable<T, Integer> {
+
+	/**
+	 * The first element.
+	 */
+	private final T first;
+
+	/**
+	 * The second element.
+	 */
+	private final int second;
+
+	/**
+	 * Creates a new ObjIntPair instance from the given values.
+	 *
+	 * @param first The first value.
+	 * @param second The second value.
+	 */
+	private ObjIntPair(T first, int second) {
+		this.first = first;
+		this.second = second;
+	}
+
+	/**
+	 * Static factory method to create an ObjIntPair instance.
+	 *
+	 * @param <T> The type of the first element.
+	 * @param first The first element.
+	 * @param second The second element.
+	 * @return A new ObjIntPair instance.
+	 */
+	public static <T> ObjIntPair<T> of(T first, int second) {
+		return new ObjIntPair<>(first, second);
+	}
+
+	/**
+	 * Gets the first element.
+	 *
+	 * @return The first element.
+	 */
+	@Override
+	public T first() {
+		return this.first;
+	}
+
+	/**
+	 * Gets the second element, without boxing.
+	 *
+	 * @return The second element.
+	 */
+	public int secondInt() {
+		return this.second;
+	}
+
+	/**
+	 * Gets the second element, boxed.
+	 *
+	 * @return The second element.
+	 */
+	@Override
+	public Integer second() {
+		return this.second;
+	}
+
+	/**
+	 * Whether this pair is equal to the specified one. A {@link Pair} or another pair of this package with equal boxed
+	 * elements is equal to this pair.
+	 *
+	 * @param obj The other object.
+	 * @return Whether this pair is considered equal to the specified object.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof ObjIntPair)) {
+			return Pair.equalElements(this, obj);
+		}
+		ObjIntPair<?> other = (ObjIntPair<?>) obj;
+		return Objects.equals(this.first, other.first) && this.second == other.second;
+	}
+
+	/**
+	 * Returns a hash code for this object. The hash code is equal to that of a {@link Pair} with the same elements.
+	 *
+	 * @return The hash code.
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * (31 + Objects.hashCode(this.first)) + this.second;
+	}
+
+	/**
+	 * Returns a textual representation of this ObjIntPair instance.
+	 *
+	 * @return This instance as a string.
+	 */
+	@Override
+	public String toString() {
+		return "ObjIntPair(" + this.first + ", " + this.second + ")";
+	}
+}
@@ -1,10 +1,13 @@
 package org.mcemperor.commons.lang.util;
 
-import org.mcemperor.commons.lang.builder.EqualsBuilder;
+import java.util.Objects;
 import org.mcemperor.commons.lang.builder.HashCodeBuilder;
+import org.mcemperor.commons.lang.builder.HashMixing;
 
 /**
- * The Pair class represents an unchangable pair of objects.
+ * The Pair class represents an unchangable pair of objects.<br>
+ * A Pair is equal to an {@link IntIntPair}, {@link LongLongPair}, {@link IntObjPair} or {@link ObjIntPair} with equal
+ * elements, and has the same hash code, so these pairs can be used interchangeably as keys.
  *
  * @author Maurits de Jong
  * @since 2017-10-23
@@ -75,10 +78,7 @@ public class Pair<T, U> implements Pairable<T, U> {
 	 */
 	@Override
 	public boolean equals(Object obj) {
-		return new EqualsBuilder<>(this, obj)
-			.test(t -> t.first)
-			.test(t -> t.second)
-			.isEqual();
+		return (this == obj || equalElements(this, obj));
 	}
 
 	/**
@@ -88,12 +88,45 @@ public class Pair<T, U> implements Pairable<T, U> {
 	 */
 	@Override
 	public int hashCode() {
-		return new HashCodeBuilder<>(this)
+		return HashCodeBuilder.of(this, HashMixing.ORDERED)
 			.add(t -> t.first)
 			.add(t -> t.second)
 			.get();
 	}
 
+	/**
+	 * Returns whether the given object is a pair of this package, that is, a Pair, {@link IntIntPair},
+	 * {@link LongLongPair}, {@link IntObjPair} or {@link ObjIntPair}, with elements equal to those of the given pair.
+	 * The pairs of this package use this method to compare to a pair of another class, so that their equality is
+	 * symmetric. Other implementations of {@link Pairable} are never equal to these pairs.
+	 *
+	 * @param pair The pair.
+	 * @param obj The object to compare to.
+	 * @return Whether the object is a pair of this package with equal elements.
+	 */
+	static boolean equalElements(Pairable<?, ?> pair, Object obj) {
+		if (!isPair(obj)) {
+			return false;
+		}
+		Pairable<?, ?> other = (Pairable<?, ?>) obj;
+		return Objects.equals(pair.first(), other.first()) && Objects.equals(pair.second(), other.second());
+	}
+
+	/**
+	 * Returns whether the given object is a pair of this package.
+	 *
+	 * @param obj The object.
+	 * @return Whether the object is a Pair, {@link IntIntPair}, {@link LongLongPair}, {@link IntObjPair} or
+	 * {@link ObjIntPair}.
+	 */
+	static boolean isPair(Object obj) {
+		return (obj instanceof Pair
+			|| obj instanceof IntIntPair
+			|| obj instanceof LongLongPair
+			|| obj instanceof IntObjPair
+			|| obj instanceof ObjIntPair);
+	}
+
 	/**
 	 * Returns a textual representation of this Pair instance.
 	 *
@@ -101,6 +134,6 @@ public class Pair<T, U> implements Pairable<T, U> {
 	 */
 	@Override
 	public String toString() {
-		return String.format("ImmutablePair(%s, %s)", this.first, this.second);
+		return "ImmutablePair(" + this.first + ", " + this.second + ")";
 	}
 }
@@ -0,0 +1,365 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The PairIndex class maps pairs of {@code int}s, such as coordinates or ranges, to values. Each pair is packed into a
+ * single {@code long} using {@link IntIntPair#pack(int, int)} and stored in a {@link LongObjMap}, so neither the pair
+ * nor its elements are boxed, and no entry objects are created.<br>
+ * For code expecting a {@code Map}, {@link #asMap()} returns a view accepting an {@link IntIntPair} or a
+ * {@code Pair<Integer, Integer>} as key.<br>
+ * A PairIndex does not permit {@code null} values. This class is not thread-safe.<br><br>
+ *
+ * Example usage:
+ *
+ * <pre>{@code  PairIndex<Tile> tiles = new PairIndex<>();
+ * tiles.put(3, 4, tile);
+ * Tile found = tiles.get(3, 4);}</pre>
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ * @param <V> The type of the values.
+ */
+public final class PairIndex<V> {
+
+	/**
+	 * The values, by packed pair.
+	 */
+	private final LongObjMap<V> map;
+
+	/**
+	 * The Map view, created when first requested.
+	 */
+	private Map<Pairable<Integer, Integer>, V> view;
+
+	/**
+	 * Creates a new, empty PairIndex.
+	 */
+	public PairIndex() {
+		this(HashTables.DEFAULT_EXPECTED_SIZE);
+	}
+
+	/**
+	 * Creates a new, empty PairIndex, able to hold the given number of mappings without growing.
+	 *
+	 * @param expectedSize The expected number of mappings.
+	 * @throws IllegalArgumentException If the expected size is negative.
+	 */
+	public PairIndex(int expectedSize) {
+		this.map = new LongObjMap<>(expectedSize);
+	}
+
+	/**
+	 * Returns the number of mappings in this index.
+	 *
+	 * @return The number of mappings.
+	 */
+	public int size() {
+		return this.map.size();
+	}
+
+	/**
+	 * Returns whether this index contains no mappings.
+	 *
+	 * @return Whether this index is empty.
+	 */
+	public boolean isEmpty() {
+		return this.map.isEmpty();
+	}
+
+	/**
+	 * Returns the value mapped to the given pair.
+	 *
+	 * @param first The first element of the pair.
+	 * @param second The second element of the pair.
+	 * @return The value, or {@code null} if the pair is absent.
+	 */
+	public V get(int first, int second) {
+		return this.map.get(IntIntPair.pack(first, second));
+	}
+
+	/**
+	 * Returns whether the given pair is present.
+	 *
+	 * @param first The first element of the pair.
+	 * @param second The second element of the pair.
+	 * @return Whether a value is mapped to the pair.
+	 */
+	public boolean containsKey(int first, int second) {
+		return this.map.containsKey(IntIntPair.pack(first, second));
+	}
+
+	/**
+	 * Maps the given pair to the given value.
+	 *
+	 * @param first The first element of the pair.
+	 * @param second The second element of the pair.
+	 * @param value The value.
+	 * @return The value previously mapped to the pair, or {@code null} if there was none.
+	 * @throws NullPointerException If the value is {@code null}.
+	 */
+	public V put(int first, int second, V value) {
+		return this.map.put(IntIntPair.pack(first, second), value);
+	}
+
+	/**
+	 * Removes the mapping for the given pair, if present.
+	 *
+	 * @param first The first element of the pair.
+	 * @param second The second element of the pair.
+	 * @return The value previously mapped to the pair, or {@code null} if there was none.
+	 */
+	public V remove(int first, int second) {
+		return this.map.remove(IntIntPair.pack(first, second));
+	}
+
+	/**
+	 * Removes all mappings.
+	 */
+	public void clear() {
+		this.map.clear();
+	}
+
+	/**
+	 * Performs the given action for each mapping, in no particular order. The index must not be modified by the action.
+	 *
+	 * @param action The action to perform.
+	 */
+	public void forEach(EntryConsumer<? super V> action) {
+		this.map.forEach((packed, value) -> action.accept(IntIntPair.firstOf(packed), IntIntPair.secondOf(packed), value));
+	}
+
+	/**
+	 * Returns a Map view of this index. Changes to the view write through to this index, and vice versa.<br>
+	 * Lookups accept any pair of this package whose elements are {@code Integer}s, so a {@code Pair.of(3, 4)} finds
+	 * the value put with an {@code IntIntPair.of(3, 4)}; these keys are equal to each other, so the view equals a
+	 * {@code Map} with {@code Pair} keys and the same mappings. Iterating over the view creates an {@link IntIntPair}
+	 * per entry.
+	 *
+	 * @return The Map view.
+	 */
+	public Map<Pairable<Integer, Integer>, V> asMap() {
+		if (this.view == null) {
+			this.view = new MapView();
+		}
+		return this.view;
+	}
+
+	/**
+	 * Returns whether the given key is a pair of {@code Integer}s, of a class equal to an {@link IntIntPair} with the
+	 * same elements.
+	 *
+	 * @param key The key.
+	 * @return Whether the key is a pair of {@code Integer}s.
+	 */
+	private static boolean isIntPair(Object key) {
+		if (key instanceof IntIntPair) {
+			return true;
+		}
+		if (!Pair.isPair(key)) {
+			return false;
+		}
+		Pairable<?, ?> pair = (Pairable<?, ?>) key;
+		return (pair.first() instanceof Integer && pair.second() instanceof Integer);
+	}
+
+	/**
+	 * Packs the given key, which must be a pair of {@code Integer}s.
+	 *
+	 * @param key The key.
+	 * @return The packed key.
+	 * @throws NullPointerException If the key or one of its elements is {@code null}.
+	 */
+	private static long pack(Pairable<Integer, Integer> key) {
+		if (key instanceof IntIntPair) {
+			return ((IntIntPair) key).pack();
+		}
+		return IntIntPair.pack(key.first(), key.second());
+	}
+
+	/**
+	 * An action performed on a mapping of a PairIndex.
+	 *
+	 * @param <V> The type of the values.
+	 */
+	@FunctionalInterface
+	public interface EntryConsumer<V> {
+
+		/**
+		 * Performs the action on the given mapping.
+		 *
+		 * @param first The first element of the pair.
+		 * @param second The second element of the pair.
+		 * @param value The value.
+		 */
+		void accept(int first, int second, V value);
+	}
+
+	/**
+	 * The Map view of the index.
+	 */
+	private final class MapView extends AbstractMap<Pairable<Integer, Integer>, V> {
+
+		/**
+		 * The entry set, created when first requested.
+		 */
+		private Set<Map.Entry<Pairable<Integer, Integer>, V>> entrySet;
+
+		@Override
+		public int size() {
+			return PairIndex.this.map.size();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean containsKey(Object key) {
+			return isIntPair(key) && PairIndex.this.map.containsKey(pack((Pairable<Integer, Integer>) key));
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V get(Object key) {
+			return (isIntPair(key) ? PairIndex.this.map.get(pack((Pairable<Integer, Integer>) key)) : null);
+		}
+
+		@Override
+		public V put(Pairable<Integer, Integer> key, V value) {
+			return PairIndex.this.map.put(pack(key), value);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V remove(Object key) {
+			return (isIntPair(key) ? PairIndex.this.map.remove(pack((Pairable<Integer, Integer>) key)) : null);
+		}
+
+		@Override
+		public void clear() {
+			PairIndex.this.map.clear();
+		}
+
+		@Override
+		public Set<Map.Entry<Pairable<Integer, Integer>, V>> entrySet() {
+			if (this.entrySet == null) {
+				this.entrySet = new AbstractSet<Map.Entry<Pairable<Integer, Integer>, V>>() {
+
+					@Override
+					public Iterator<Map.Entry<Pairable<Integer, Integer>, V>> iterator() {
+						return new EntryIterator();
+					}
+
+					@Override
+					public int size() {
+						return PairIndex.this.map.size();
+					}
+				};
+			}
+			return this.entrySet;
+		}
+	}
+
+	/**
+	 * Iterates over a snapshot of the keys, reading the values from the index.
+	 */
+	private final class EntryIterator implements Iterator<Map.Entry<Pairable<Integer, Integer>, V>> {
+
+		/**
+		 * The packed keys at the time the iterator was created.
+		 */
+		private final long[] keys = PairIndex.this.map.keys();
+
+		/**
+		 * The index of the next key.
+		 */
+		private int index;
+
+		/**
+		 * The packed key last returned, or {@code null} if there is none or it has been removed.
+		 */
+		private Long last;
+
+		@Override
+		public boolean hasNext() {
+			return this.index < this.keys.length;
+		}
+
+		@Override
+		public Map.Entry<Pairable<Integer, Integer>, V> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			long packed = this.keys[this.index++];
+			this.last = packed;
+			return new Entry(packed);
+		}
+
+		@Override
+		public void remove() {
+			if (this.last == null) {
+				throw new IllegalStateException();
+			}
+			PairIndex.this.map.remove(this.last);
+			this.last = null;
+		}
+	}
+
+	/**
+	 * A mapping of the index, reading and writing through to the index.
+	 */
+	private final class Entry implements Map.Entry<Pairable<Integer, Integer>, V> {
+
+		/**
+		 * The packed key.
+		 */
+		private final long packed;
+
+		/**
+		 * Creates a new Entry.
+		 *
+		 * @param packed The packed key.
+		 */
+		private Entry(long packed) {
+			this.packed = packed;
+		}
+
+		@Override
+		public Pairable<Integer, Integer> getKey() {
+			return IntIntPair.unpack(this.packed);
+		}
+
+		@Override
+		public V getValue() {
+			return PairIndex.this.map.get(this.packed);
+		}
+
+		@Override
+		public V setValue(V value) {
+			return PairIndex.this.map.put(this.packed, value);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Map.Entry)) {
+				return false;
+			}
+			Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+			return getKey().equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return getKey().hashCode() ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * The Patterns class contains utility methods for regular expressions. Most notably, it keeps a bounded cache of
+ * compiled patterns, so methods accepting a regular expression as a string do not need to compile it on each call.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public class Patterns {
+
+	/**
+	 * The maximum number of patterns kept in the cache.
+	 */
+	private static final int CACHE_SIZE = 256;
+
+	/**
+	 * The compiled patterns, in least recently used order. Access must be synchronized on the map itself.
+	 */
+	private static final Map<String, Pattern> CACHE = new LinkedHashMap<String, Pattern>(CACHE_SIZE * 4 / 3 + 1, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+			return (size() > CACHE_SIZE);
+		}
+	};
+
+	/**
+	 * Private constructor, because this class is a utility class.
+	 */
+	private Patterns() { }
+
+	/**
+	 * Returns the compiled pattern of the given regular expression. The most recently used patterns are cached, so
+	 * repeatedly compiling the same expression returns the same Pattern instance.
+	 *
+	 * @param regex The regular expression to compile.
+	 * @return The compiled pattern.
+	 * @throws java.util.regex.PatternSyntaxException If the expression's syntax is invalid.
+	 */
+	public static Pattern compile(String regex) {
+		synchronized (CACHE) {
+			Pattern pattern = CACHE.get(regex);
+			if (pattern != null) {
+				return pattern;
+			}
+		}
+		// Compile outside of the lock; compiling the same expression twice concurrently is harmless.
+		Pattern pattern = Pattern.compile(regex);
+		synchronized (CACHE) {
+			CACHE.put(regex, pattern);
+		}
+		return pattern;
+	}
+
+	/**
+	 * Returns the literal string matched by the given regular expression, if the expression matches exactly one
+	 * string. This is the case if it contains no metacharacters, if all metacharacters are escaped by a backslash, or if
+	 * it is quoted using {@code \Q} and {@code \E}.
+	 *
+	 * @param regex The regular expression.
+	 * @return The literal string matched by the expression, or {@code null} if the expression is not a literal.
+	 */
+	public static String toLiteral(String regex) {
+		if (regex.startsWith("\\Q")) {
+			int end = regex.indexOf("\\E", 2);
+			return (end == -1 || end == regex.length() - 2 ? regex.substring(2, end == -1 ? regex.length() : end) : null);
+		}
+		StringBuilder literal = null;
+		for (int i = 0; i < regex.length(); i++) {
+			char c = regex.charAt(i);
+			if (c == '\\') {
+				if (i + 1 == regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+					return null;
+				}
+				if (literal == null) {
+					literal = new StringBuilder(regex.length()).append(regex, 0, i);
+				}
+				literal.append(regex.charAt(++i));
+			}
+			else if ("^$.|?*+()[]{}".indexOf(c) != -1) {
+				return null;
+			}
+			else if (literal != null) {
+				literal.append(c);
+			}
+		}
+		return (literal != null ? literal.toString() : regex);
+	}
+}
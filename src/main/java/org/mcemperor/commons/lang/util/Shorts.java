@@ -1,7 +1,10 @@
 package org.mcemperor.commons.lang.util;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
 
 /**
  * The Shorts class contains a set of static methods which make calculating with and getting properties from shorts
@@ -18,17 +21,25 @@ public class Shorts {
 	private Shorts() { }
 	
 	/**
-	 * Converts a short[] to a List&lt;Short&gt;.
+	 * Converts a short[] to a List&lt;Short&gt;. The returned list is a modifiable copy, which is independent of the
+	 * array; use {@link #asList(short[])} to avoid the copy.
 	 * 
 	 * @param shorts The array to convert.
 	 * @return A List&lt;Short&gt; with the shorts.
 	 */
 	public static List<Short> boxed(short[] shorts) {
-		List<Short> shortList = new ArrayList<>();
-		for (int i = 0; i < shorts.length; i++) {
-			shortList.add(shorts[i]);
-		}
-		return shortList;
+		return new ArrayList<>(asList(shorts));
+	}
+	
+	/**
+	 * Returns a fixed-size List&lt;Short&gt; view of the given short[]. Unlike {@link #boxed(short[])}, this does not copy
+	 * the array; each element is boxed when it is read. Changes to the list write through to the array, and vice versa.
+	 * 
+	 * @param shorts The array to view.
+	 * @return A List&lt;Short&gt; backed by the array.
+	 */
+	public static List<Short> asList(short[] shorts) {
+		return new ArrayView(shorts);
 	}
 	
 	/**
@@ -45,4 +56,58 @@ public class Shorts {
 		return shortArray;
 	}
 	
+	/**
+	 * A fixed-size List view of a short[].
+	 */
+	private static final class ArrayView extends AbstractList<Short> implements RandomAccess {
+		
+		/**
+		 * The backing array.
+		 */
+		private final short[] array;
+		
+		/**
+		 * Creates a new view of the given array.
+		 * 
+		 * @param array The backing array.
+		 */
+		private ArrayView(short[] array) {
+			this.array = Objects.requireNonNull(array);
+		}
+		
+		@Override
+		public Short get(int index) {
+			return this.array[index];
+		}
+		
+		@Override
+		public Short set(int index, Short element) {
+			short previous = this.array[index];
+			this.array[index] = element;
+			return previous;
+		}
+		
+		@Override
+		public int size() {
+			return this.array.length;
+		}
+		
+		@Override
+		public int indexOf(Object o) {
+			if (o instanceof Short) {
+				short value = (Short) o;
+				for (int i = 0; i < this.array.length; i++) {
+					if (this.array[i] == value) {
+						return i;
+					}
+				}
+			}
+			return -1;
+		}
+		
+		@Override
+		public boolean contains(Object o) {
+			return indexOf(o) >= 0;
+		}
+	}
 }
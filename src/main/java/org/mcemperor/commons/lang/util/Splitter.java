@@ -0,0 +1,351 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The Splitter class splits character sequences around a delimiter, which is either a literal string or a regular
+ * expression. A Splitter is immutable and thread-safe, and is meant to be created once and reused. If the delimiter is
+ * a literal string, or a regular expression matching exactly one string, the input is searched without the regular
+ * expression engine.<br>
+ * Unlike {@code String.split(String)}, a Splitter never drops empty parts: splitting around <em>n</em> delimiters
+ * always yields <em>n + 1</em> parts. A Splitter created with {@link #retainingDelimiters()} also yields each
+ * delimiter as a separate element between the parts, yielding <em>2n + 1</em> elements.<br><br>
+ *
+ * Example usage:
+ *
+ * <pre>{@code  private static final Splitter CSV = Splitter.on(",");
+ *
+ * for (String field : CSV.split(line)) {
+ *     ...
+ * }}</pre>
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public final class Splitter {
+
+	/**
+	 * The literal delimiter, or {@code null} if the delimiter is a regular expression.
+	 */
+	private final String literal;
+
+	/**
+	 * The delimiting pattern, or {@code null} if the delimiter is a literal string.
+	 */
+	private final Pattern pattern;
+
+	/**
+	 * Whether the delimiters are part of the result.
+	 */
+	private final boolean retainDelimiters;
+
+	/**
+	 * Creates a new Splitter.
+	 *
+	 * @param literal The literal delimiter.
+	 * @param pattern The delimiting pattern.
+	 * @param retainDelimiters Whether the delimiters are part of the result.
+	 */
+	private Splitter(String literal, Pattern pattern, boolean retainDelimiters) {
+		this.literal = literal;
+		this.pattern = pattern;
+		this.retainDelimiters = retainDelimiters;
+	}
+
+	/**
+	 * Returns a Splitter splitting around the given literal string.
+	 *
+	 * @param delimiter The delimiter.
+	 * @return A new Splitter instance.
+	 * @throws IllegalArgumentException If the delimiter is empty.
+	 */
+	public static Splitter on(String delimiter) {
+		if (delimiter.isEmpty()) {
+			throw new IllegalArgumentException("The delimiter may not be empty");
+		}
+		return new Splitter(delimiter, null, false);
+	}
+
+	/**
+	 * Returns a Splitter splitting around matches of the given regular expression. The expression is compiled using
+	 * {@link Patterns#compile(String)}, unless it matches exactly one string, in which case the input is searched for
+	 * that string directly.
+	 *
+	 * @param regex The delimiting regular expression.
+	 * @return A new Splitter instance.
+	 * @throws java.util.regex.PatternSyntaxException If the expression's syntax is invalid.
+	 */
+	public static Splitter onPattern(String regex) {
+		String delimiter = Patterns.toLiteral(regex);
+		return (delimiter != null && !delimiter.isEmpty()
+			? new Splitter(delimiter, null, false)
+			: new Splitter(null, Patterns.compile(regex), false));
+	}
+
+	/**
+	 * Returns a Splitter splitting around matches of the given pattern. If the pattern has no flags and matches exactly
+	 * one string, the input is searched for that string directly.
+	 *
+	 * @param pattern The delimiting pattern.
+	 * @return A new Splitter instance.
+	 */
+	public static Splitter on(Pattern pattern) {
+		String delimiter = (pattern.flags() == 0 ? Patterns.toLiteral(pattern.pattern()) : null);
+		return (delimiter != null && !delimiter.isEmpty()
+			? new Splitter(delimiter, null, false)
+			: new Splitter(null, pattern, false));
+	}
+
+	/**
+	 * Returns a Splitter equal to this one, but which also yields the delimiters, each as a separate element between
+	 * the parts. For regular expressions, the delimiter is the text matched by the expression.
+	 *
+	 * @return A Splitter retaining the delimiters.
+	 */
+	public Splitter retainingDelimiters() {
+		return (this.retainDelimiters ? this : new Splitter(this.literal, this.pattern, true));
+	}
+
+	/**
+	 * Returns a Splitter equal to this one, but which drops the delimiters.
+	 *
+	 * @return A Splitter dropping the delimiters.
+	 */
+	public Splitter droppingDelimiters() {
+		return (this.retainDelimiters ? new Splitter(this.literal, this.pattern, false) : this);
+	}
+
+	/**
+	 * Splits the given input lazily. The input is searched only as far as needed to produce the next element, so it
+	 * must not be modified during iteration.
+	 *
+	 * @param input The input to split.
+	 * @return An Iterable over the parts, and the delimiters if they are retained.
+	 */
+	public Iterable<String> split(CharSequence input) {
+		return () -> (this.literal != null ? new LiteralIterator(input) : new PatternIterator(input));
+	}
+
+	/**
+	 * Splits the given input into a list.
+	 *
+	 * @param input The input to split.
+	 * @return A new list with the parts, and the delimiters if they are retained.
+	 */
+	public List<String> splitToList(CharSequence input) {
+		List<String> result = new ArrayList<>();
+		split(input).forEach(result::add);
+		return result;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of {@code needle} in {@code haystack}, starting at {@code fromIndex}.
+	 *
+	 * @param haystack The sequence to search in.
+	 * @param needle The string to search for.
+	 * @param fromIndex The index to start searching from.
+	 * @return The index of the occurrence, or {@code -1} if there is none.
+	 */
+	private static int indexOf(CharSequence haystack, String needle, int fromIndex) {
+		if (haystack instanceof String) {
+			return ((String) haystack).indexOf(needle, fromIndex);
+		}
+		char first = needle.charAt(0);
+		int last = haystack.length() - needle.length();
+		for (int i = fromIndex; i <= last; i++) {
+			if (haystack.charAt(i) != first) {
+				continue;
+			}
+			int j = 1;
+			while (j < needle.length() && haystack.charAt(i + j) == needle.charAt(j)) {
+				j++;
+			}
+			if (j == needle.length()) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * The base class of the split iterators. Subclasses find the delimiters, while this class keeps track of the parts
+	 * and the retained delimiters.
+	 */
+	private abstract class SplitIterator implements Iterator<String> {
+
+		/**
+		 * The input being split.
+		 */
+		protected final CharSequence input;
+
+		/**
+		 * The start of the current part.
+		 */
+		private int start;
+
+		/**
+		 * The delimiter to yield next, if delimiters are retained.
+		 */
+		private String pendingDelimiter;
+
+		/**
+		 * Whether the last part has been yielded.
+		 */
+		private boolean done;
+
+		/**
+		 * Creates a new SplitIterator.
+		 *
+		 * @param input The input being split.
+		 */
+		protected SplitIterator(CharSequence input) {
+			this.input = input;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return !this.done;
+		}
+
+		@Override
+		public String next() {
+			if (this.done) {
+				throw new NoSuchElementException();
+			}
+			if (this.pendingDelimiter != null) {
+				String delimiter = this.pendingDelimiter;
+				this.pendingDelimiter = null;
+				return delimiter;
+			}
+			String part;
+			if (find(this.start)) {
+				part = this.input.subSequence(this.start, delimiterStart()).toString();
+				if (Splitter.this.retainDelimiters) {
+					this.pendingDelimiter = delimiter();
+				}
+				this.start = delimiterEnd();
+			}
+			else {
+				part = this.input.subSequence(this.start, this.input.length()).toString();
+				this.done = true;
+			}
+			return part;
+		}
+
+		/**
+		 * Finds the next delimiter.
+		 *
+		 * @param from The index to start searching from.
+		 * @return Whether a delimiter is found.
+		 */
+		protected abstract boolean find(int from);
+
+		/**
+		 * Returns the start index of the delimiter last found.
+		 *
+		 * @return The start index.
+		 */
+		protected abstract int delimiterStart();
+
+		/**
+		 * Returns the end index of the delimiter last found.
+		 *
+		 * @return The end index, exclusive.
+		 */
+		protected abstract int delimiterEnd();
+
+		/**
+		 * Returns the delimiter last found.
+		 *
+		 * @return The delimiter.
+		 */
+		protected abstract String delimiter();
+	}
+
+	/**
+	 * Splits around a literal delimiter.
+	 */
+	private final class LiteralIterator extends SplitIterator {
+
+		/**
+		 * The index of the delimiter last found.
+		 */
+		private int index;
+
+		/**
+		 * Creates a new LiteralIterator.
+		 *
+		 * @param input The input being split.
+		 */
+		private LiteralIterator(CharSequence input) {
+			super(input);
+		}
+
+		@Override
+		protected boolean find(int from) {
+			this.index = indexOf(this.input, Splitter.this.literal, from);
+			return (this.index != -1);
+		}
+
+		@Override
+		protected int delimiterStart() {
+			return this.index;
+		}
+
+		@Override
+		protected int delimiterEnd() {
+			return this.index + Splitter.this.literal.length();
+		}
+
+		@Override
+		protected String delimiter() {
+			return Splitter.this.literal;
+		}
+	}
+
+	/**
+	 * Splits around matches of a pattern.
+	 */
+	private final class PatternIterator extends SplitIterator {
+
+		/**
+		 * The matcher searching the input.
+		 */
+		private final Matcher matcher;
+
+		/**
+		 * Creates a new PatternIterator.
+		 *
+		 * @param input The input being split.
+		 */
+		private PatternIterator(CharSequence input) {
+			super(input);
+			this.matcher = Splitter.this.pattern.matcher(input);
+		}
+
+		@Override
+		protected boolean find(int from) {
+			return this.matcher.find();
+		}
+
+		@Override
+		protected int delimiterStart() {
+			return this.matcher.start();
+		}
+
+		@Override
+		protected int delimiterEnd() {
+			return this.matcher.end();
+		}
+
+		@Override
+		protected String delimiter() {
+			return this.matcher.group();
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package org.mcemperor.commons.lang.util;
+
+/**
+ * The StringBuilderPool class recycles StringBuilders, so that building a String allocates the String only, instead
+ * of a StringBuilder, its internal array and any arrays replacing it as it grows. Each thread has a single builder,
+ * which is handed out by {@link #acquire()} and given back by {@link #release(StringBuilder)}.<br>
+ * The pool is bounded in two ways. A thread retains only one builder; if that builder is in use, for example because
+ * building one String involves building another, {@code acquire()} returns a new builder, which is discarded on
+ * release. And a builder grown beyond {@link #MAX_RETAINED_CAPACITY} characters is discarded on release, so one huge
+ * String does not pin memory for the lifetime of the thread.<br>
+ * The builders are held in a {@code ThreadLocal}, so each virtual thread gets a builder of its own. That is safe, but
+ * as a virtual thread usually builds few Strings, it saves little; the builder is released along with the thread.<br>
+ * A builder must not be used after it is released, and must not be passed to another thread while acquired. If
+ * building the String may throw an exception, give the builder back using {@link #recycle(StringBuilder)} in a
+ * {@code finally} block; otherwise the builder of the thread remains in use, and the thread no longer benefits from
+ * the pool.<br><br>
+ *
+ * Example usage:
+ *
+ * <pre>{@code  StringBuilder sb = StringBuilderPool.acquire();
+ * try {
+ *     sb.append(prefix);
+ *     Strings.joinTo(sb, elements, ", ");
+ *     return sb.toString();
+ * }
+ * finally {
+ *     StringBuilderPool.recycle(sb);
+ * }}</pre>
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public final class StringBuilderPool {
+
+	/**
+	 * The maximum capacity, in characters, of a builder retained after release.
+	 */
+	public static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+
+	/**
+	 * The initial capacity of a new builder.
+	 */
+	private static final int INITIAL_CAPACITY = 256;
+
+	/**
+	 * The builder of each thread.
+	 */
+	private static final ThreadLocal<Slot> SLOTS = ThreadLocal.withInitial(Slot::new);
+
+	/**
+	 * Private constructor, because this class is a utility class.
+	 */
+	private StringBuilderPool() { }
+
+	/**
+	 * Returns an empty StringBuilder. This is the builder of the current thread if it is not in use, or a new builder
+	 * otherwise.
+	 *
+	 * @return An empty StringBuilder.
+	 */
+	public static StringBuilder acquire() {
+		Slot slot = SLOTS.get();
+		if (slot.inUse) {
+			return new StringBuilder(INITIAL_CAPACITY);
+		}
+		slot.inUse = true;
+		return slot.builder;
+	}
+
+	/**
+	 * Returns the contents of the given builder, and gives the builder back to the pool. The builder must not be used
+	 * afterwards.
+	 *
+	 * @param builder A builder returned by {@link #acquire()}.
+	 * @return The contents of the builder.
+	 */
+	public static String release(StringBuilder builder) {
+		String result = builder.toString();
+		recycle(builder);
+		return result;
+	}
+
+	/**
+	 * Gives the given builder back to the pool, discarding its contents. The builder must not be used afterwards.
+	 *
+	 * @param builder A builder returned by {@link #acquire()}.
+	 */
+	public static void recycle(StringBuilder builder) {
+		Slot slot = SLOTS.get();
+		if (slot.builder != builder) {
+			return;
+		}
+		if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+			slot.builder = new StringBuilder(INITIAL_CAPACITY);
+		}
+		else {
+			builder.setLength(0);
+		}
+		slot.inUse = false;
+	}
+
+	/**
+	 * The builder of a thread.
+	 */
+	private static final class Slot {
+
+		/**
+		 * The builder.
+		 */
+		private StringBuilder builder = new StringBuilder(INITIAL_CAPACITY);
+
+		/**
+		 * Whether the builder has been acquired and not yet released.
+		 */
+		private boolean inUse;
+	}
+}
@@ -1,14 +1,16 @@
 package org.mcemperor.commons.lang.util;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.Stack;
-import java.util.regex.Matcher;
+import java.util.RandomAccess;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.mcemperor.commons.lang.MalformedInputException;
@@ -34,13 +36,24 @@ public class Strings {
 
 	public static final int NORMALIZE_PATH = 8;
 
+	/**
+	 * The length assumed for an element of which the length is unknown, when presizing the buffer of a join.
+	 */
+	private static final int ESTIMATED_ELEMENT_LENGTH = 16;
+
+	/**
+	 * The maximum estimated length of a joined string, to prevent a bad estimate from requesting a huge buffer.
+	 */
+	private static final int MAX_ESTIMATED_LENGTH = 1 << 24;
+
 	/**
 	 * Private constructor, because this class is a utility class.
 	 */
 	private Strings() { }
 
 	/**
-	 * Counts the number of occurences of {@code needle} in {@code haystack}.
+	 * Counts the number of occurences of {@code needle} in {@code haystack}. To count several needles in the same
+	 * haystack, use a {@link SubstringCounter}, which reads the haystack only once.
 	 *
 	 * @param haystack The haystack to search in.
 	 * @param needle The needle to search for.
@@ -63,6 +76,31 @@ public class Strings {
 		return countSubstring(haystack, needle, true);
 	}
 
+	/**
+	 * Counts the number of occurences of {@code needle} in {@code haystack}. The haystack is searched in place, so a
+	 * {@code StringBuilder} or {@code CharBuffer} needs not to be copied first.
+	 *
+	 * @param haystack The haystack to search in.
+	 * @param needle The needle to search for.
+	 * @return The number of occurences of {@code needle} in {@code haystack}.
+	 */
+	public static int countSubstring(CharSequence haystack, CharSequence needle) {
+		return countSubstring(haystack, needle, false);
+	}
+
+	/**
+	 * Counts the number of occurences of {@code needle} in {@code haystack} and also includes doubles, like
+	 * {@link #countSubstringWithOverlap(String, String)}. The haystack is searched in place, so a
+	 * {@code StringBuilder} or {@code CharBuffer} needs not to be copied first.
+	 *
+	 * @param haystack The haystack to search in.
+	 * @param needle The needle to search for.
+	 * @return The number of occurences of {@code needle} in {@code haystack}.
+	 */
+	public static int countSubstringWithOverlap(CharSequence haystack, CharSequence needle) {
+		return countSubstring(haystack, needle, true);
+	}
+
 	/**
 	 * Counts the number of occurences of {@code needle} in {@code haystack}. The parameter {@code overlap} indicates
 	 * whenever to search for doubles. Doubles occur if {@code needle} has a sequence with two equal characters. With
@@ -75,11 +113,11 @@ public class Strings {
 	 * @param doubles Whenever to search for doubles.
 	 * @return The number of occurences of {@code needle} in {@code haystack}.
 	 */
-	private static int countSubstring(String haystack, String needle, boolean overlap) {
+	private static int countSubstring(CharSequence haystack, CharSequence needle, boolean overlap) {
 		int lastIndex = 0;
 		int count = 0;
 		while (true) {
-			lastIndex = haystack.indexOf(needle, lastIndex);
+			lastIndex = indexOf(haystack, needle, lastIndex);
 			if (lastIndex == -1) {
 				break;
 			}
@@ -89,16 +127,61 @@ public class Strings {
 		return count;
 	}
 
+	/**
+	 * Returns the index of the first occurrence of {@code needle} in {@code haystack}, starting at the given index.
+	 * Strings are searched with {@link String#indexOf(String, int)}.
+	 *
+	 * @param haystack The haystack to search in.
+	 * @param needle The needle to search for.
+	 * @param fromIndex The index to start searching at.
+	 * @return The index of the occurrence, or {@code -1} if there is none.
+	 */
+	private static int indexOf(CharSequence haystack, CharSequence needle, int fromIndex) {
+		if (haystack instanceof String && needle instanceof String) {
+			return ((String) haystack).indexOf((String) needle, fromIndex);
+		}
+		int needleLength = needle.length();
+		if (needleLength == 0) {
+			return (fromIndex <= haystack.length() ? fromIndex : -1);
+		}
+		char first = needle.charAt(0);
+		for (int i = fromIndex, last = haystack.length() - needleLength; i <= last; i++) {
+			if (haystack.charAt(i) != first) {
+				continue;
+			}
+			int j = 1;
+			while (j < needleLength && haystack.charAt(i + j) == needle.charAt(j)) {
+				j++;
+			}
+			if (j == needleLength) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
 	/**
 	 * Counts the number of subsequent characters equal to the character denoted in {@code c} at the start of the
 	 * string.
 	 *
 	 * @param str The string to check.
-	 * @param c The character to search for at the end of the string.
+	 * @param c The character to search for at the start of the string.
 	 * @return The number of occurrences.
 	 */
 	public static int countCharsAtStart(String str, char c) {
-		return countCharsAtBoundary(str, c, true);
+		return getNumberOfLeadingChars(str, c);
+	}
+
+	/**
+	 * Counts the number of subsequent characters equal to the character denoted in {@code c} at the start of the
+	 * character sequence.
+	 *
+	 * @param sequence The character sequence to check.
+	 * @param c The character to search for at the start of the character sequence.
+	 * @return The number of occurrences.
+	 */
+	public static int countCharsAtStart(CharSequence sequence, char c) {
+		return getNumberOfLeadingChars(sequence, c);
 	}
 
 	/**
@@ -109,24 +192,19 @@ public class Strings {
 	 * @return The number of occurrences.
 	 */
 	public static int countCharsAtEnd(String str, char c) {
-		return countCharsAtBoundary(str, c, false);
+		return getNumberOfTrailingChars(str, c);
 	}
 
 	/**
-	 * Counts the number of subsequent characters equal to the character denoted in {@code c} at the start or end of the
-	 * string.
+	 * Counts the number of subsequent characters equal to the character denoted in {@code c} at the end of the
+	 * character sequence.
 	 *
-	 * @param str The string to check.
-	 * @param c The character to search for at the end of the string.
-	 * @param start Whether to search at the start (if {@code true}) or end (if {@code false}) of the string.
+	 * @param sequence The character sequence to check.
+	 * @param c The character to search for at the end of the character sequence.
 	 * @return The number of occurrences.
 	 */
-	private static int countCharsAtBoundary(String str, char c, boolean start) {
-		String f = "(?s)";
-		String pattern = f + (start ? "^(" + makeCompatibleToRegex(c) + "+).*?" : ".*?(" + makeCompatibleToRegex(c) + "+)$");
-		Pattern p = Pattern.compile(pattern);
-		Matcher m = p.matcher(str);
-		return (m.matches() ? m.group(1).length() : 0);
+	public static int countCharsAtEnd(CharSequence sequence, char c) {
+		return getNumberOfTrailingChars(sequence, c);
 	}
 
 	/**
@@ -137,8 +215,20 @@ public class Strings {
 	 * @return Whether the given char is found.
 	 */
 	public static boolean containsChar(String str, char c) {
-		for (int i = 0; i < str.length(); i++) {
-			if (c == str.charAt(i)) {
+		return str.indexOf(c) >= 0;
+	}
+
+	/**
+	 * Checks whether the given character sequence contains the given character. The sequence is scanned in place,
+	 * so a {@code StringBuilder} or {@code CharBuffer} needs not to be copied first.
+	 *
+	 * @param sequence The character sequence to search in.
+	 * @param c The char to search for.
+	 * @return Whether the given char is found.
+	 */
+	public static boolean containsChar(CharSequence sequence, char c) {
+		for (int i = 0, length = sequence.length(); i < length; i++) {
+			if (c == sequence.charAt(i)) {
 				return true;
 			}
 		}
@@ -199,7 +289,23 @@ public class Strings {
 	 * @return Whether this string is numeric.
 	 */
 	public static boolean isNumeric(String string) {
-		return string.chars().allMatch(t -> Character.isDigit((char) t));
+		return isNumeric((CharSequence) string);
+	}
+
+	/**
+	 * Checks whether a character sequence is numeric or not, that is, whether all characters are digits. The
+	 * sequence is scanned in place, so a {@code StringBuilder} or {@code CharBuffer} needs not to be copied first.
+	 *
+	 * @param sequence The input character sequence.
+	 * @return Whether this character sequence is numeric.
+	 */
+	public static boolean isNumeric(CharSequence sequence) {
+		for (int i = 0, length = sequence.length(); i < length; i++) {
+			if (!Character.isDigit(sequence.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -307,18 +413,195 @@ public class Strings {
 			case 1:
 				return (startDelimiter + (textWrapper != null ? textWrapper.toString(array.get(0)) : array.get(0).toString()) + endDelimiter);
 			default:
-				StringBuilder buffer = new StringBuilder();
-				buffer.append(startDelimiter);
-				buffer.append(textWrapper != null ? textWrapper.toString(array.get(0)) : array.get(0).toString());
-				buffer.append(endDelimiter);
-				for (int i = 1; i < array.size(); i++) {
-					buffer.append(glue);
-					buffer.append(startDelimiter);
-					buffer.append(textWrapper != null ? textWrapper.toString(array.get(i)) : array.get(i).toString());
-					buffer.append(endDelimiter);
+				StringBuilder buffer = StringBuilderPool.acquire();
+				try {
+					buffer.ensureCapacity(estimateJoinedLength(array, glue, startDelimiter, endDelimiter, textWrapper));
+					return joinTo(buffer, array, glue, startDelimiter, endDelimiter, textWrapper).toString();
+				}
+				catch (IOException exc) {
+					// A StringBuilder never throws an IOException.
+					throw new UncheckedIOException(exc);
 				}
-				return buffer.toString();
+				finally {
+					StringBuilderPool.recycle(buffer);
+				}
+		}
+	}
+
+	/**
+	 * Estimates the length of the string yielded by joining the given list. The lengths of elements which are
+	 * CharSequences are taken as they are; for other elements, a default length is assumed.
+	 *
+	 * @param <T> The type of objects inside the list.
+	 * @param list The list to be joined.
+	 * @param glue The glue to insert among the elements.
+	 * @param startDelimiter The starting delimiter prepended to each element.
+	 * @param endDelimiter The ending delimiter appended to each element.
+	 * @param textWrapper The text wrapper to use, or {@code null}.
+	 * @return The estimated length of the joined string.
+	 */
+	private static <T> int estimateJoinedLength(List<T> list, String glue, String startDelimiter, String endDelimiter, TextWrapper<T> textWrapper) {
+		int size = list.size();
+		long length = (long) size * (startDelimiter.length() + endDelimiter.length()) + (long) (size - 1) * glue.length();
+		if (textWrapper == null && list instanceof RandomAccess) {
+			for (int i = 0; i < size; i++) {
+				T element = list.get(i);
+				length += (element instanceof CharSequence ? ((CharSequence) element).length() : ESTIMATED_ELEMENT_LENGTH);
+			}
+		}
+		else {
+			length += (long) size * ESTIMATED_ELEMENT_LENGTH;
+		}
+		return (int) Math.min(length, MAX_ESTIMATED_LENGTH);
+	}
+
+	/**
+	 * Appends all elements of the given array to {@code target}, with {@code glue} between them. The elements are
+	 * written one by one, so the joined string is never materialized as a whole.
+	 *
+	 * @param <T> The type of objects inside the array.
+	 * @param <A> The type of the target.
+	 * @param target The Appendable to write to, for example a {@code Writer}, {@code StringBuilder} or
+	 * {@code CharBuffer}.
+	 * @param array The array to use.
+	 * @param glue The glue to insert among the elements.
+	 * @return The given target.
+	 * @throws IOException If writing to the target fails.
+	 */
+	public static <T, A extends Appendable> A joinTo(A target, T[] array, String glue) throws IOException {
+		return joinTo(target, Arrays.asList(array), glue, "", "", null);
+	}
+
+	/**
+	 * Appends all elements of the given iterable to {@code target}, with {@code glue} between them. The elements are
+	 * written one by one, so the joined string is never materialized as a whole.
+	 *
+	 * @param <T> The type of objects inside the iterable.
+	 * @param <A> The type of the target.
+	 * @param target The Appendable to write to, for example a {@code Writer}, {@code StringBuilder} or
+	 * {@code CharBuffer}.
+	 * @param elements The elements to join.
+	 * @param glue The glue to insert among the elements.
+	 * @return The given target.
+	 * @throws IOException If writing to the target fails.
+	 */
+	public static <T, A extends Appendable> A joinTo(A target, Iterable<T> elements, String glue) throws IOException {
+		return joinTo(target, elements, glue, "", "", null);
+	}
+
+	/**
+	 * Appends all elements of the given iterable to {@code target}, with {@code glue} between them. The elements are
+	 * written one by one, so the joined string is never materialized as a whole.
+	 *
+	 * @param <T> The type of objects inside the iterable.
+	 * @param <A> The type of the target.
+	 * @param target The Appendable to write to, for example a {@code Writer}, {@code StringBuilder} or
+	 * {@code CharBuffer}.
+	 * @param elements The elements to join.
+	 * @param glue The glue to insert among the elements.
+	 * @param textWrapper The text wrapper to use.
+	 * @return The given target.
+	 * @throws IOException If writing to the target fails.
+	 */
+	public static <T, A extends Appendable> A joinTo(A target, Iterable<T> elements, String glue, TextWrapper<T> textWrapper) throws IOException {
+		return joinTo(target, elements, glue, "", "", textWrapper);
+	}
+
+	/**
+	 * Appends all elements of the given stream to {@code target}, with {@code glue} between them. The stream is
+	 * consumed lazily, so the elements are never collected.
+	 *
+	 * @param <T> The type of objects inside the stream.
+	 * @param <A> The type of the target.
+	 * @param target The Appendable to write to, for example a {@code Writer}, {@code StringBuilder} or
+	 * {@code CharBuffer}.
+	 * @param stream The elements to join.
+	 * @param glue The glue to insert among the elements.
+	 * @return The given target.
+	 * @throws IOException If writing to the target fails.
+	 */
+	public static <T, A extends Appendable> A joinTo(A target, Stream<T> stream, String glue) throws IOException {
+		return joinTo(target, stream, glue, "", "", null);
+	}
+
+	/**
+	 * Appends all elements of the given stream to {@code target}, with {@code glue} between them, first surrounding
+	 * each element with {@code startDelimiter} and {@code endDelimiter}. The stream is consumed lazily, so the elements
+	 * are never collected.
+	 *
+	 * @param <T> The type of objects inside the stream.
+	 * @param <A> The type of the target.
+	 * @param target The Appendable to write to, for example a {@code Writer}, {@code StringBuilder} or
+	 * {@code CharBuffer}.
+	 * @param stream The elements to join.
+	 * @param glue The glue to insert among the elements.
+	 * @param startDelimiter The starting delimiter which is prepended to each element.
+	 * @param endDelimiter The ending delimiter which is appended to each element.
+	 * @param textWrapper The text wrapper to use, or {@code null} to use the element's {@code toString()} method.
+	 * @return The given target.
+	 * @throws IOException If writing to the target fails.
+	 */
+	public static <T, A extends Appendable> A joinTo(A target, Stream<T> stream, String glue, String startDelimiter, String endDelimiter, TextWrapper<T> textWrapper) throws IOException {
+		Iterator<T> iterator = stream.iterator();
+		return joinTo(target, () -> iterator, glue, startDelimiter, endDelimiter, textWrapper);
+	}
+
+	/**
+	 * Appends all elements of the given iterable to {@code target}, with {@code glue} between them, first surrounding
+	 * each element with {@code startDelimiter} and {@code endDelimiter}. The elements are written one by one, so the
+	 * joined string is never materialized as a whole. Elements which are CharSequences are appended as they are,
+	 * without calling their {@code toString()} method.<br>
+	 * The output is the same as the output of {@link #join(List, String, String, String, TextWrapper)}.
+	 *
+	 * @param <T> The type of objects inside the iterable.
+	 * @param <A> The type of the target.
+	 * @param target The Appendable to write to, for example a {@code Writer}, {@code StringBuilder} or
+	 * {@code CharBuffer}.
+	 * @param elements The elements to join.
+	 * @param glue The glue to insert among the elements.
+	 * @param startDelimiter The starting delimiter which is prepended to each element.
+	 * @param endDelimiter The ending delimiter which is appended to each element.
+	 * @param textWrapper The text wrapper to use, or {@code null} to use the element's {@code toString()} method.
+	 * @return The given target.
+	 * @throws IOException If writing to the target fails.
+	 */
+	public static <T, A extends Appendable> A joinTo(A target, Iterable<T> elements, String glue, String startDelimiter, String endDelimiter, TextWrapper<T> textWrapper) throws IOException {
+		Iterator<T> iterator = elements.iterator();
+		if (!iterator.hasNext()) {
+			target.append(startDelimiter).append(endDelimiter);
+			return target;
+		}
+		appendElement(target, iterator.next(), startDelimiter, endDelimiter, textWrapper);
+		while (iterator.hasNext()) {
+			target.append(glue);
+			appendElement(target, iterator.next(), startDelimiter, endDelimiter, textWrapper);
 		}
+		return target;
+	}
+
+	/**
+	 * Appends a single element surrounded by the given delimiters to {@code target}.
+	 *
+	 * @param <T> The type of the element.
+	 * @param target The Appendable to write to.
+	 * @param element The element to append.
+	 * @param startDelimiter The starting delimiter which is prepended to the element.
+	 * @param endDelimiter The ending delimiter which is appended to the element.
+	 * @param textWrapper The text wrapper to use, or {@code null} to use the element's {@code toString()} method.
+	 * @throws IOException If writing to the target fails.
+	 */
+	private static <T> void appendElement(Appendable target, T element, String startDelimiter, String endDelimiter, TextWrapper<T> textWrapper) throws IOException {
+		target.append(startDelimiter);
+		if (textWrapper != null) {
+			target.append(textWrapper.toString(element));
+		}
+		else if (element instanceof CharSequence) {
+			target.append((CharSequence) element);
+		}
+		else {
+			target.append(element.toString());
+		}
+		target.append(endDelimiter);
 	}
 
 	public static String join(char... chars) {
@@ -327,75 +610,20 @@ public class Strings {
 
 	/**
 	 * Gets pieces from a delimited string. This method acts almost in the same manner as {@code String.split(String)},
-	 * but this method supports different starting and ending delimiters.
+	 * but this method supports different starting and ending delimiters. To tokenize lazily, use a {@link Tokenizer}.
 	 *
 	 * @param haystack The haystack to search for.
 	 * @param startDelimiter The starting delimiter of each part.
 	 * @param endDelimiter The ending delimiter of each part.
 	 * @param escapeChar The escape character to escape {@code startDelimiter} and {@code endDelimiter} used as literal
-	 * character.
+	 * character. If it equals {@code endDelimiter}, a doubled ending delimiter is taken literally instead.
 	 * @return A String[] of pieces.
 	 * @throws MalformedInputException If the delimited string is malformed, i.e. delimiters are missing.
+	 * @throws IllegalArgumentException If the escape character equals the starting delimiter but not the ending
+	 * delimiter.
 	 */
 	public static List<String> splitCombined(String haystack, String startDelimiter, String endDelimiter, String escapeChar) throws MalformedInputException {
-		List<String> strs = new ArrayList<>();
-		if (startDelimiter.equals(endDelimiter)) {
-			List<Integer> positions = getDelimitingPositions(haystack, startDelimiter, escapeChar);
-			if (positions.size() % 2 == 1) {
-				throw new MalformedInputException("Malformed data format");
-			}
-			for (int i = 0; i < positions.size(); i += 2) {
-				strs.add(haystack.substring(positions.get(i) + 1, positions.get(i + 1)).replace(escapeChar, ""));
-			}
-		}
-		else {
-			List<Integer> sPositions = getDelimitingPositions(haystack, startDelimiter, escapeChar);
-			List<Integer> ePositions = getDelimitingPositions(haystack, endDelimiter, escapeChar);
-			if (sPositions.size() != ePositions.size()) {
-				throw new MalformedInputException("Malformed data format");
-			}
-			int pointer = -1;
-			for (int i = 0; i < sPositions.size(); i++) {
-				int sPos = sPositions.get(i);
-				int ePos = ePositions.get(i);
-				if (sPos >= ePos || sPos < pointer) {
-					throw new MalformedInputException("Malformed data format.");
-				}
-				strs.add(haystack.substring(sPos + startDelimiter.length(), ePos).replace(escapeChar, ""));
-				pointer = ePos;
-			}
-		}
-		return strs;
-	}
-
-	/**
-	 * Gets all positions of the given {@code needle} inside {@code haystack}.
-	 *
-	 * @param haystack The haystack to search in.
-	 * @param needle The needle to search for.
-	 * @param escapeChar The escape character.
-	 * @return An int array with all occuring positions.
-	 */
-	private static List<Integer> getDelimitingPositions(String haystack, String needle, String escapeChar) {
-		Stack<Integer> stack = new Stack<>();
-		int pointer = 0;
-		while (true) {
-			int pos = haystack.indexOf(needle, pointer);
-			if (pos == -1) {
-				break;
-			}
-			boolean add = ((pos == 0) ? true : !(haystack.substring(pos - escapeChar.length()).startsWith(escapeChar)));
-			if (add) {
-				stack.add(pos);
-			}
-			pointer = pos + 1;
-		}
-		int size = stack.size();
-		List<Integer> positions = new ArrayList<>(size);
-		for (int i = size - 1; i >= 0; i--) {
-			positions.set(i, stack.pop());
-		}
-		return positions;
+		return Tokenizer.enclosed(startDelimiter, endDelimiter, escapeChar).tokenize(haystack);
 	}
 
 	/**
@@ -418,23 +646,13 @@ public class Strings {
 	 * @param delimiters The delimiters.
 	 * @param escapeSequence The sequence where the delimiters can be escaped.
 	 * @return The splitted string.
+	 * @see Tokenizer#inclusive(List, String)
 	 */
 	public static List<String> splitInclusive(String str, List<String> delimiters, String escapeSequence) {
-		List<Integer> positions = new ArrayList<>();
-		// Adds all delimiter positions to the array.
-		positions.add(-1);
-		delimiters.forEach(t -> positions.addAll(getDelimitingPositions(str, t, escapeSequence)));
-		positions.add(str.length() - 1);
-
-		List<Integer> array = positions.stream()
-			.sorted()
-			.collect(Collectors.toList());
-
-		// Save all substrings into a list.
 		List<String> substrings = new ArrayList<>();
-		for (int i = 1; i < array.size(); i++) {
-			substrings.add(str.substring(array.get(i - 1) + 1, array.get(i) + 1));
-		}
+		Tokenizer.inclusive(delimiters, escapeSequence)
+			.iterator(str)
+			.forEachRemaining(substrings::add);
 		return substrings;
 	}
 
@@ -447,7 +665,9 @@ public class Strings {
 	 * @return The splitted parts as a string array.
 	 */
 	public static List<String> chop(String str, String separator) {
-		return chop(str, Pattern.compile(separator));
+		return Splitter.onPattern(separator)
+			.retainingDelimiters()
+			.splitToList(str);
 	}
 
 	/**
@@ -459,16 +679,9 @@ public class Strings {
 	 * @return The splitted parts as a string array.
 	 */
 	public static List<String> chop(String str, Pattern separator) {
-		Matcher m = separator.matcher(str);
-		List<String> chops = new ArrayList<>();
-		int start = 0;
-		while (m.find()) {
-			chops.add(str.substring(start, m.start()));
-			chops.add(m.group());
-			start = m.end();
-		}
-		chops.add(start >= str.length() ? "" : str.substring(start));
-		return chops;
+		return Splitter.on(separator)
+			.retainingDelimiters()
+			.splitToList(str);
 	}
 
 	/**
@@ -490,7 +703,12 @@ public class Strings {
 	 * @return A string with the given number padded with zeros.
 	 */
 	public static String pad(long l, int minimum) {
-		return pad("" + l, minimum, '0');
+		int width = Integers.getWidth(l);
+		char[] chars = new char[Math.max(width, minimum)];
+		int start = chars.length - width;
+		Arrays.fill(chars, 0, start, '0');
+		Integers.getChars(l, chars, start);
+		return new String(chars);
 	}
 
 	/**
@@ -541,11 +759,89 @@ public class Strings {
 		if (str.length() >= minimum) {
 			return str;
 		}
+		char[] chars = new char[minimum];
+		padTo(chars, 0, str, minimum, ch, trailing);
+		return new String(chars);
+	}
+
+	/**
+	 * Writes the given character sequence into {@code target}, padded until it has a minimum length of
+	 * {@code minimum}, using the given character. Nothing but the target is allocated.
+	 *
+	 * @param target The array to write to.
+	 * @param offset The index in {@code target} of the first character to write.
+	 * @param str The character sequence to pad.
+	 * @param minimum The minimum number of characters to write.
+	 * @param ch The padding character.
+	 * @param trailing Whether the padding should be written after the character sequence instead of before it.
+	 * @return The index in {@code target} following the last character written.
+	 * @throws IndexOutOfBoundsException If {@code target} is too short.
+	 */
+	public static int padTo(char[] target, int offset, CharSequence str, int minimum, char ch, boolean trailing) {
+		int length = str.length();
+		int end = offset + Math.max(length, minimum);
+		if (offset < 0 || end > target.length || end < offset) {
+			throw new IndexOutOfBoundsException("Cannot write " + (end - offset) + " characters at " + offset + " into an array of length " + target.length);
+		}
+		int fill = end - offset - length;
+		int start = (trailing ? offset : offset + fill);
+		copyChars(str, target, start);
+		if (trailing) {
+			Arrays.fill(target, offset + length, end, ch);
+		}
+		else {
+			Arrays.fill(target, offset, start, ch);
+		}
+		return end;
+	}
+
+	/**
+	 * Appends the given character sequence to {@code target}, padded until it has a minimum length of
+	 * {@code minimum}, using the given character.
+	 *
+	 * @param <A> The type of the target.
+	 * @param target The Appendable to write to, for example a {@code Writer} or {@code StringBuilder}.
+	 * @param str The character sequence to pad.
+	 * @param minimum The minimum number of characters to write.
+	 * @param ch The padding character.
+	 * @param trailing Whether the padding should be written after the character sequence instead of before it.
+	 * @return The given target.
+	 * @throws IOException If writing to the target fails.
+	 */
+	public static <A extends Appendable> A padTo(A target, CharSequence str, int minimum, char ch, boolean trailing) throws IOException {
 		int fill = minimum - str.length();
+		if (trailing) {
+			target.append(str);
+		}
 		for (int i = 0; i < fill; i++) {
-			str = (trailing ? str + ch : ch + str);
+			target.append(ch);
+		}
+		if (!trailing) {
+			target.append(str);
+		}
+		return target;
+	}
+
+	/**
+	 * Copies all characters of the given character sequence into the given array. Strings and StringBuilders are
+	 * copied in bulk.
+	 *
+	 * @param str The character sequence to copy.
+	 * @param target The array to copy into.
+	 * @param offset The index in {@code target} of the first character.
+	 */
+	static void copyChars(CharSequence str, char[] target, int offset) {
+		if (str instanceof String) {
+			((String) str).getChars(0, str.length(), target, offset);
+		}
+		else if (str instanceof StringBuilder) {
+			((StringBuilder) str).getChars(0, str.length(), target, offset);
+		}
+		else {
+			for (int i = 0, length = str.length(); i < length; i++) {
+				target[offset + i] = str.charAt(i);
+			}
 		}
-		return str;
 	}
 
 	/**
@@ -607,6 +903,7 @@ public class Strings {
 	 * @param str The string to repeat.
 	 * @param count The number of times the string should be repeated.
 	 * @return The resulting repeated string.
+	 * @throws ArithmeticException If the length of the resulting string exceeds {@code Integer.MAX_VALUE}.
 	 */
 	public static String repeat(String str, int count) {
 		if (count < 0) {
@@ -618,11 +915,18 @@ public class Strings {
 		else if (count == 1) {
 			return str;
 		}
-		StringBuilder sb = new StringBuilder(str.length() * count);
-		for (int i = 0; i < count; i++) {
-			sb.append(str);
+		int capacity = Math.multiplyExact(str.length(), count);
+		StringBuilder sb = StringBuilderPool.acquire();
+		try {
+			sb.ensureCapacity(capacity);
+			for (int i = 0; i < count; i++) {
+				sb.append(str);
+			}
+			return sb.toString();
+		}
+		finally {
+			StringBuilderPool.recycle(sb);
 		}
-		return sb.toString();
 	}
 
 	/**
@@ -632,9 +936,14 @@ public class Strings {
 	 * @return The reversed string.
 	 */
 	public static String reverse(String string) {
-		return new StringBuilder(string)
-			.reverse()
-			.toString();
+		Objects.requireNonNull(string);
+		StringBuilder sb = StringBuilderPool.acquire();
+		try {
+			return sb.append(string).reverse().toString();
+		}
+		finally {
+			StringBuilderPool.recycle(sb);
+		}
 	}
 
 	/**
@@ -646,23 +955,21 @@ public class Strings {
 	 * @return A trimmed string.
 	 */
 	public static String trimLeading(String string, char character) {
-		return trimLeading(string, new String(new char[] { character }));
+		return string.substring(getNumberOfLeadingChars(string, character));
 	}
 
 	/**
 	 * Trims all consecutive characters, as long as it is one of the characters specified in {@code chars}, on the
-	 * left side of {@code string} and returns the trimmed string.
+	 * left side of {@code string} and returns the trimmed string. The characters are looked up in {@code chars} directly,
+	 * without allocating; when trimming many strings with a large set of characters, reuse a {@link CharMatcher}
+	 * instead.
 	 *
 	 * @param string The string to trim.
 	 * @param chars A string containing all characters to cut off.
 	 * @return A trimmed string.
 	 */
 	public static String trimLeading(String string, String chars) {
-		StringBuilder regex = new StringBuilder();
-		for (int i = 0; i < chars.length(); i++) {
-			regex.append(makeCompatibleToRegex(chars.charAt(i)));
-		}
-		return string.replaceAll("^[" + regex.toString() + "]+", "");
+		return string.substring(countLeading(string, string.length(), chars));
 	}
 
 	public static String[] trimLeadingWithAlignment(String[] strings) {
@@ -691,23 +998,21 @@ public class Strings {
 	 * @return A trimmed string.
 	 */
 	public static String trimTrailing(String string, char character) {
-		return trimTrailing(string, new String(new char[] { character }));
+		return string.substring(0, string.length() - getNumberOfTrailingChars(string, character));
 	}
 
 	/**
 	 * Trims all consecutive characters, as long as it is one of the characters specified in {@code chars}, on the
-	 * right side of {@code string} and returns the trimmed string.
+	 * right side of {@code string} and returns the trimmed string. The characters are looked up in {@code chars} directly,
+	 * without allocating; when trimming many strings with a large set of characters, reuse a {@link CharMatcher}
+	 * instead.
 	 *
 	 * @param string The string to trim.
 	 * @param chars A string containing all characters to cut off.
 	 * @return A trimmed string.
 	 */
 	public static String trimTrailing(String string, String chars) {
-		StringBuilder regex = new StringBuilder();
-		for (int i = 0; i < chars.length(); i++) {
-			regex.append(makeCompatibleToRegex(chars.charAt(i)));
-		}
-		return string.replaceAll("[" + regex.toString() + "]+$", "");
+		return string.substring(0, trimmedEnd(string, chars));
 	}
 
 	/**
@@ -719,35 +1024,58 @@ public class Strings {
 	 * @return A trimmed string.
 	 */
 	public static String trim(String string, char character) {
-		return trimLeading(trimTrailing(string, character), character);
+		int end = string.length() - getNumberOfTrailingChars(string, character);
+		int begin = 0;
+		while (begin < end && string.charAt(begin) == character) {
+			begin++;
+		}
+		return string.substring(begin, end);
 	}
 
 	/**
 	 * Trims all consecutive characters, as long as it is one of the characters specified in {@code chars}, on both
-	 * sides of {@code string} and returns the trimmed string.
+	 * sides of {@code string} and returns the trimmed string. The characters are looked up in {@code chars} directly,
+	 * without allocating; when trimming many strings with a large set of characters, reuse a {@link CharMatcher}
+	 * instead.
 	 *
 	 * @param string The string to trim.
 	 * @param chars A string containing all characters to cut off.
 	 * @return A trimmed string.
 	 */
 	public static String trim(String string, String chars) {
-		return trimLeading(trimTrailing(string, chars), chars);
+		int end = trimmedEnd(string, chars);
+		return string.substring(countLeading(string, end, chars), end);
 	}
 
 	/**
-	 * Makes a character compatible for use in a regular expression. That means that certain characters will be escaped.
+	 * Returns the number of consecutive characters at the start of the given string which occur in {@code chars}.
 	 *
-	 * @param c The character to transform.
-	 * @return The character, escaped if needed.
+	 * @param string The string to inspect.
+	 * @param end The index at which to stop.
+	 * @param chars The characters to count.
+	 * @return The number of leading characters occurring in {@code chars}.
 	 */
-	private static String makeCompatibleToRegex(char c) {
-		char[] chars = { '?', '*', '+', '^', '$', '(', ')', '[', ']', '{', '}', '/', '\\', '|', '.' };
-		for (char cc : chars) {
-			if (cc == c) {
-				return "\\" + c;
-			}
+	private static int countLeading(String string, int end, String chars) {
+		int begin = 0;
+		while (begin < end && chars.indexOf(string.charAt(begin)) >= 0) {
+			begin++;
+		}
+		return begin;
+	}
+
+	/**
+	 * Returns the index following the last character of the given string which does not occur in {@code chars}.
+	 *
+	 * @param string The string to inspect.
+	 * @param chars The characters to skip at the end.
+	 * @return The end index of the string without its trailing characters occurring in {@code chars}.
+	 */
+	private static int trimmedEnd(String string, String chars) {
+		int end = string.length();
+		while (end > 0 && chars.indexOf(string.charAt(end - 1)) >= 0) {
+			end--;
 		}
-		return "" + c;
+		return end;
 	}
 
 	/**
@@ -788,6 +1116,24 @@ public class Strings {
 		return chunks;
 	}
 
+	/**
+	 * Takes {@code sequence} and splits it into pieces with a size of exactly {@code chunkSize}. The last chunk
+	 * might be smaller if there are no more characters to consume.<br>
+	 * The returned list is an unmodifiable view, which creates each chunk when it is requested, using
+	 * {@link CharSequence#subSequence(int, int)}. For a {@code CharBuffer}, the chunks are views sharing its
+	 * content, so nothing is copied.
+	 *
+	 * @param sequence The character sequence to chunk.
+	 * @param chunkSize The chunk size.
+	 * @return A list with the pieces.
+	 */
+	public static List<CharSequence> chunk(CharSequence sequence, int chunkSize) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("The chunk size must be greater than 0");
+		}
+		return new ChunkList(sequence, chunkSize);
+	}
+
 	public static String chunkToString(String string, int chunkSize) {
 		return chunkToString(string, chunkSize, "\n");
 	}
@@ -798,13 +1144,18 @@ public class Strings {
 
 	public static String firstToUppercase(String str) {
 		String[] words = str.split(" ");
-		StringBuilder sb = new StringBuilder();
-		for (String word : words) {
-			if (word.length() > 0) {
-				sb.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+		StringBuilder sb = StringBuilderPool.acquire();
+		try {
+			for (String word : words) {
+				if (word.length() > 0) {
+					sb.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+				}
 			}
+			return sb.toString();
+		}
+		finally {
+			StringBuilderPool.recycle(sb);
 		}
-		return sb.toString();
 	}
 
 	/**
@@ -838,7 +1189,40 @@ public class Strings {
 	 * @return Whether the input string contains only lowercase characters.
 	 */
 	public static boolean isLowercase(String string, Locale locale) {
-		return string.equals(string.toLowerCase(locale));
+		return isLowercase((CharSequence) string, locale);
+	}
+
+	/**
+	 * Returns whether the given character sequence contains only lowercase characters.
+	 *
+	 * @param sequence The input character sequence.
+	 * @return Whether the input character sequence contains only lowercase characters.
+	 */
+	public static boolean isLowercase(CharSequence sequence) {
+		return isLowercase(sequence, Locale.getDefault());
+	}
+
+	/**
+	 * Returns whether the given character sequence contains only lowercase characters, using the rules of the given
+	 * locale. A sequence of ASCII characters is checked in place; otherwise it is converted to a String, as the case
+	 * mapping of some characters depends on the locale and on the surrounding characters.
+	 *
+	 * @param sequence The input character sequence.
+	 * @param locale The locale to use as reference.
+	 * @return Whether the input character sequence contains only lowercase characters.
+	 */
+	public static boolean isLowercase(CharSequence sequence, Locale locale) {
+		for (int i = 0, length = sequence.length(); i < length; i++) {
+			char c = sequence.charAt(i);
+			if (c >= 0x80) {
+				String string = sequence.toString();
+				return string.equals(string.toLowerCase(locale));
+			}
+			if (c >= 'A' && c <= 'Z') {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -860,7 +1244,40 @@ public class Strings {
 	 * @return Whether the input string contains only uppercase characters.
 	 */
 	public static boolean isUppercase(String string, Locale locale) {
-		return string.equals(string.toUpperCase(locale));
+		return isUppercase((CharSequence) string, locale);
+	}
+
+	/**
+	 * Returns whether the given character sequence contains only uppercase characters.
+	 *
+	 * @param sequence The input character sequence.
+	 * @return Whether the input character sequence contains only uppercase characters.
+	 */
+	public static boolean isUppercase(CharSequence sequence) {
+		return isUppercase(sequence, Locale.getDefault());
+	}
+
+	/**
+	 * Returns whether the given character sequence contains only uppercase characters, using the rules of the given
+	 * locale. A sequence of ASCII characters is checked in place; otherwise it is converted to a String, as the case
+	 * mapping of some characters depends on the locale and on the surrounding characters.
+	 *
+	 * @param sequence The input character sequence.
+	 * @param locale The locale to use as reference.
+	 * @return Whether the input character sequence contains only uppercase characters.
+	 */
+	public static boolean isUppercase(CharSequence sequence, Locale locale) {
+		for (int i = 0, length = sequence.length(); i < length; i++) {
+			char c = sequence.charAt(i);
+			if (c >= 0x80) {
+				String string = sequence.toString();
+				return string.equals(string.toUpperCase(locale));
+			}
+			if (c >= 'a' && c <= 'z') {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -870,87 +1287,173 @@ public class Strings {
 	 * @return Whether the given word is a palindrome or not.
 	 */
 	public static boolean isPalindrome(String word) {
-		if (word.isEmpty()) {
-			return true;
-		}
-		word = word.toLowerCase().replaceAll("[^a-z]", "");
-		int it = (word.length() / 2) + 1;
-		for (int i = 0; i < it; i++) {
-			if (word.charAt(i) != word.charAt(word.length() - i - 1)) {
+		return isPalindrome((CharSequence) word);
+	}
+
+	/**
+	 * Calculates whether the given character sequence is a palindrome. Only the letters {@code a} to {@code z} are
+	 * compared, ignoring case; all other characters are skipped. The sequence is scanned in place from both ends, so
+	 * nothing is copied.
+	 *
+	 * @param sequence The character sequence to check.
+	 * @return Whether the given character sequence is a palindrome or not.
+	 */
+	public static boolean isPalindrome(CharSequence sequence) {
+		int i = 0;
+		int j = sequence.length() - 1;
+		while (true) {
+			while (i < j && !isAsciiLetter(sequence.charAt(i))) {
+				i++;
+			}
+			while (i < j && !isAsciiLetter(sequence.charAt(j))) {
+				j--;
+			}
+			if (i >= j) {
+				return true;
+			}
+			if (Character.toLowerCase(sequence.charAt(i)) != Character.toLowerCase(sequence.charAt(j))) {
 				return false;
 			}
+			i++;
+			j--;
 		}
-		return true;
 	}
 
 	/**
-	 * Normalizes the string to a universal format. This method is often used for uniforming newlines.
+	 * Returns whether the given character, converted to lowercase, is one of the letters {@code a} to {@code z}.
+	 *
+	 * @param c The character.
+	 * @return Whether the character is such a letter.
+	 */
+	private static boolean isAsciiLetter(char c) {
+		char lower = Character.toLowerCase(c);
+		return (lower >= 'a' && lower <= 'z');
+	}
+
+	/**
+	 * Normalizes the string to a universal format. This method is often used for uniforming newlines.<br>
+	 * All normalizations of the scope are applied in a single scan; see {@link Normalizer}.
 	 *
 	 * @param string The input string to be normalized.
 	 * @param scope The scope of what strength the normalization should have.
-	 * @return A new string containing the normalized text.
+	 * @return The normalized text, which is the input string itself if nothing needed normalizing.
 	 */
 	public static String normalize(String string, int scope) {
-		int i = Integer.highestOneBit(scope) * 2;
-		while (i > 0) {
-			i >>>= 1;
-			if (i <= scope) {
-				switch (i) {
-					case 0:
-					default:
-						break;
-					case NORMALIZE_NEWLINES:
-						string = string.replace("\r\n", "\n").replace("\r", "\n");
-						break;
-					case NORMALIZE_SPACE_TO_UNDERSCORE:
-						string = string.replace(" ", "_");
-						break;
-					case NORMALIZE_PATH:
-						string = string.replace("\\", "/");
-						break;
-				}
-				scope -= i;
-			}
-		}
-		return string;
+		return Normalizer.of(scope).normalize(string);
 	}
 
 	public static int shortestLength(Object[] strings) {
-		int[] lengths = new int[strings.length];
-		for (int i = 0; i < strings.length; i++) {
-			lengths[i] = strings[i].toString().length();
+		if (strings.length == 0) {
+			return 0;
+		}
+		int shortest = Integer.MAX_VALUE;
+		for (Object string : strings) {
+			shortest = Math.min(shortest, lengthOf(string));
 		}
-		return IntStream.of(lengths).min().orElse(0);
+		return shortest;
 	}
 
 	public static int longestLength(Object[] strings) {
-		int[] lengths = new int[strings.length];
-		for (int i = 0; i < strings.length; i++) {
-			lengths[i] = strings[i].toString().length();
+		int longest = 0;
+		for (Object string : strings) {
+			longest = Math.max(longest, lengthOf(string));
 		}
-		return IntStream.of(lengths).max().orElse(0);
+		return longest;
+	}
+
+	/**
+	 * Returns the length of the shortest of the given character sequences.
+	 *
+	 * @param sequences The character sequences.
+	 * @return The length of the shortest character sequence, or {@code 0} if there are none.
+	 */
+	public static int shortestLength(Iterable<? extends CharSequence> sequences) {
+		int shortest = Integer.MAX_VALUE;
+		for (CharSequence sequence : sequences) {
+			shortest = Math.min(shortest, sequence.length());
+		}
+		return (shortest == Integer.MAX_VALUE ? 0 : shortest);
+	}
+
+	/**
+	 * Returns the length of the longest of the given character sequences.
+	 *
+	 * @param sequences The character sequences.
+	 * @return The length of the longest character sequence, or {@code 0} if there are none.
+	 */
+	public static int longestLength(Iterable<? extends CharSequence> sequences) {
+		int longest = 0;
+		for (CharSequence sequence : sequences) {
+			longest = Math.max(longest, sequence.length());
+		}
+		return longest;
+	}
+
+	/**
+	 * Returns the length of the string representation of the given object. The length of a character sequence is
+	 * taken directly, without converting it to a String.
+	 *
+	 * @param object The object.
+	 * @return The length of its string representation.
+	 */
+	private static int lengthOf(Object object) {
+		return (object instanceof CharSequence ? ((CharSequence) object).length() : object.toString().length());
 	}
 
+	/**
+	 * Returns the number of consecutive occurrences of {@code c} at the start of the given string.
+	 *
+	 * @param string The string to inspect.
+	 * @param c The character to count.
+	 * @return The number of leading occurrences of the character.
+	 */
 	public static int getNumberOfLeadingChars(String string, char c) {
-		int count = 0;
-		for (int i = 0; i < string.length(); i++) {
-			if (string.charAt(i) != c) {
-				return count;
-			}
-			count++;
+		return getNumberOfLeadingChars((CharSequence) string, c);
+	}
+
+	/**
+	 * Returns the number of consecutive occurrences of {@code c} at the start of the given character sequence. The
+	 * sequence is scanned in place, so a {@code StringBuilder} or {@code CharBuffer} needs not to be copied first.
+	 *
+	 * @param sequence The character sequence to inspect.
+	 * @param c The character to count.
+	 * @return The number of leading occurrences of the character.
+	 */
+	public static int getNumberOfLeadingChars(CharSequence sequence, char c) {
+		int length = sequence.length();
+		int i = 0;
+		while (i < length && sequence.charAt(i) == c) {
+			i++;
 		}
-		return count;
+		return i;
 	}
 
+	/**
+	 * Returns the number of consecutive occurrences of {@code c} at the end of the given string.
+	 *
+	 * @param string The string to inspect.
+	 * @param c The character to count.
+	 * @return The number of trailing occurrences of the character.
+	 */
 	public static int getNumberOfTrailingChars(String string, char c) {
-		int count = 0;
-		for (int i = string.length() - 1; i >= 0; i--) {
-			if (string.charAt(i) != c) {
-				return count;
-			}
-			count++;
+		return getNumberOfTrailingChars((CharSequence) string, c);
+	}
+
+	/**
+	 * Returns the number of consecutive occurrences of {@code c} at the end of the given character sequence. The
+	 * sequence is scanned in place, so a {@code StringBuilder} or {@code CharBuffer} needs not to be copied first.
+	 *
+	 * @param sequence The character sequence to inspect.
+	 * @param c The character to count.
+	 * @return The number of trailing occurrences of the character.
+	 */
+	public static int getNumberOfTrailingChars(CharSequence sequence, char c) {
+		int length = sequence.length();
+		int i = length;
+		while (i > 0 && sequence.charAt(i - 1) == c) {
+			i--;
 		}
-		return count;
+		return length - i;
 	}
 
 	/**
@@ -1003,22 +1506,18 @@ public class Strings {
 	 * delimiters in an isolated context, may be treated as a normal string. For instance, the string {@code bbqwqwqwcc}
 	 * counts two matches of the delimiter string {@code qwqw}, one starting at zero-indexed position 2 and one at
 	 * position 4. However, because they overlap, they are not present as two separate delimiters in the resulting list.
-	 * Instead it yields the list {@code "bb", "qwqw", "qwcc"}.
+	 * Instead it yields the list {@code "bb", "qwqw", "qwcc"}.<br>
+	 * The compiled delimiter is cached. To split repeatedly around the same delimiter, consider reusing a
+	 * {@link Splitter} instead.
 	 *
 	 * @param string The string to split.
 	 * @param delimiter The delimiting regular expression.
 	 * @return A list with strings yielded by splitting the input string around matches of the given regular expression.
 	 */
 	public static List<String> splitRetainingDelimiter(String string, String delimiter) {
-		Matcher m = Pattern.compile(delimiter).matcher(string);
-		Stream.Builder<String> b = Stream.builder();
-		int lastPos = 0;
-		while (m.find()) {
-			b.add(string.substring(lastPos, m.start())).add(m.group());
-			lastPos = m.end();
-		}
-		b.add(string.substring(lastPos));
-		return b.build().collect(Collectors.toList());
+		return Splitter.onPattern(delimiter)
+			.retainingDelimiters()
+			.splitToList(string);
 	}
 
 	/**
@@ -1043,4 +1542,46 @@ public class Strings {
 	public static String nonNull(String string, String defaultValue) {
 		return (string != null ? string : Objects.requireNonNull(defaultValue));
 	}
+
+	/**
+	 * The chunks of a character sequence, created when requested.
+	 */
+	private static final class ChunkList extends AbstractList<CharSequence> implements RandomAccess {
+
+		/**
+		 * The character sequence to chunk.
+		 */
+		private final CharSequence sequence;
+
+		/**
+		 * The chunk size.
+		 */
+		private final int chunkSize;
+
+		/**
+		 * Creates a new ChunkList.
+		 *
+		 * @param sequence The character sequence to chunk.
+		 * @param chunkSize The chunk size.
+		 */
+		private ChunkList(CharSequence sequence, int chunkSize) {
+			this.sequence = sequence;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public CharSequence get(int index) {
+			if (index < 0 || index >= size()) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+			}
+			int start = index * this.chunkSize;
+			return this.sequence.subSequence(start, Math.min(start + this.chunkSize, this.sequence.length()));
+		}
+
+		@Override
+		public int size() {
+			int length = this.sequence.length();
+			return (length / this.chunkSize) + (length % this.chunkSize == 0 ? 0 : 1);
+		}
+	}
 }
@@ -0,0 +1,464 @@
+package org.mcemperor.commons.lang.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The SubstringCounter class counts the occurrences of many needles in a single pass over the haystack. The needles are
+ * compiled once into an Aho-Corasick automaton, which is immutable and can be shared between threads.<br>
+ * The counts are the same as calling {@link Strings#countSubstring(String, String)} or
+ * {@link Strings#countSubstringWithOverlap(String, String)} once for each needle, but the haystack is read only once,
+ * regardless of the number of needles.<br><br>
+ *
+ * Example usage:
+ *
+ * <pre>{@code  private static final SubstringCounter KEYWORDS = SubstringCounter.of("select", "insert", "delete");
+ *
+ * int[] counts = KEYWORDS.count(requestBody);}</pre>
+ *
+ * Large input can be fed in chunks through a {@link Session}, or read from a {@code Reader} using
+ * {@link #count(Reader)}.
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public final class SubstringCounter {
+
+	/**
+	 * The size of the buffer used when reading from a {@code Reader}.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * The needles, in the order they were given.
+	 */
+	private final String[] needles;
+
+	/**
+	 * The character class of each ASCII character. Class {@code 0} contains all characters not present in any needle.
+	 */
+	private final int[] asciiClasses;
+
+	/**
+	 * The sorted non-ASCII characters present in the needles.
+	 */
+	private final char[] otherChars;
+
+	/**
+	 * The character class of each character in {@link #otherChars}, at the same index.
+	 */
+	private final int[] otherClasses;
+
+	/**
+	 * The number of character classes.
+	 */
+	private final int classCount;
+
+	/**
+	 * The transition table of the automaton. The next state of state {@code s} on a character of class {@code c} is
+	 * found at index {@code s * classCount + c}.
+	 */
+	private final int[] transitions;
+
+	/**
+	 * The indices of the needles ending in each state, or {@code null} if no needle ends in that state.
+	 */
+	private final int[][] outputs;
+
+	/**
+	 * For each state, the nearest state along the failure links in which a needle ends, or {@code 0} if there is none.
+	 */
+	private final int[] outputLinks;
+
+	/**
+	 * Creates a new SubstringCounter by compiling the given needles.
+	 *
+	 * @param needles The needles to count.
+	 */
+	private SubstringCounter(String[] needles) {
+		this.needles = needles;
+
+		// Assign a character class to each distinct character occurring in the needles.
+		this.asciiClasses = new int[128];
+		char[] others = new char[Arrays.stream(needles).mapToInt(String::length).sum()];
+		int otherCount = 0;
+		int classes = 1;
+		for (String needle : needles) {
+			for (int i = 0; i < needle.length(); i++) {
+				char c = needle.charAt(i);
+				if (c < 128) {
+					if (this.asciiClasses[c] == 0) {
+						this.asciiClasses[c] = classes++;
+					}
+				}
+				else {
+					others[otherCount++] = c;
+				}
+			}
+		}
+		Arrays.sort(others, 0, otherCount);
+		int unique = 0;
+		for (int i = 0; i < otherCount; i++) {
+			if (unique == 0 || others[unique - 1] != others[i]) {
+				others[unique++] = others[i];
+			}
+		}
+		this.otherChars = Arrays.copyOf(others, unique);
+		this.otherClasses = new int[unique];
+		for (int i = 0; i < unique; i++) {
+			this.otherClasses[i] = classes++;
+		}
+		this.classCount = classes;
+
+		// Build the trie, with -1 marking a missing transition.
+		int maxStates = others.length + 1;
+		int[] table = new int[maxStates * this.classCount];
+		Arrays.fill(table, -1);
+		int[][] out = new int[maxStates][];
+		int states = 1;
+		for (int n = 0; n < needles.length; n++) {
+			int state = 0;
+			for (int i = 0; i < needles[n].length(); i++) {
+				int index = state * this.classCount + classOf(needles[n].charAt(i));
+				if (table[index] == -1) {
+					table[index] = states++;
+				}
+				state = table[index];
+			}
+			out[state] = append(out[state], n);
+		}
+
+		// Compute the failure links breadth-first and turn the trie into a complete transition table.
+		int[] failure = new int[states];
+		int[] links = new int[states];
+		Deque<Integer> queue = new ArrayDeque<>();
+		for (int c = 0; c < this.classCount; c++) {
+			int next = table[c];
+			if (next == -1) {
+				table[c] = 0;
+			}
+			else {
+				queue.add(next);
+			}
+		}
+		while (!queue.isEmpty()) {
+			int state = queue.poll();
+			int fail = failure[state];
+			for (int c = 0; c < this.classCount; c++) {
+				int index = state * this.classCount + c;
+				int next = table[index];
+				if (next == -1) {
+					table[index] = table[fail * this.classCount + c];
+				}
+				else {
+					int nextFail = table[fail * this.classCount + c];
+					failure[next] = nextFail;
+					links[next] = (out[nextFail] != null ? nextFail : links[nextFail]);
+					queue.add(next);
+				}
+			}
+		}
+		this.transitions = Arrays.copyOf(table, states * this.classCount);
+		this.outputs = Arrays.copyOf(out, states);
+		this.outputLinks = links;
+	}
+
+	/**
+	 * Compiles a SubstringCounter for the given needles.
+	 *
+	 * @param needles The needles to count. Duplicates are allowed and are counted separately.
+	 * @return A new SubstringCounter instance.
+	 * @throws IllegalArgumentException If any of the needles is empty.
+	 */
+	public static SubstringCounter of(String... needles) {
+		for (String needle : needles) {
+			if (needle.isEmpty()) {
+				throw new IllegalArgumentException("Needles may not be empty");
+			}
+		}
+		return new SubstringCounter(needles.clone());
+	}
+
+	/**
+	 * Compiles a SubstringCounter for the given needles.
+	 *
+	 * @param needles The needles to count. Duplicates are allowed and are counted separately.
+	 * @return A new SubstringCounter instance.
+	 * @throws IllegalArgumentException If any of the needles is empty.
+	 */
+	public static SubstringCounter of(Collection<String> needles) {
+		return of(needles.toArray(new String[needles.size()]));
+	}
+
+	/**
+	 * Returns the needles of this counter. The counts returned by this class are in the same order.
+	 *
+	 * @return An unmodifiable list with the needles.
+	 */
+	public List<String> needles() {
+		return Collections.unmodifiableList(Arrays.asList(this.needles));
+	}
+
+	/**
+	 * Counts the number of occurrences of each needle in {@code haystack}. The whole occurrence of a needle is
+	 * consumed, so occurrences of the same needle do not overlap.
+	 *
+	 * @param haystack The haystack to search in.
+	 * @return The number of occurrences of each needle, in the order of {@link #needles()}.
+	 */
+	public int[] count(CharSequence haystack) {
+		return toIntArray(newSession().feed(haystack).counts());
+	}
+
+	/**
+	 * Counts the number of occurrences of each needle in {@code haystack}, including overlapping occurrences of the
+	 * same needle.
+	 *
+	 * @param haystack The haystack to search in.
+	 * @return The number of occurrences of each needle, in the order of {@link #needles()}.
+	 */
+	public int[] countWithOverlap(CharSequence haystack) {
+		return toIntArray(newSessionWithOverlap().feed(haystack).counts());
+	}
+
+	/**
+	 * Counts the number of non-overlapping occurrences of each needle in the characters read from the given reader. The
+	 * reader is read until its end, but is not closed.
+	 *
+	 * @param reader The reader to read the haystack from.
+	 * @return The number of occurrences of each needle, in the order of {@link #needles()}.
+	 * @throws IOException If reading fails.
+	 */
+	public long[] count(Reader reader) throws IOException {
+		return newSession().feed(reader).counts();
+	}
+
+	/**
+	 * Counts the number of occurrences of each needle in the characters read from the given reader, including
+	 * overlapping occurrences of the same needle. The reader is read until its end, but is not closed.
+	 *
+	 * @param reader The reader to read the haystack from.
+	 * @return The number of occurrences of each needle, in the order of {@link #needles()}.
+	 * @throws IOException If reading fails.
+	 */
+	public long[] countWithOverlap(Reader reader) throws IOException {
+		return newSessionWithOverlap().feed(reader).counts();
+	}
+
+	/**
+	 * Starts a new counting session, which counts non-overlapping occurrences in a haystack fed in chunks.
+	 *
+	 * @return A new Session.
+	 */
+	public Session newSession() {
+		return new Session(false);
+	}
+
+	/**
+	 * Starts a new counting session, which counts overlapping occurrences in a haystack fed in chunks.
+	 *
+	 * @return A new Session.
+	 */
+	public Session newSessionWithOverlap() {
+		return new Session(true);
+	}
+
+	/**
+	 * Returns the character class of the given character.
+	 *
+	 * @param c The character.
+	 * @return The character class, or {@code 0} if the character does not occur in any of the needles.
+	 */
+	private int classOf(char c) {
+		if (c < 128) {
+			return this.asciiClasses[c];
+		}
+		int index = Arrays.binarySearch(this.otherChars, c);
+		return (index >= 0 ? this.otherClasses[index] : 0);
+	}
+
+	/**
+	 * Returns a copy of the given array with the given value appended.
+	 *
+	 * @param array The array, or {@code null}.
+	 * @param value The value to append.
+	 * @return A new array.
+	 */
+	private static int[] append(int[] array, int value) {
+		if (array == null) {
+			return new int[] { value };
+		}
+		int[] result = Arrays.copyOf(array, array.length + 1);
+		result[array.length] = value;
+		return result;
+	}
+
+	/**
+	 * Converts the given counts to ints.
+	 *
+	 * @param counts The counts to convert.
+	 * @return An int array with the same counts.
+	 */
+	private static int[] toIntArray(long[] counts) {
+		int[] result = new int[counts.length];
+		for (int i = 0; i < counts.length; i++) {
+			result[i] = (int) counts[i];
+		}
+		return result;
+	}
+
+	/**
+	 * A Session counts occurrences in a haystack which is fed in chunks, for example while it is being read from a
+	 * stream. Occurrences spanning the boundary between two chunks are counted as well.<br>
+	 * A Session is not thread-safe; each thread should start its own session from the shared SubstringCounter.
+	 */
+	public final class Session {
+
+		/**
+		 * Whether overlapping occurrences of the same needle are counted.
+		 */
+		private final boolean overlap;
+
+		/**
+		 * The number of occurrences of each needle so far.
+		 */
+		private final long[] counts;
+
+		/**
+		 * For each needle, the first position at which a next non-overlapping occurrence may start.
+		 */
+		private final long[] nextStarts;
+
+		/**
+		 * The current state of the automaton.
+		 */
+		private int state;
+
+		/**
+		 * The number of characters fed so far.
+		 */
+		private long position;
+
+		/**
+		 * Creates a new Session.
+		 *
+		 * @param overlap Whether overlapping occurrences of the same needle are counted.
+		 */
+		private Session(boolean overlap) {
+			this.overlap = overlap;
+			this.counts = new long[SubstringCounter.this.needles.length];
+			this.nextStarts = (overlap ? null : new long[SubstringCounter.this.needles.length]);
+		}
+
+		/**
+		 * Feeds the given characters to this session.
+		 *
+		 * @param chunk The next chunk of the haystack.
+		 * @return This Session, to allow method call chaining.
+		 */
+		public Session feed(CharSequence chunk) {
+			for (int i = 0; i < chunk.length(); i++) {
+				next(chunk.charAt(i));
+			}
+			return this;
+		}
+
+		/**
+		 * Feeds the given characters to this session.
+		 *
+		 * @param chunk An array containing the next chunk of the haystack.
+		 * @param offset The index of the first character to feed.
+		 * @param length The number of characters to feed.
+		 * @return This Session, to allow method call chaining.
+		 */
+		public Session feed(char[] chunk, int offset, int length) {
+			int end = offset + length;
+			for (int i = offset; i < end; i++) {
+				next(chunk[i]);
+			}
+			return this;
+		}
+
+		/**
+		 * Feeds the remaining characters of the given buffer to this session. Upon return, the position of the buffer is
+		 * equal to its limit.
+		 *
+		 * @param chunk A buffer containing the next chunk of the haystack.
+		 * @return This Session, to allow method call chaining.
+		 */
+		public Session feed(CharBuffer chunk) {
+			while (chunk.hasRemaining()) {
+				next(chunk.get());
+			}
+			return this;
+		}
+
+		/**
+		 * Feeds all characters read from the given reader to this session. The reader is read until its end, but is not
+		 * closed.
+		 *
+		 * @param reader The reader to read the haystack from.
+		 * @return This Session, to allow method call chaining.
+		 * @throws IOException If reading fails.
+		 */
+		public Session feed(Reader reader) throws IOException {
+			char[] buffer = new char[BUFFER_SIZE];
+			int read;
+			while ((read = reader.read(buffer)) != -1) {
+				feed(buffer, 0, read);
+			}
+			return this;
+		}
+
+		/**
+		 * Returns the number of occurrences of each needle in all characters fed so far.
+		 *
+		 * @return The number of occurrences of each needle, in the order of {@link SubstringCounter#needles()}.
+		 */
+		public long[] counts() {
+			return this.counts.clone();
+		}
+
+		/**
+		 * Advances the automaton with the given character and records the needles ending at it.
+		 *
+		 * @param c The next character.
+		 */
+		private void next(char c) {
+			this.state = SubstringCounter.this.transitions[this.state * SubstringCounter.this.classCount + classOf(c)];
+			int[][] out = SubstringCounter.this.outputs;
+			int s = (out[this.state] != null ? this.state : SubstringCounter.this.outputLinks[this.state]);
+			while (s != 0) {
+				for (int n : out[s]) {
+					record(n);
+				}
+				s = SubstringCounter.this.outputLinks[s];
+			}
+			this.position++;
+		}
+
+		/**
+		 * Records an occurrence of the given needle ending at the current position.
+		 *
+		 * @param needle The index of the needle.
+		 */
+		private void record(int needle) {
+			if (this.overlap) {
+				this.counts[needle]++;
+				return;
+			}
+			long start = this.position + 1 - SubstringCounter.this.needles[needle].length();
+			if (start >= this.nextStarts[needle]) {
+				this.counts[needle]++;
+				this.nextStarts[needle] = this.position + 1;
+			}
+		}
+	}
+}
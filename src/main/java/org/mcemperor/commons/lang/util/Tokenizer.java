@@ -0,0 +1,420 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.mcemperor.commons.lang.MalformedInputException;
+import org.mcemperor.commons.lang.UncheckedMalformedInputException;
+
+/**
+ * The Tokenizer class splits character sequences into tokens in a single pass, honouring an escape sequence. A
+ * Tokenizer is immutable and thread-safe, and is meant to be created once and reused. Two kinds of tokenizers are
+ * available:
+ * <ul>
+ * <li>An <em>enclosed</em> tokenizer, created by {@link #enclosed(String, String, String)}, yields the parts of the
+ * input between a starting and an ending delimiter. Text outside of the delimiters is ignored. Escape sequences inside
+ * a token are removed, and a delimiter or escape sequence directly preceded by the escape sequence is taken
+ * literally. If the escape sequence equals the ending delimiter, a doubled ending delimiter inside a token is taken
+ * literally instead, as with the quotes of SQL and CSV.</li>
+ * <li>An <em>inclusive</em> tokenizer, created by {@link #inclusive(List, String)}, splits the input after each
+ * delimiter, leaving the delimiter as part of the preceding token. A delimiter directly preceded by the escape
+ * sequence does not split the input. Escape sequences are kept in the tokens.</li>
+ * </ul>
+ *
+ * The tokens can be collected into a list, or produced lazily through an {@code Iterator} or {@code Stream}. Only the
+ * tokens themselves are allocated.<br><br>
+ *
+ * Example usage:
+ *
+ * <pre>{@code  private static final Tokenizer QUOTED = Tokenizer.enclosed("\"", "\"", "\\");
+ *
+ * QUOTED.stream(line)
+ *     .forEach(System.out::println);}</pre>
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public final class Tokenizer {
+
+	/**
+	 * The starting delimiter of an enclosed tokenizer, or {@code null} if this is an inclusive tokenizer.
+	 */
+	private final String startDelimiter;
+
+	/**
+	 * The ending delimiter of an enclosed tokenizer, or {@code null} if this is an inclusive tokenizer.
+	 */
+	private final String endDelimiter;
+
+	/**
+	 * The delimiters of an inclusive tokenizer, longest first, or {@code null} if this is an enclosed tokenizer.
+	 */
+	private final String[] delimiters;
+
+	/**
+	 * The escape sequence, which is empty if escaping is not supported.
+	 */
+	private final String escapeSequence;
+
+	/**
+	 * Creates a new Tokenizer.
+	 *
+	 * @param startDelimiter The starting delimiter of an enclosed tokenizer.
+	 * @param endDelimiter The ending delimiter of an enclosed tokenizer.
+	 * @param delimiters The delimiters of an inclusive tokenizer.
+	 * @param escapeSequence The escape sequence, or {@code null}.
+	 */
+	private Tokenizer(String startDelimiter, String endDelimiter, String[] delimiters, String escapeSequence) {
+		this.startDelimiter = startDelimiter;
+		this.endDelimiter = endDelimiter;
+		this.delimiters = delimiters;
+		this.escapeSequence = Strings.nonNull(escapeSequence);
+	}
+
+	/**
+	 * Creates a Tokenizer yielding the parts of the input enclosed by {@code startDelimiter} and {@code endDelimiter}.
+	 * The delimiters may be equal, for instance when tokenizing quoted strings.<br>
+	 * The escape sequence may equal the ending delimiter; a doubled ending delimiter inside a token then stands for the
+	 * delimiter itself, so {@code enclosed("'", "'", "'")} reads {@code 'it''s'} as {@code it's}.
+	 *
+	 * @param startDelimiter The starting delimiter of each token.
+	 * @param endDelimiter The ending delimiter of each token.
+	 * @param escapeSequence The sequence to escape the delimiters with, or {@code null} or an empty string if the
+	 * delimiters cannot be escaped.
+	 * @return A new Tokenizer instance.
+	 * @throws IllegalArgumentException If any of the delimiters is empty, or if the escape sequence equals the starting
+	 * delimiter but not the ending delimiter.
+	 */
+	public static Tokenizer enclosed(String startDelimiter, String endDelimiter, String escapeSequence) {
+		if (startDelimiter.isEmpty() || endDelimiter.isEmpty()) {
+			throw new IllegalArgumentException("Delimiters may not be empty");
+		}
+		if (startDelimiter.equals(escapeSequence) && !endDelimiter.equals(escapeSequence)) {
+			throw new IllegalArgumentException("The escape sequence may not equal the start delimiter only");
+		}
+		return new Tokenizer(startDelimiter, endDelimiter, null, escapeSequence);
+	}
+
+	/**
+	 * Creates a Tokenizer splitting the input after each of the given delimiters, leaving the delimiter as part of the
+	 * preceding token. If several delimiters match at the same position, the longest one is used.
+	 *
+	 * @param delimiters The delimiters.
+	 * @param escapeSequence The sequence to escape the delimiters with, or {@code null} or an empty string if the
+	 * delimiters cannot be escaped.
+	 * @return A new Tokenizer instance.
+	 * @throws IllegalArgumentException If any of the delimiters is empty.
+	 */
+	public static Tokenizer inclusive(List<String> delimiters, String escapeSequence) {
+		String[] sorted = delimiters.toArray(new String[delimiters.size()]);
+		for (String delimiter : sorted) {
+			if (delimiter.isEmpty()) {
+				throw new IllegalArgumentException("Delimiters may not be empty");
+			}
+		}
+		Arrays.sort(sorted, Comparator.comparingInt(String::length).reversed());
+		return new Tokenizer(null, null, sorted, escapeSequence);
+	}
+
+	/**
+	 * Splits the given input into tokens.
+	 *
+	 * @param input The input to tokenize.
+	 * @return A list with the tokens.
+	 * @throws MalformedInputException If the input of an enclosed tokenizer is malformed, that is, a delimiter is
+	 * missing or tokens are nested.
+	 */
+	public List<String> tokenize(CharSequence input) throws MalformedInputException {
+		List<String> tokens = new ArrayList<>();
+		try {
+			iterator(input).forEachRemaining(tokens::add);
+		}
+		catch (UncheckedMalformedInputException exc) {
+			throw exc.getCause();
+		}
+		return tokens;
+	}
+
+	/**
+	 * Returns an iterator lazily producing the tokens of the given input. The input is scanned only as far as needed
+	 * to produce the next token, so it must not be modified during iteration.
+	 *
+	 * @param input The input to tokenize.
+	 * @return An Iterator over the tokens.
+	 * @throws UncheckedMalformedInputException Upon iteration, if the input of an enclosed tokenizer is malformed.
+	 */
+	public Iterator<String> iterator(CharSequence input) {
+		return (this.delimiters == null ? new EnclosedIterator(input) : new InclusiveIterator(input));
+	}
+
+	/**
+	 * Returns a sequential stream lazily producing the tokens of the given input.
+	 *
+	 * @param input The input to tokenize.
+	 * @return A Stream of the tokens.
+	 * @throws UncheckedMalformedInputException Upon consumption, if the input of an enclosed tokenizer is malformed.
+	 */
+	public Stream<String> stream(CharSequence input) {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(input), Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	/**
+	 * Returns whether {@code input} contains {@code part} at the given position.
+	 *
+	 * @param input The input.
+	 * @param position The position to check.
+	 * @param part The part to search for.
+	 * @return Whether the part is found at the given position.
+	 */
+	private static boolean matchesAt(CharSequence input, int position, String part) {
+		int length = part.length();
+		if (length == 0 || position + length > input.length()) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (input.charAt(position + i) != part.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the inclusive delimiter found at the given position.
+	 *
+	 * @param input The input.
+	 * @param position The position to check.
+	 * @return The longest delimiter found at the given position, or {@code null} if there is none.
+	 */
+	private String delimiterAt(CharSequence input, int position) {
+		for (String delimiter : this.delimiters) {
+			if (matchesAt(input, position, delimiter)) {
+				return delimiter;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * The base class of the token iterators, which computes each token ahead of time.
+	 */
+	private abstract static class TokenIterator implements Iterator<String> {
+
+		/**
+		 * The input being tokenized.
+		 */
+		protected final CharSequence input;
+
+		/**
+		 * The position of the scanner within the input.
+		 */
+		protected int position;
+
+		/**
+		 * The next token, or {@code null} if it is not yet computed.
+		 */
+		private String next;
+
+		/**
+		 * Creates a new TokenIterator.
+		 *
+		 * @param input The input being tokenized.
+		 */
+		protected TokenIterator(CharSequence input) {
+			this.input = input;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (this.next == null) {
+				this.next = computeNext();
+			}
+			return (this.next != null);
+		}
+
+		@Override
+		public String next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			String token = this.next;
+			this.next = null;
+			return token;
+		}
+
+		/**
+		 * Scans the input for the next token.
+		 *
+		 * @return The next token, or {@code null} if there are no more tokens.
+		 */
+		protected abstract String computeNext();
+	}
+
+	/**
+	 * Iterates over the tokens of an enclosed tokenizer.
+	 */
+	private final class EnclosedIterator extends TokenIterator {
+
+		/**
+		 * Creates a new EnclosedIterator.
+		 *
+		 * @param input The input being tokenized.
+		 */
+		private EnclosedIterator(CharSequence input) {
+			super(input);
+		}
+
+		@Override
+		protected String computeNext() {
+			String start = Tokenizer.this.startDelimiter;
+			String end = Tokenizer.this.endDelimiter;
+			String escape = Tokenizer.this.escapeSequence;
+			boolean distinct = !start.equals(end);
+			boolean doubled = escape.equals(end);
+			int length = this.input.length();
+
+			// Skip everything up to the next unescaped starting delimiter.
+			while (true) {
+				if (this.position >= length) {
+					return null;
+				}
+				if (!doubled && matchesAt(this.input, this.position, escape)) {
+					this.position += escape.length();
+					this.position += skipDelimiter(start, end);
+				}
+				else if (matchesAt(this.input, this.position, start)) {
+					this.position += start.length();
+					break;
+				}
+				else if (distinct && matchesAt(this.input, this.position, end)) {
+					throw malformed("Unexpected end delimiter at position " + this.position);
+				}
+				else {
+					this.position++;
+				}
+			}
+
+			// Collect the token up to the next unescaped ending delimiter. A builder is only needed if the token
+			// contains escape sequences.
+			int tokenStart = this.position;
+			int copied = this.position;
+			StringBuilder sb = null;
+			while (this.position < length) {
+				if (doubled && matchesAt(this.input, this.position, end) && matchesAt(this.input, this.position + end.length(), end)) {
+					if (sb == null) {
+						sb = new StringBuilder();
+					}
+					sb.append(this.input, copied, this.position + end.length());
+					this.position += 2 * end.length();
+					copied = this.position;
+				}
+				else if (!doubled && matchesAt(this.input, this.position, escape)) {
+					if (sb == null) {
+						sb = new StringBuilder();
+					}
+					sb.append(this.input, copied, this.position);
+					this.position += escape.length();
+					copied = this.position;
+					this.position += skipDelimiter(end, start);
+				}
+				else if (matchesAt(this.input, this.position, end)) {
+					String token = (sb == null
+						? this.input.subSequence(tokenStart, this.position).toString()
+						: sb.append(this.input, copied, this.position).toString());
+					this.position += end.length();
+					return token;
+				}
+				else if (distinct && matchesAt(this.input, this.position, start)) {
+					throw malformed("Nested start delimiter at position " + this.position);
+				}
+				else {
+					this.position++;
+				}
+			}
+			throw malformed("Missing end delimiter for the token starting at position " + tokenStart);
+		}
+
+		/**
+		 * Returns the length of the escaped delimiter or escape sequence at the current position.
+		 *
+		 * @param first The delimiter to check first.
+		 * @param second The delimiter to check second.
+		 * @return The length of the delimiter or escape sequence found, or {@code 0} if none is found.
+		 */
+		private int skipDelimiter(String first, String second) {
+			if (matchesAt(this.input, this.position, Tokenizer.this.escapeSequence)) {
+				return Tokenizer.this.escapeSequence.length();
+			}
+			else if (matchesAt(this.input, this.position, first)) {
+				return first.length();
+			}
+			else if (matchesAt(this.input, this.position, second)) {
+				return second.length();
+			}
+			return 0;
+		}
+
+		/**
+		 * Creates an exception reporting malformed input.
+		 *
+		 * @param message The message.
+		 * @return A new UncheckedMalformedInputException.
+		 */
+		private UncheckedMalformedInputException malformed(String message) {
+			return new UncheckedMalformedInputException(new MalformedInputException("Malformed data format: " + message));
+		}
+	}
+
+	/**
+	 * Iterates over the tokens of an inclusive tokenizer.
+	 */
+	private final class InclusiveIterator extends TokenIterator {
+
+		/**
+		 * Whether the last token has been produced.
+		 */
+		private boolean done;
+
+		/**
+		 * Creates a new InclusiveIterator.
+		 *
+		 * @param input The input being tokenized.
+		 */
+		private InclusiveIterator(CharSequence input) {
+			super(input);
+		}
+
+		@Override
+		protected String computeNext() {
+			if (this.done) {
+				return null;
+			}
+			String escape = Tokenizer.this.escapeSequence;
+			int length = this.input.length();
+			int tokenStart = this.position;
+			while (this.position < length) {
+				if (matchesAt(this.input, this.position, escape)) {
+					this.position += escape.length();
+					String escaped = (matchesAt(this.input, this.position, escape) ? escape : delimiterAt(this.input, this.position));
+					this.position += (escaped != null ? escaped.length() : 0);
+					continue;
+				}
+				String delimiter = delimiterAt(this.input, this.position);
+				if (delimiter != null) {
+					this.position += delimiter.length();
+					return this.input.subSequence(tokenStart, this.position).toString();
+				}
+				this.position++;
+			}
+			this.done = true;
+			return this.input.subSequence(tokenStart, length).toString();
+		}
+	}
+}
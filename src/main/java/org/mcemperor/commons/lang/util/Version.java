@@ -1,17 +1,12 @@
 package org.mcemperor.commons.lang.util;
 
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-import java.util.OptionalInt;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import org.mcemperor.commons.lang.builder.EqualsBuilder;
-import org.mcemperor.commons.lang.builder.HashCodeBuilder;
-import org.mcemperor.commons.lang.stream.Streams;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * The Version class represents a version with multiple version components, for example {@code 2.3.5}.
+ * The Version class represents a version with multiple version components, for example {@code 2.3.5}. Trailing zero
+ * components are insignificant, so {@code 2.0} is equal to {@code 2}.
  *
  * @author Maurits de Jong
  * @since 2015-03-26
@@ -19,9 +14,29 @@ import org.mcemperor.commons.lang.stream.Streams;
 public class Version implements Comparable<Version> {
 
 	/**
-	 * The version number components.
+	 * The maximum number of entries in each of the interning caches.
 	 */
-	private final List<Integer> components;
+	private static final int CACHE_SIZE = 4096;
+
+	/**
+	 * The canonical Version instances returned by {@link #intern(Version)}.
+	 */
+	private static final Map<Version, Version> INTERNED = new ConcurrentHashMap<>();
+
+	/**
+	 * The Version instances returned by {@link #parseCached(String)}, by their textual representation.
+	 */
+	private static final Map<String, Version> PARSED = new ConcurrentHashMap<>();
+
+	/**
+	 * The version number components, without trailing zeros.
+	 */
+	private final int[] components;
+
+	/**
+	 * The precomputed hash code.
+	 */
+	private final int hashCode;
 
 	/**
 	 * Constructs a Version instance with the given version number components.
@@ -29,25 +44,117 @@ public class Version implements Comparable<Version> {
 	 * @param version The version components.
 	 */
 	public Version(int... version) {
-		OptionalInt index = Streams.reversedIndices(Integers.boxed(version))
-			.filter(i -> version[i] != 0)
-			.findFirst();
-		List<Integer> comps = Arrays.stream(version)
-			.limit(index.getAsInt() + 1)
-			.boxed()
-			.collect(Collectors.toList());
-		this.components = Collections.unmodifiableList(comps);
+		int length = version.length;
+		while (length > 0 && version[length - 1] == 0) {
+			length--;
+		}
+		this.components = Arrays.copyOf(version, length);
+		this.hashCode = Arrays.hashCode(this.components);
 	}
 
 	/**
 	 * Constructs a Version instance with the given version.
 	 *
 	 * @param version The version number as a string.
+	 * @throws NumberFormatException If the string is not a sequence of integers separated by dots.
 	 */
 	public Version(String version) {
-		this(Arrays.asList(version.split("\\.")).stream()
-			.mapToInt(Integer::valueOf)
-			.toArray());
+		this(parse(version));
+	}
+
+	/**
+	 * Parses the given version string into its components, without using regular expressions.
+	 *
+	 * @param version The version number as a string.
+	 * @return The version components.
+	 * @throws NumberFormatException If the string is not a sequence of integers separated by dots.
+	 */
+	private static int[] parse(String version) {
+		int length = version.length();
+		int count = 1;
+		for (int i = 0; i < length; i++) {
+			if (version.charAt(i) == '.') {
+				count++;
+			}
+		}
+		int[] components = new int[count];
+		int position = 0;
+		for (int c = 0; c < count; c++) {
+			boolean negative = false;
+			if (position < length && (version.charAt(position) == '-' || version.charAt(position) == '+')) {
+				negative = (version.charAt(position) == '-');
+				position++;
+			}
+			int start = position;
+			long value = 0;
+			while (position < length && version.charAt(position) != '.') {
+				int digit = version.charAt(position) - '0';
+				if (digit < 0 || digit > 9) {
+					throw new NumberFormatException("Invalid version: \"" + version + "\"");
+				}
+				value = value * 10 + digit;
+				if (value > Integer.MAX_VALUE + 1L) {
+					throw new NumberFormatException("Version component out of range: \"" + version + "\"");
+				}
+				position++;
+			}
+			if (position == start || (!negative && value > Integer.MAX_VALUE)) {
+				throw new NumberFormatException("Invalid version: \"" + version + "\"");
+			}
+			components[c] = (int) (negative ? -value : value);
+			position++;
+		}
+		return components;
+	}
+
+	/**
+	 * Returns a Version parsed from the given string. Versions parsed by this method are cached, so repeatedly parsing
+	 * the same string yields the same instance. The cache is bounded; once it is full, new strings are parsed without
+	 * being cached.
+	 *
+	 * @param version The version number as a string.
+	 * @return The Version instance.
+	 * @throws NumberFormatException If the string is not a sequence of integers separated by dots.
+	 */
+	public static Version parseCached(String version) {
+		Version parsed = PARSED.get(version);
+		if (parsed == null) {
+			parsed = intern(new Version(version));
+			if (PARSED.size() < CACHE_SIZE) {
+				PARSED.putIfAbsent(version, parsed);
+			}
+		}
+		return parsed;
+	}
+
+	/**
+	 * Returns the canonical instance of the given version. For two equal versions, this method returns the same
+	 * instance. The cache is bounded; once it is full, versions not yet cached are returned as they are.
+	 *
+	 * @param version The version to intern.
+	 * @return The canonical instance equal to the given version.
+	 */
+	public static Version intern(Version version) {
+		Version interned = INTERNED.get(version);
+		if (interned != null) {
+			return interned;
+		}
+		if (INTERNED.size() >= CACHE_SIZE) {
+			return version;
+		}
+		interned = INTERNED.putIfAbsent(version, version);
+		return (interned != null ? interned : version);
+	}
+
+	/**
+	 * Returns the version component at the given position. Positions beyond the last significant component yield
+	 * {@code 0}, so for version {@code 2.3}, position {@code 2} yields {@code 0}.
+	 *
+	 * @param position The zero-based position of the component.
+	 * @return The version component.
+	 */
+	public int getComponent(int position) {
+		return (position < this.components.length ? this.components[position] : 0);
 	}
 
 	/**
@@ -58,9 +165,14 @@ public class Version implements Comparable<Version> {
 	 */
 	@Override
 	public boolean equals(Object o) {
-		return new EqualsBuilder<>(this, o)
-			.test(t -> t.components)
-			.isEqual();
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof Version)) {
+			return false;
+		}
+		Version other = (Version) o;
+		return this.hashCode == other.hashCode && Arrays.equals(this.components, other.components);
 	}
 
 	/**
@@ -70,9 +182,7 @@ public class Version implements Comparable<Version> {
 	 */
 	@Override
 	public int hashCode() {
-		return new HashCodeBuilder<>(this)
-			.add(t -> t.components)
-			.get();
+		return this.hashCode;
 	}
 
 	/**
@@ -87,12 +197,11 @@ public class Version implements Comparable<Version> {
 		if (this == o) {
 			return 0;
 		}
-		int max = Math.max(this.components.size(), o.components.size());
+		int[] these = this.components;
+		int[] those = o.components;
+		int max = Math.max(these.length, those.length);
 		for (int i = 0; i < max; i++) {
-			int valueOfThis = (i < this.components.size() ? this.components.get(i) : 0);
-			int valueOfOther = (i < o.components.size() ? o.components.get(i) : 0);
-
-			int compare = valueOfThis - valueOfOther;
+			int compare = Integer.compare(i < these.length ? these[i] : 0, i < those.length ? those[i] : 0);
 			if (compare != 0) {
 				return compare;
 			}
@@ -108,9 +217,9 @@ public class Version implements Comparable<Version> {
 	 * @return A new Version with the upgrade
 	 */
 	public Version upgrade(int position) {
-		return new Version(IntStream.rangeClosed(0, position)
-			.map(i -> (i < this.components.size() ? this.components.get(i) : 0) + Booleans.toInt(position == i))
-			.toArray());
+		int[] upgraded = Arrays.copyOf(this.components, position + 1);
+		upgraded[position]++;
+		return new Version(upgraded);
 	}
 
 	/**
@@ -120,6 +229,14 @@ public class Version implements Comparable<Version> {
 	 */
 	@Override
 	public String toString() {
-		return Strings.join(this.components.toArray(), ".");
+		if (this.components.length == 0) {
+			return "0";
+		}
+		StringBuilder sb = new StringBuilder(this.components.length * 4);
+		sb.append(this.components[0]);
+		for (int i = 1; i < this.components.length; i++) {
+			sb.append('.').append(this.components[i]);
+		}
+		return sb.toString();
 	}
 }
@@ -0,0 +1,295 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+
+/**
+ * The VersionIndex class is a sorted, immutable set of {@link Version}s, answering range queries in logarithmic time.
+ * Duplicate versions are stored once. Each query locates the boundaries of a {@link VersionRange} by binary search,
+ * using {@link Version#compareTo(Version)}, instead of testing every version against the range.<br><br>
+ *
+ * Example usage:
+ *
+ * <pre>{@code  VersionIndex index = VersionIndex.of(availableVersions);
+ * Optional<Version> resolved = index.latest(VersionRange.parse("^1.4"));}</pre>
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public final class VersionIndex {
+
+	/**
+	 * The distinct versions, in ascending order.
+	 */
+	private final Version[] versions;
+
+	/**
+	 * Creates a new VersionIndex.
+	 *
+	 * @param versions The distinct versions, in ascending order.
+	 */
+	private VersionIndex(Version[] versions) {
+		this.versions = versions;
+	}
+
+	/**
+	 * Returns a VersionIndex containing the given versions.
+	 *
+	 * @param versions The versions to index.
+	 * @return A new VersionIndex instance.
+	 */
+	public static VersionIndex of(Version... versions) {
+		return of(Arrays.asList(versions));
+	}
+
+	/**
+	 * Returns a VersionIndex containing the given versions.
+	 *
+	 * @param versions The versions to index.
+	 * @return A new VersionIndex instance.
+	 */
+	public static VersionIndex of(Collection<Version> versions) {
+		Version[] sorted = versions.toArray(new Version[0]);
+		Arrays.sort(sorted);
+		int size = 0;
+		for (int i = 0; i < sorted.length; i++) {
+			if (size == 0 || sorted[size - 1].compareTo(sorted[i]) != 0) {
+				sorted[size++] = sorted[i];
+			}
+		}
+		return new VersionIndex(Arrays.copyOf(sorted, size));
+	}
+
+	/**
+	 * Returns the number of distinct versions in this index.
+	 *
+	 * @return The number of versions.
+	 */
+	public int size() {
+		return this.versions.length;
+	}
+
+	/**
+	 * Returns all versions in this index, in ascending order.
+	 *
+	 * @return An unmodifiable list with the versions.
+	 */
+	public List<Version> versions() {
+		return new Slice(0, this.versions.length);
+	}
+
+	/**
+	 * Returns whether this index contains the given version.
+	 *
+	 * @param version The version to look up.
+	 * @return Whether the version is present.
+	 */
+	public boolean contains(Version version) {
+		return (Arrays.binarySearch(this.versions, version) >= 0);
+	}
+
+	/**
+	 * Returns the versions satisfying the given range, in ascending order. The returned list is a view of this index,
+	 * so obtaining it does not copy any versions.
+	 *
+	 * @param range The range to satisfy.
+	 * @return An unmodifiable list with the matching versions.
+	 */
+	public List<Version> matching(VersionRange range) {
+		int from = fromIndex(range);
+		int to = toIndex(range);
+		return new Slice(from, Math.max(from, to));
+	}
+
+	/**
+	 * Returns the number of versions satisfying the given range.
+	 *
+	 * @param range The range to satisfy.
+	 * @return The number of matching versions.
+	 */
+	public int count(VersionRange range) {
+		return Math.max(0, toIndex(range) - fromIndex(range));
+	}
+
+	/**
+	 * Returns the highest version satisfying the given range.
+	 *
+	 * @param range The range to satisfy.
+	 * @return The highest matching version, or an empty Optional if no version matches.
+	 */
+	public Optional<Version> latest(VersionRange range) {
+		int to = toIndex(range);
+		return (to > fromIndex(range) ? Optional.of(this.versions[to - 1]) : Optional.empty());
+	}
+
+	/**
+	 * Returns the lowest version satisfying the given range.
+	 *
+	 * @param range The range to satisfy.
+	 * @return The lowest matching version, or an empty Optional if no version matches.
+	 */
+	public Optional<Version> earliest(VersionRange range) {
+		int from = fromIndex(range);
+		return (from < toIndex(range) ? Optional.of(this.versions[from]) : Optional.empty());
+	}
+
+	/**
+	 * Returns the highest version satisfying each of the given ranges. Each range is resolved in logarithmic time.
+	 *
+	 * @param ranges The ranges to satisfy.
+	 * @return A list with, for each range at the same position, the highest matching version, or an empty Optional if
+	 * no version matches that range.
+	 */
+	public List<Optional<Version>> latest(List<VersionRange> ranges) {
+		List<Optional<Version>> result = new ArrayList<>(ranges.size());
+		for (VersionRange range : ranges) {
+			result.add(latest(range));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the highest version less than or equal to the given version.
+	 *
+	 * @param version The version to search for.
+	 * @return The floor version, or an empty Optional if there is none.
+	 */
+	public Optional<Version> floor(Version version) {
+		return element(upperBound(version) - 1);
+	}
+
+	/**
+	 * Returns the lowest version greater than or equal to the given version.
+	 *
+	 * @param version The version to search for.
+	 * @return The ceiling version, or an empty Optional if there is none.
+	 */
+	public Optional<Version> ceiling(Version version) {
+		return element(lowerBound(version));
+	}
+
+	/**
+	 * Returns the highest version strictly less than the given version.
+	 *
+	 * @param version The version to search for.
+	 * @return The lower version, or an empty Optional if there is none.
+	 */
+	public Optional<Version> lower(Version version) {
+		return element(lowerBound(version) - 1);
+	}
+
+	/**
+	 * Returns the lowest version strictly greater than the given version.
+	 *
+	 * @param version The version to search for.
+	 * @return The higher version, or an empty Optional if there is none.
+	 */
+	public Optional<Version> higher(Version version) {
+		return element(upperBound(version));
+	}
+
+	/**
+	 * Returns the version at the given index, if that index exists.
+	 *
+	 * @param index The index.
+	 * @return The version, or an empty Optional if the index is out of bounds.
+	 */
+	private Optional<Version> element(int index) {
+		return (index >= 0 && index < this.versions.length ? Optional.of(this.versions[index]) : Optional.empty());
+	}
+
+	/**
+	 * Returns the index of the first version satisfying the lower bound of the given range.
+	 *
+	 * @param range The range.
+	 * @return The index, inclusive.
+	 */
+	private int fromIndex(VersionRange range) {
+		Version lower = range.getLower();
+		if (lower == null) {
+			return 0;
+		}
+		return (range.isLowerInclusive() ? lowerBound(lower) : upperBound(lower));
+	}
+
+	/**
+	 * Returns the index after the last version satisfying the upper bound of the given range.
+	 *
+	 * @param range The range.
+	 * @return The index, exclusive.
+	 */
+	private int toIndex(VersionRange range) {
+		Version upper = range.getUpper();
+		if (upper == null) {
+			return this.versions.length;
+		}
+		return (range.isUpperInclusive() ? upperBound(upper) : lowerBound(upper));
+	}
+
+	/**
+	 * Returns the index of the first version greater than or equal to the given version.
+	 *
+	 * @param version The version.
+	 * @return The index, between {@code 0} and {@code size()} inclusive.
+	 */
+	private int lowerBound(Version version) {
+		int index = Arrays.binarySearch(this.versions, version);
+		return (index >= 0 ? index : -index - 1);
+	}
+
+	/**
+	 * Returns the index of the first version strictly greater than the given version.
+	 *
+	 * @param version The version.
+	 * @return The index, between {@code 0} and {@code size()} inclusive.
+	 */
+	private int upperBound(Version version) {
+		int index = Arrays.binarySearch(this.versions, version);
+		return (index >= 0 ? index + 1 : -index - 1);
+	}
+
+	/**
+	 * An unmodifiable view of a contiguous part of the index.
+	 */
+	private final class Slice extends AbstractList<Version> implements RandomAccess {
+
+		/**
+		 * The first index of the slice, inclusive.
+		 */
+		private final int from;
+
+		/**
+		 * The last index of the slice, exclusive.
+		 */
+		private final int to;
+
+		/**
+		 * Creates a new Slice.
+		 *
+		 * @param from The first index, inclusive.
+		 * @param to The last index, exclusive.
+		 */
+		private Slice(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		public Version get(int index) {
+			if (index < 0 || index >= size()) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+			}
+			return VersionIndex.this.versions[this.from + index];
+		}
+
+		@Override
+		public int size() {
+			return this.to - this.from;
+		}
+	}
+}
@@ -0,0 +1,295 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.Objects;
+import org.mcemperor.commons.lang.builder.EqualsBuilder;
+import org.mcemperor.commons.lang.builder.HashCodeBuilder;
+import org.mcemperor.commons.lang.builder.HashMixing;
+
+/**
+ * The VersionRange class represents an interval of {@link Version}s. Each bound is either inclusive, exclusive or
+ * absent. A VersionRange is immutable.<br><br>
+ *
+ * The following notations are supported by {@link #parse(String)}:
+ * <table summary="Supported notations">
+ * <tr><th>Notation</th><th>Meaning</th></tr>
+ * <tr><td>{@code [1.0,2.0)}</td><td>{@code 1.0 <= v < 2.0}; square brackets are inclusive, parentheses
+ * exclusive</td></tr>
+ * <tr><td>{@code [1.0,)}, {@code (,2.0]}</td><td>a range without an upper or lower bound</td></tr>
+ * <tr><td>{@code [1.5]}, {@code 1.5}</td><td>exactly {@code 1.5}</td></tr>
+ * <tr><td>{@code ^1.2.3}</td><td>{@code 1.2.3 <= v < 2}; the first non-zero component may not change, so
+ * {@code ^0.2.3} means {@code 0.2.3 <= v < 0.3}</td></tr>
+ * <tr><td>{@code ~1.2.3}</td><td>{@code 1.2.3 <= v < 1.3}; only the components after the minor component may change,
+ * and {@code ~1} means {@code 1 <= v < 2}</td></tr>
+ * <tr><td>{@code >=1.0}, {@code >1.0}, {@code <=2.0}, {@code <2.0}</td><td>a range with a single bound</td></tr>
+ * <tr><td>{@code *}</td><td>all versions</td></tr>
+ * </table>
+ *
+ * @author Maurits de Jong
+ * @since 2026-10-18
+ */
+public final class VersionRange {
+
+	/**
+	 * The range containing all versions.
+	 */
+	private static final VersionRange ALL = new VersionRange(null, false, null, false);
+
+	/**
+	 * The lower bound, or {@code null} if the range has no lower bound.
+	 */
+	private final Version lower;
+
+	/**
+	 * Whether the lower bound is part of the range.
+	 */
+	private final boolean lowerInclusive;
+
+	/**
+	 * The upper bound, or {@code null} if the range has no upper bound.
+	 */
+	private final Version upper;
+
+	/**
+	 * Whether the upper bound is part of the range.
+	 */
+	private final boolean upperInclusive;
+
+	/**
+	 * Creates a new VersionRange.
+	 *
+	 * @param lower The lower bound, or {@code null}.
+	 * @param lowerInclusive Whether the lower bound is part of the range.
+	 * @param upper The upper bound, or {@code null}.
+	 * @param upperInclusive Whether the upper bound is part of the range.
+	 */
+	private VersionRange(Version lower, boolean lowerInclusive, Version upper, boolean upperInclusive) {
+		this.lower = lower;
+		this.lowerInclusive = (lower != null && lowerInclusive);
+		this.upper = upper;
+		this.upperInclusive = (upper != null && upperInclusive);
+	}
+
+	/**
+	 * Returns a VersionRange with the given bounds.
+	 *
+	 * @param lower The lower bound, or {@code null} if the range has no lower bound.
+	 * @param lowerInclusive Whether the lower bound is part of the range.
+	 * @param upper The upper bound, or {@code null} if the range has no upper bound.
+	 * @param upperInclusive Whether the upper bound is part of the range.
+	 * @return A new VersionRange instance.
+	 * @throws IllegalArgumentException If the lower bound is greater than the upper bound.
+	 */
+	public static VersionRange of(Version lower, boolean lowerInclusive, Version upper, boolean upperInclusive) {
+		if (lower != null && upper != null && lower.compareTo(upper) > 0) {
+			throw new IllegalArgumentException("The lower bound " + lower + " is greater than the upper bound " + upper);
+		}
+		return new VersionRange(lower, lowerInclusive, upper, upperInclusive);
+	}
+
+	/**
+	 * Returns a VersionRange containing only the given version.
+	 *
+	 * @param version The version.
+	 * @return A new VersionRange instance.
+	 */
+	public static VersionRange exactly(Version version) {
+		return new VersionRange(Objects.requireNonNull(version), true, version, true);
+	}
+
+	/**
+	 * Returns the VersionRange containing all versions.
+	 *
+	 * @return The VersionRange without bounds.
+	 */
+	public static VersionRange all() {
+		return ALL;
+	}
+
+	/**
+	 * Parses a VersionRange from the given string. See the class documentation for the supported notations.
+	 *
+	 * @param range The range to parse.
+	 * @return The parsed VersionRange.
+	 * @throws IllegalArgumentException If the string is not a valid range.
+	 */
+	public static VersionRange parse(String range) {
+		String r = range.trim();
+		if (r.isEmpty()) {
+			throw new IllegalArgumentException("Empty version range");
+		}
+		char first = r.charAt(0);
+		if (r.equals("*")) {
+			return ALL;
+		}
+		else if (first == '[' || first == '(') {
+			return parseInterval(r);
+		}
+		else if (first == '^' || first == '~') {
+			String text = r.substring(1).trim();
+			Version version = new Version(text);
+			int components = Strings.countSubstring(text, ".") + 1;
+			int position;
+			if (first == '~') {
+				position = Math.min(1, components - 1);
+			}
+			else {
+				position = components - 1;
+				for (int i = 0; i < components; i++) {
+					if (version.getComponent(i) != 0) {
+						position = i;
+						break;
+					}
+				}
+			}
+			return new VersionRange(version, true, version.upgrade(position), false);
+		}
+		else if (r.startsWith(">=")) {
+			return new VersionRange(new Version(r.substring(2).trim()), true, null, false);
+		}
+		else if (r.startsWith("<=")) {
+			return new VersionRange(null, false, new Version(r.substring(2).trim()), true);
+		}
+		else if (first == '>') {
+			return new VersionRange(new Version(r.substring(1).trim()), false, null, false);
+		}
+		else if (first == '<') {
+			return new VersionRange(null, false, new Version(r.substring(1).trim()), false);
+		}
+		else {
+			return exactly(new Version(r));
+		}
+	}
+
+	/**
+	 * Parses a range in interval notation.
+	 *
+	 * @param range The trimmed range, starting with a bracket or parenthesis.
+	 * @return The parsed VersionRange.
+	 * @throws IllegalArgumentException If the string is not a valid interval.
+	 */
+	private static VersionRange parseInterval(String range) {
+		char last = range.charAt(range.length() - 1);
+		if (range.length() < 2 || (last != ']' && last != ')')) {
+			throw new IllegalArgumentException("Unterminated version range: \"" + range + "\"");
+		}
+		boolean lowerInclusive = (range.charAt(0) == '[');
+		boolean upperInclusive = (last == ']');
+		String body = range.substring(1, range.length() - 1);
+		int comma = body.indexOf(',');
+		if (comma == -1) {
+			if (!lowerInclusive || !upperInclusive) {
+				throw new IllegalArgumentException("A single version must be enclosed in square brackets: \"" + range + "\"");
+			}
+			return exactly(new Version(body.trim()));
+		}
+		if (body.indexOf(',', comma + 1) != -1) {
+			throw new IllegalArgumentException("Too many bounds in version range: \"" + range + "\"");
+		}
+		String lower = body.substring(0, comma).trim();
+		String upper = body.substring(comma + 1).trim();
+		return of(lower.isEmpty() ? null : new Version(lower), lowerInclusive, upper.isEmpty() ? null : new Version(upper), upperInclusive);
+	}
+
+	/**
+	 * Returns the lower bound of this range.
+	 *
+	 * @return The lower bound, or {@code null} if this range has no lower bound.
+	 */
+	public Version getLower() {
+		return this.lower;
+	}
+
+	/**
+	 * Returns whether the lower bound is part of this range.
+	 *
+	 * @return Whether the lower bound is inclusive.
+	 */
+	public boolean isLowerInclusive() {
+		return this.lowerInclusive;
+	}
+
+	/**
+	 * Returns the upper bound of this range.
+	 *
+	 * @return The upper bound, or {@code null} if this range has no upper bound.
+	 */
+	public Version getUpper() {
+		return this.upper;
+	}
+
+	/**
+	 * Returns whether the upper bound is part of this range.
+	 *
+	 * @return Whether the upper bound is inclusive.
+	 */
+	public boolean isUpperInclusive() {
+		return this.upperInclusive;
+	}
+
+	/**
+	 * Returns whether the given version lies within this range.
+	 *
+	 * @param version The version to test.
+	 * @return Whether the version satisfies this range.
+	 */
+	public boolean contains(Version version) {
+		if (this.lower != null) {
+			int compare = version.compareTo(this.lower);
+			if (compare < 0 || (compare == 0 && !this.lowerInclusive)) {
+				return false;
+			}
+		}
+		if (this.upper != null) {
+			int compare = version.compareTo(this.upper);
+			if (compare > 0 || (compare == 0 && !this.upperInclusive)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if this object is equal to the given object.
+	 *
+	 * @param o The object to compare.
+	 * @return Whether this instance is equal to the given object.
+	 */
+	@Override
+	public boolean equals(Object o) {
+		return new EqualsBuilder<>(this, o)
+			.test(t -> t.lower)
+			.test(t -> t.lowerInclusive)
+			.test(t -> t.upper)
+			.test(t -> t.upperInclusive)
+			.isEqual();
+	}
+
+	/**
+	 * Returns the hash code for this object.
+	 *
+	 * @return The hash code as an int.
+	 */
+	@Override
+	public int hashCode() {
+		return HashCodeBuilder.of(this, HashMixing.ORDERED)
+			.add(t -> t.lower)
+			.add(t -> t.lowerInclusive)
+			.add(t -> t.upper)
+			.add(t -> t.upperInclusive)
+			.get();
+	}
+
+	/**
+	 * Returns a textual representation of this range, in interval notation.
+	 *
+	 * @return This range as a string, for example {@code [1.2,2)}.
+	 */
+	@Override
+	public String toString() {
+		return (this.lowerInclusive ? "[" : "(")
+			+ (this.lower != null ? this.lower.toString() : "")
+			+ ","
+			+ (this.upper != null ? this.upper.toString() : "")
+			+ (this.upperInclusive ? "]" : ")");
+	}
+}
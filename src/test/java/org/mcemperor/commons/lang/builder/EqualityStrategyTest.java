@@ -0,0 +1,117 @@
+package org.mcemperor.commons.lang.builder;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.Objects;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class EqualityStrategyTest {
+
+	private static final class Sample {
+
+		final String name;
+
+		final int id;
+
+		final double balance;
+
+		final long[] values;
+
+		private Sample(String name, int id, double balance, long... values) {
+			this.name = name;
+			this.id = id;
+			this.balance = balance;
+			this.values = values;
+		}
+	}
+
+	private static final EqualityStrategy<Sample> STRATEGY = EqualityStrategy.of(Sample.class, MethodHandles.lookup())
+		.field("name")
+		.field("id")
+		.field("balance")
+		.field("values");
+
+	@Test
+	public void testEqualizer() {
+		Equalizer<Sample> equalizer = STRATEGY.equalizer();
+		Sample sample = new Sample("a", 1, 2.5, 3, 4);
+
+		assertTrue(equalizer.areEqual(sample, sample));
+		assertTrue(equalizer.areEqual(sample, new Sample(new String("a"), 1, 2.5, 3, 4)));
+		assertTrue(equalizer.areEqual(new Sample(null, 1, Double.NaN), new Sample(null, 1, Double.NaN)));
+		assertFalse(equalizer.areEqual(sample, new Sample("b", 1, 2.5, 3, 4)));
+		assertFalse(equalizer.areEqual(sample, new Sample("a", 2, 2.5, 3, 4)));
+		assertFalse(equalizer.areEqual(sample, new Sample("a", 1, 2.5, 3, 5)));
+		assertFalse(equalizer.areEqual(new Sample("a", 1, 0.0), new Sample("a", 1, -0.0)));
+		assertFalse(equalizer.areEqual(sample, null));
+		assertFalse(equalizer.areEqual(sample, "a"));
+	}
+
+	@Test
+	public void testHasher() {
+		Hasher<Sample> hasher = STRATEGY.hasher();
+		Sample sample = new Sample("a", 1, 2.5, 3, 4);
+
+		assertEquals(Objects.hash("a", 1, 2.5, Arrays.hashCode(new long[] { 3, 4 })), hasher.hash(sample));
+		assertEquals(hasher.hash(sample), hasher.hash(new Sample("a", 1, 2.5, 3, 4)));
+		assertEquals(0, hasher.hash(null));
+	}
+
+	@Test
+	public void testFunctionalFields() {
+		EqualityStrategy<Sample> strategy = EqualityStrategy.of(Sample.class, MethodHandles.lookup())
+			.intField(t -> t.id)
+			.doubleField(t -> t.balance)
+			.longField(t -> t.values.length)
+			.field(t -> t.name);
+		Sample sample = new Sample("a", 1, 2.5, 3, 4);
+
+		assertTrue(strategy.equalizer().areEqual(sample, new Sample("a", 1, 2.5, 5, 6)));
+		assertFalse(strategy.equalizer().areEqual(sample, new Sample("a", 1, 2.5, 5)));
+		assertEquals(Objects.hash(1, 2.5, 2L, "a"), strategy.hasher().hash(sample));
+		assertNotEquals(strategy.hasher().hash(sample), strategy.hasher().hash(new Sample("a", 1, 2.5)));
+	}
+
+	@Test
+	public void testEmptyStrategy() {
+		EqualityStrategy<Sample> strategy = EqualityStrategy.of(Sample.class, MethodHandles.lookup());
+		assertTrue(strategy.equalizer().areEqual(new Sample("a", 1, 2.5), new Sample("b", 2, 3.5)));
+		assertEquals(1, strategy.hasher().hash(new Sample("a", 1, 2.5)));
+	}
+
+	private static final class Grid {
+
+		final int[][] cells;
+
+		private Grid(int[][] cells) {
+			this.cells = cells;
+		}
+	}
+
+	@Test
+	public void testNestedArrayField() {
+		EqualityStrategy<Grid> strategy = EqualityStrategy.of(Grid.class, MethodHandles.lookup()).field("cells");
+		Grid grid = new Grid(new int[][] { { 1, 2 }, { 3 } });
+		Grid same = new Grid(new int[][] { { 1, 2 }, { 3 } });
+
+		assertTrue(strategy.equalizer().areEqual(grid, same));
+		assertFalse(strategy.equalizer().areEqual(grid, new Grid(new int[][] { { 1, 2 }, { 4 } })));
+		assertEquals(strategy.hasher().hash(grid), strategy.hasher().hash(same));
+		assertEquals(31 + Arrays.deepHashCode(grid.cells), strategy.hasher().hash(grid));
+		assertTrue(new EqualsBuilder<>(grid, same).testArray(t -> t.cells).isEqual());
+		assertEquals(HashCodeBuilder.of(grid).addArray(t -> t.cells).get(), HashCodeBuilder.of(same).addArray(t -> t.cells).get());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownField() {
+		EqualityStrategy.of(Sample.class, MethodHandles.lookup()).field("unknown");
+	}
+}
@@ -89,4 +89,38 @@ public class EqualsBuilderTest {
 
 		assertFalse(result);
 	}
+
+	@Test
+	public void testPrimitives() {
+		assertTrue(new EqualsBuilder<>("abc", "abc")
+			.testInt(String::length)
+			.testInt(t -> t.charAt(0))
+			.testLong(t -> t.length() * 10_000_000_000L)
+			.testDouble(t -> Double.NaN)
+			.isEqual());
+		assertFalse(new EqualsBuilder<>("abc", "abcd")
+			.testInt(String::length)
+			.isEqual());
+		assertFalse(new EqualsBuilder<>("a", "b")
+			.testLong(t -> t.charAt(0))
+			.isEqual());
+		assertFalse(new EqualsBuilder<>("a", "b")
+			.testDouble(t -> t.equals("a") ? 0.0 : -0.0)
+			.isEqual());
+	}
+
+	@Test
+	public void testArray() {
+		assertTrue(new EqualsBuilder<>("abc", new String("abc"))
+			.testArray(String::toCharArray)
+			.testArray(t -> new int[][] { { t.length() } })
+			.isEqual());
+		assertFalse(new EqualsBuilder<>("abc", "abd")
+			.testArray(String::toCharArray)
+			.isEqual());
+		assertFalse(new EqualsBuilder<>("abc", "abd")
+			.test(String::toCharArray)
+			.testArray(String::getBytes)
+			.isEqual());
+	}
 }
@@ -1,5 +1,6 @@
 package org.mcemperor.commons.lang.builder;
 
+import java.util.Objects;
 import org.junit.Assert;
 import org.mcemperor.commons.lang.builder.HashCodeBuilder;
 import org.junit.Test;
@@ -37,4 +38,70 @@ public class HashCodeBuilderTest {
 
 		Assert.assertEquals(withConstructor.get(), withOf.get());
 	}
+
+	@Test
+	public void testPrimitives() {
+		int withFunction = new HashCodeBuilder<>("alpha")
+			.add(String::length)
+			.add(t -> t.length() * 10_000_000_000L)
+			.add(t -> 2.5)
+			.get();
+		int withPrimitives = new HashCodeBuilder<>("alpha")
+			.addInt(String::length)
+			.addLong(t -> t.length() * 10_000_000_000L)
+			.addDouble(t -> 2.5)
+			.get();
+
+		Assert.assertEquals(withFunction, withPrimitives);
+	}
+
+	@Test
+	public void testAddArray() {
+		int first = new HashCodeBuilder<>("alpha")
+			.addArray(String::toCharArray)
+			.addArray(t -> new String[][] { { t } })
+			.get();
+		int second = new HashCodeBuilder<>(new String("alpha"))
+			.addArray(String::toCharArray)
+			.addArray(t -> new String[][] { { t } })
+			.get();
+
+		Assert.assertEquals(first, second);
+		Assert.assertEquals(new HashCodeBuilder<>(null).get(), new HashCodeBuilder<>(null).addArray(t -> null).get());
+	}
+
+	@Test
+	public void testAdditiveIsOrderInsensitive() {
+		Assert.assertEquals(hash(HashMixing.ADDITIVE, "a", "b"), hash(HashMixing.ADDITIVE, "b", "a"));
+		Assert.assertEquals(new HashCodeBuilder<>("a").add(t -> "b").get(), hash(HashMixing.ADDITIVE, "b"));
+	}
+
+	@Test
+	public void testOrderedMatchesObjectsHash() {
+		Assert.assertEquals(Objects.hash("a", "b"), hash(HashMixing.ORDERED, "a", "b"));
+		Assert.assertNotEquals(hash(HashMixing.ORDERED, "a", "b"), hash(HashMixing.ORDERED, "b", "a"));
+	}
+
+	@Test
+	public void testStrongMixing() {
+		for (HashMixing mixing : new HashMixing[] { HashMixing.MURMUR3, HashMixing.XXHASH }) {
+			Assert.assertEquals(hash(mixing, "a", "b"), hash(mixing, "a", "b"));
+			Assert.assertNotEquals(hash(mixing, "a", "b"), hash(mixing, "b", "a"));
+			Assert.assertNotEquals(hash(mixing, "a"), hash(mixing, "a", null));
+
+			long first = HashCodeBuilder.of("x", mixing).addLong(t -> 1L << 40).getLong();
+			long second = HashCodeBuilder.of("x", mixing).addLong(t -> 1L).getLong();
+			Assert.assertNotEquals(first, second);
+			Assert.assertEquals((int) (first ^ (first >>> 32)), HashCodeBuilder.of("x", mixing).addLong(t -> 1L << 40).get());
+		}
+	}
+
+	private static int hash(HashMixing mixing, String... values) {
+		HashCodeBuilder<String[]> builder = HashCodeBuilder.of(values, mixing);
+		for (int i = 0; i < values.length; i++) {
+			int index = i;
+			builder.add(t -> t[index]);
+		}
+		return builder.get();
+	}
 }
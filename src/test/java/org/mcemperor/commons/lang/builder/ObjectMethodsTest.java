@@ -0,0 +1,82 @@
+package org.mcemperor.commons.lang.builder;
+
+import java.util.Arrays;
+import java.util.Objects;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class ObjectMethodsTest {
+
+	private static class Base {
+
+		private static final int IGNORED_CONSTANT = 7;
+
+		private final long id;
+
+		private Base(long id) {
+			this.id = id;
+		}
+	}
+
+	private static final class Account extends Base {
+
+		private final String owner;
+
+		private final double balance;
+
+		private final int[] limits;
+
+		private transient int cachedHash;
+
+		private Account(long id, String owner, double balance, int... limits) {
+			super(id);
+			this.owner = owner;
+			this.balance = balance;
+			this.limits = limits;
+		}
+	}
+
+	private final ObjectMethods<Account> methods = EqualsBuilder.reflective(Account.class);
+
+	@Test
+	public void testCached() {
+		assertSame(this.methods, ObjectMethods.of(Account.class));
+		assertSame(this.methods, HashCodeBuilder.reflective(Account.class));
+	}
+
+	@Test
+	public void testAreEqual() {
+		Account account = new Account(1, "alice", 2.5, 10, 20);
+		Account other = new Account(1, new String("alice"), 2.5, 10, 20);
+		other.cachedHash = 99;
+
+		assertTrue(this.methods.areEqual(account, other));
+		assertFalse(this.methods.areEqual(account, new Account(2, "alice", 2.5, 10, 20)));
+		assertFalse(this.methods.areEqual(account, new Account(1, "bob", 2.5, 10, 20)));
+		assertFalse(this.methods.areEqual(account, new Account(1, "alice", 2.5, 10)));
+		assertFalse(this.methods.areEqual(account, null));
+	}
+
+	@Test
+	public void testHash() {
+		Account account = new Account(1, "alice", 2.5, 10, 20);
+
+		assertEquals(Objects.hash(1L, "alice", 2.5, Arrays.hashCode(new int[] { 10, 20 })), this.methods.hash(account));
+		assertNotEquals(this.methods.hash(account), this.methods.hash(new Account(1, "alice", 2.5)));
+	}
+
+	@Test
+	public void testToString() {
+		assertEquals("Account(id=1, owner=alice, balance=2.5, limits=[10, 20])", this.methods.toString(new Account(1, "alice", 2.5, 10, 20)));
+		assertEquals("Account(id=3, owner=null, balance=0.0, limits=null)", this.methods.toString(new Account(3, null, 0.0, (int[]) null)));
+		assertEquals("null", this.methods.toString(null));
+	}
+}
@@ -0,0 +1,68 @@
+package org.mcemperor.commons.lang.stream;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class StreamsTest {
+
+	@Test
+	public void testReverseList() {
+		List<Integer> expected = Arrays.asList(5, 4, 3, 2, 1);
+
+		assertEquals(expected, Streams.reverse(new ArrayList<>(Arrays.asList(1, 2, 3, 4, 5))).collect(Collectors.toList()));
+		assertEquals(expected, Streams.reverse(new LinkedList<>(Arrays.asList(1, 2, 3, 4, 5))).collect(Collectors.toList()));
+		assertEquals(0, Streams.reverse(new LinkedList<>()).count());
+	}
+
+	@Test
+	public void testReverseParallel() {
+		List<Integer> list = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+		List<Integer> expected = IntStream.range(0, 10_000).map(i -> 9_999 - i).boxed().collect(Collectors.toList());
+
+		assertEquals(expected, Streams.reverse(list).parallel().collect(Collectors.toList()));
+		assertEquals(expected, Streams.reverse(new LinkedList<>(list)).parallel().collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testReverseIsSized() {
+		Spliterator<String> spliterator = Streams.reverse(Arrays.asList("a", "b", "c")).spliterator();
+
+		assertEquals(3, spliterator.getExactSizeIfKnown());
+		assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+	}
+
+	@Test
+	public void testReverseArrays() {
+		assertArrayEquals(new String[] { "c", "b", "a" }, Streams.reverse(new String[] { "a", "b", "c" }).toArray());
+		assertArrayEquals(new int[] { 3, 2, 1 }, Streams.reverse(new int[] { 1, 2, 3 }).toArray());
+		assertArrayEquals(new long[] { 3, 2, 1 }, Streams.reverse(new long[] { 1, 2, 3 }).parallel().toArray());
+		assertArrayEquals(new double[] { 2.5, 1.5 }, Streams.reverse(new double[] { 1.5, 2.5 }).toArray(), 0.0);
+	}
+
+	@Test
+	public void testDescending() {
+		ArrayDeque<String> deque = new ArrayDeque<>(Arrays.asList("a", "b", "c"));
+
+		assertEquals(Arrays.asList("c", "b", "a"), Streams.descending(deque).collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testReversedIndices() {
+		assertArrayEquals(new int[] { 2, 1, 0 }, Streams.reversedIndices(Arrays.asList("a", "b", "c")).toArray());
+		assertEquals(0, Streams.reversedIndices(Arrays.asList()).count());
+	}
+}
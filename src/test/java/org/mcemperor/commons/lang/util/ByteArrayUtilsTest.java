@@ -0,0 +1,129 @@
+package org.mcemperor.commons.lang.util;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class ByteArrayUtilsTest {
+
+	@Test
+	public void testToHexString() {
+		byte[] bytes = { 0x00, 0x0f, (byte) 0xa5, (byte) 0xff, 0x7e };
+		assertEquals("000fa5ff7e", ByteArrayUtils.toHexString(bytes));
+		assertEquals("000FA5FF7E", ByteArrayUtils.toHexString(bytes, true));
+		assertEquals("", ByteArrayUtils.toHexString(new byte[0]));
+	}
+
+	@Test
+	public void testToHexStringMatchesIntegerToString() {
+		byte[] bytes = new byte[256];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte) i;
+		}
+		StringBuilder expected = new StringBuilder();
+		for (byte b : bytes) {
+			expected.append(Integer.toString((b & 0xff) + 0x100, 16).substring(1));
+		}
+		assertEquals(expected.toString(), ByteArrayUtils.toHexString(bytes));
+	}
+
+	@Test
+	public void testToHexCharsAndBytes() {
+		byte[] bytes = { 1, 2, (byte) 0xab, 4 };
+		char[] chars = { '[', ' ', ' ', ' ', ' ', ']' };
+		assertEquals(5, ByteArrayUtils.toHexChars(bytes, 1, 2, chars, 1, true));
+		assertEquals("[02AB]", new String(chars));
+		byte[] ascii = new byte[8];
+		assertEquals(8, ByteArrayUtils.toHexBytes(bytes, 0, 4, ascii, 0, false));
+		assertEquals("0102ab04", new String(ascii, StandardCharsets.US_ASCII));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testToHexCharsWithShortDestination() {
+		ByteArrayUtils.toHexChars(new byte[3], 0, 3, new char[5], 0, false);
+	}
+
+	@Test
+	public void testAppendHex() throws IOException {
+		StringBuilder sb = new StringBuilder("id=");
+		assertEquals("id=cafe", ByteArrayUtils.appendHex(sb, new byte[] { (byte) 0xca, (byte) 0xfe }, false).toString());
+	}
+
+	@Test
+	public void testByteBuffers() {
+		ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 9, 10, 11 });
+		buffer.get();
+		assertEquals("0a0b", ByteArrayUtils.toHexString(buffer, false));
+		assertEquals(1, buffer.position());
+
+		ByteBuffer dest = ByteBuffer.allocate(4);
+		dest.put((byte) 1);
+		assertEquals(2, ByteArrayUtils.fromHexString("Ff10", dest));
+		assertEquals(3, dest.position());
+		assertArrayEquals(new byte[] { 1, -1, 16, 0 }, dest.array());
+
+		try {
+			ByteArrayUtils.fromHexString("0102", dest);
+			fail("Expected a BufferOverflowException");
+		}
+		catch (BufferOverflowException exc) {
+			assertEquals(3, dest.position());
+			assertArrayEquals(new byte[] { 1, -1, 16, 0 }, dest.array());
+		}
+		try {
+			ByteArrayUtils.fromHexString("0g", dest);
+			fail("Expected an IllegalArgumentException");
+		}
+		catch (IllegalArgumentException exc) {
+			assertEquals(3, dest.position());
+		}
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(2);
+		assertEquals(2, ByteArrayUtils.fromHexString("abCD", direct));
+		assertEquals(2, direct.position());
+		assertEquals((byte) 0xab, direct.get(0));
+		assertEquals((byte) 0xcd, direct.get(1));
+	}
+
+	@Test
+	public void testFromHexString() {
+		assertArrayEquals(new byte[] { 0, 15, (byte) 0xa5, -1 }, ByteArrayUtils.fromHexString("000fA5fF"));
+		assertArrayEquals(new byte[0], ByteArrayUtils.fromHexString(""));
+		byte[] dest = new byte[3];
+		assertEquals(3, ByteArrayUtils.fromHexChars("xx1234".toCharArray(), 2, 4, dest, 1));
+		assertArrayEquals(new byte[] { 0, 0x12, 0x34 }, dest);
+	}
+
+	@Test
+	public void testRoundTrip() {
+		byte[] bytes = new byte[1000];
+		new Random(42).nextBytes(bytes);
+		assertArrayEquals(bytes, ByteArrayUtils.fromHexString(ByteArrayUtils.toHexString(bytes, true)));
+		assertArrayEquals(bytes, ByteArrayUtils.fromHexString(ByteArrayUtils.toHexString(bytes)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFromHexStringWithOddLength() {
+		ByteArrayUtils.fromHexString("abc");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFromHexStringWithInvalidDigit() {
+		ByteArrayUtils.fromHexString("0g");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFromHexStringWithNonAsciiDigit() {
+		ByteArrayUtils.fromHexString("0١");
+	}
+}
@@ -0,0 +1,92 @@
+package org.mcemperor.commons.lang.util;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class BytesTest {
+
+	@Test
+	public void testToShortArray() {
+		assertArrayEquals(new short[] { 0x0102, 0x0300 }, Bytes.toShortArray(new byte[] { 1, 2, 3 }));
+		byte[] bytes = { 1, 2, (byte) 0xff, (byte) 0xfe };
+		assertArrayEquals(new short[] { 0x0102, (short) 0xfffe }, Bytes.toShortArray(bytes, ByteOrder.BIG_ENDIAN));
+		assertArrayEquals(new short[] { 0x0201, (short) 0xfeff }, Bytes.toShortArray(bytes, ByteOrder.LITTLE_ENDIAN));
+	}
+
+	@Test
+	public void testIntsInBothOrders() {
+		byte[] bytes = { 1, 2, 3, 4, (byte) 0x80, 0, 0, 0 };
+		assertArrayEquals(new int[] { 0x01020304, Integer.MIN_VALUE }, Bytes.toIntArray(bytes, ByteOrder.BIG_ENDIAN));
+		assertArrayEquals(new int[] { 0x04030201, 0x80 }, Bytes.toIntArray(bytes, ByteOrder.LITTLE_ENDIAN));
+		assertArrayEquals(bytes, Bytes.toByteArray(new int[] { 0x01020304, Integer.MIN_VALUE }, ByteOrder.BIG_ENDIAN));
+		assertArrayEquals(bytes, Bytes.toByteArray(new int[] { 0x04030201, 0x80 }, ByteOrder.LITTLE_ENDIAN));
+	}
+
+	@Test
+	public void testMatchesElementWiseBuffer() {
+		Random random = new Random(42);
+		long[] longs = random.longs(33).toArray();
+		double[] doubles = random.doubles(17).toArray();
+		float[] floats = { 1.5f, -0f, Float.NaN, Float.MIN_VALUE };
+		for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+			ByteBuffer expected = ByteBuffer.allocate(longs.length * 8).order(order);
+			for (long l : longs) {
+				expected.putLong(l);
+			}
+			assertArrayEquals(expected.array(), Bytes.toByteArray(longs, order));
+			assertArrayEquals(longs, Bytes.toLongArray(expected.array(), order));
+			assertArrayEquals(doubles, Bytes.toDoubleArray(Bytes.toByteArray(doubles, order), order), 0.0);
+			assertArrayEquals(floats, Bytes.toFloatArray(Bytes.toByteArray(floats, order), order), 0f);
+		}
+	}
+
+	@Test
+	public void testOffsets() {
+		byte[] bytes = new byte[12];
+		assertEquals(10, Bytes.toByteArray(new short[] { 7, 0x0102, 0x0304, 0x0506, 9 }, 1, bytes, 4, 3, ByteOrder.BIG_ENDIAN));
+		assertArrayEquals(new byte[] { 0, 0, 0, 0, 1, 2, 3, 4, 5, 6, 0, 0 }, bytes);
+		short[] shorts = new short[4];
+		Bytes.toShortArray(bytes, 5, shorts, 1, 2, ByteOrder.LITTLE_ENDIAN);
+		assertArrayEquals(new short[] { 0, 0x0302, 0x0504, 0 }, shorts);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testRangeBeyondSource() {
+		Bytes.toLongArray(new byte[15], 0, new long[2], 0, 2, ByteOrder.BIG_ENDIAN);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testLengthNotMultipleOfWidth() {
+		Bytes.toIntArray(new byte[6], ByteOrder.BIG_ENDIAN);
+	}
+
+	@Test
+	public void testByteBuffers() {
+		ByteBuffer buffer = ByteBuffer.allocate(20).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.put((byte) 9);
+		Bytes.put(new int[] { 1, -1 }, buffer);
+		Bytes.put(new double[] { 2.5 }, buffer);
+		assertEquals(17, buffer.position());
+		buffer.flip();
+		assertEquals(9, buffer.get());
+		buffer.limit(9);
+		assertArrayEquals(new int[] { 1, -1 }, Bytes.toIntArray(buffer));
+		assertEquals(9, buffer.position());
+		buffer.limit(17);
+		assertArrayEquals(new double[] { 2.5 }, Bytes.toDoubleArray(buffer), 0.0);
+	}
+
+	@Test(expected = BufferOverflowException.class)
+	public void testPutBeyondLimit() {
+		Bytes.put(new long[] { 1L, 2L }, ByteBuffer.allocate(15));
+	}
+}
@@ -0,0 +1,68 @@
+package org.mcemperor.commons.lang.util;
+
+import java.nio.CharBuffer;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class CharMatcherTest {
+
+	@Test
+	public void testMatches() {
+		CharMatcher matcher = CharMatcher.anyOf(" \t?é€é");
+
+		assertTrue(matcher.matches(' '));
+		assertTrue(matcher.matches('\t'));
+		assertTrue(matcher.matches('?'));
+		assertTrue(matcher.matches('é'));
+		assertTrue(matcher.matches('€'));
+
+		assertFalse(matcher.matches('a'));
+		assertFalse(matcher.matches('\u007f'));
+		assertFalse(matcher.matches('è'));
+	}
+
+	@Test
+	public void testTrim() {
+		CharMatcher matcher = CharMatcher.anyOf("-*");
+
+		assertEquals("a-b-*", matcher.trimLeading("*-*a-b-*"));
+		assertEquals("*-*a-b", matcher.trimTrailing("*-*a-b-*"));
+		assertEquals("a-b", matcher.trim("*-*a-b-*"));
+		assertEquals("", matcher.trim("-*-*"));
+		assertEquals("", matcher.trim(""));
+	}
+
+	@Test
+	public void testTrimReturnsSameInstanceIfNothingIsTrimmed() {
+		String string = "alpha";
+
+		assertSame(string, CharMatcher.is(' ').trim(string));
+		assertSame(string, CharMatcher.is(' ').trimLeading(string));
+		assertSame(string, CharMatcher.is(' ').trimTrailing(string));
+	}
+
+	@Test
+	public void testTrimCharSequence() {
+		CharSequence trimmed = CharMatcher.is(' ').trim(CharBuffer.wrap("  alpha  "));
+
+		assertTrue(trimmed instanceof CharBuffer);
+		assertEquals("alpha", trimmed.toString());
+	}
+
+	@Test
+	public void testCount() {
+		CharMatcher matcher = CharMatcher.is('0');
+
+		assertEquals(3, matcher.countLeading("00012000"));
+		assertEquals(3, matcher.countTrailing(new StringBuilder("00012000")));
+		assertEquals(4, matcher.countLeading("0000"));
+		assertEquals(4, matcher.countTrailing("0000"));
+	}
+}
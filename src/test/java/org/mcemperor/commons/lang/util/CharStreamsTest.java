@@ -0,0 +1,178 @@
+package org.mcemperor.commons.lang.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class CharStreamsTest {
+
+	private static final int ALL = Strings.NORMALIZE_NEWLINES | Strings.NORMALIZE_SPACE_TO_UNDERSCORE | Strings.NORMALIZE_PATH;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testNormalizeReader() throws IOException {
+		String input = "a b\r\nc\\d\re\n\r\r\nf ";
+		for (int scope : new int[] { 0, Strings.NORMALIZE_NEWLINES, Strings.NORMALIZE_SPACE_TO_UNDERSCORE, Strings.NORMALIZE_PATH, ALL }) {
+			StringWriter out = new StringWriter();
+			long written = CharStreams.normalize(new StringReader(input), out, scope);
+			assertEquals(Strings.normalize(input, scope), out.toString());
+			assertEquals(out.toString().length(), written);
+		}
+	}
+
+	@Test
+	public void testNormalizeCarriageReturnAcrossReads() throws IOException {
+		StringWriter out = new StringWriter();
+		CharStreams.normalize(new OneCharReader("x\r\ny\r\r\nz\r"), out, Strings.NORMALIZE_NEWLINES);
+		assertEquals("x\ny\n\nz\n", out.toString());
+	}
+
+	@Test
+	public void testNormalizeWithNormalizer() throws IOException {
+		Normalizer normalizer = Normalizer.of(Strings.NORMALIZE_NEWLINES).map('\n', '|').map('\t', ' ');
+		StringWriter out = new StringWriter();
+		CharStreams.normalize(new OneCharReader("a\r\n\tb\r\rc\n"), out, normalizer);
+		assertEquals("a| b||c|", out.toString());
+	}
+
+	@Test
+	public void testNormalizePath() throws IOException {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			sb.append("line ").append(i).append(i % 3 == 0 ? "\r\n" : "\\é€😀\r");
+		}
+		String input = sb.toString();
+		Path file = write(input);
+		StringWriter out = new StringWriter();
+		CharStreams.normalize(file, StandardCharsets.UTF_8, out, ALL);
+		assertEquals(Strings.normalize(input, ALL), out.toString());
+	}
+
+	@Test
+	public void testNormalizeChannel() throws IOException {
+		String input = "é \r\n\\x\r";
+		Path file = write(input);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (FileChannel channel = FileChannel.open(file)) {
+			CharStreams.normalize(channel, StandardCharsets.UTF_8, Channels.newChannel(bytes), ALL);
+		}
+		assertEquals("é_\n/x\n", new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testMappedReaderSmallRegions() throws IOException {
+		String input = "é€😀abc\r\né€😀defghijklmnop";
+		Path file = write(input);
+		for (int regionSize = 16; regionSize < 24; regionSize++) {
+			try (FileChannel channel = FileChannel.open(file)) {
+				assertEquals(input, readAll(CharStreams.mappedReader(channel, StandardCharsets.UTF_8, regionSize), 1));
+			}
+			try (FileChannel channel = FileChannel.open(file)) {
+				assertEquals(input, readAll(CharStreams.mappedReader(channel, StandardCharsets.UTF_8, regionSize), 7));
+			}
+		}
+	}
+
+	@Test
+	public void testMappedReaderEmpty() throws IOException {
+		Path file = write("");
+		try (FileChannel channel = FileChannel.open(file)) {
+			assertEquals(-1, CharStreams.mappedReader(channel, StandardCharsets.UTF_8).read());
+		}
+	}
+
+	@Test(expected = MalformedInputException.class)
+	public void testMappedReaderMalformed() throws IOException {
+		Path file = this.folder.newFile().toPath();
+		Files.write(file, new byte[] { 'a', (byte) 0xC3 });
+		try (FileChannel channel = FileChannel.open(file)) {
+			readAll(CharStreams.mappedReader(channel, StandardCharsets.UTF_8), 16);
+		}
+	}
+
+	@Test
+	public void testChunk() throws IOException {
+		String input = "abcdefghij";
+		for (int size = 1; size <= 12; size++) {
+			List<String> chunks = new ArrayList<>();
+			long count = CharStreams.chunk(new OneCharReader(input), size, chunk -> chunks.add(chunk.toString()));
+			assertEquals(Strings.chunk(input, size), chunks);
+			assertEquals(chunks.size(), count);
+		}
+		assertEquals(0, CharStreams.chunk(new StringReader(""), 3, chunk -> { }));
+	}
+
+	@Test
+	public void testChunkPath() throws IOException {
+		Path file = write("ééééé");
+		List<String> chunks = new ArrayList<>();
+		CharStreams.chunk(file, StandardCharsets.UTF_8, 2, chunk -> chunks.add(chunk.toString()));
+		assertEquals(Strings.chunk("ééééé", 2), chunks);
+	}
+
+	@Test
+	public void testChunkTo() throws IOException {
+		String input = "abcdefg";
+		for (int size = 1; size <= 8; size++) {
+			StringWriter out = new StringWriter();
+			CharStreams.chunkTo(new StringReader(input), size, "-", out);
+			assertEquals(Strings.chunkToString(input, size, "-"), out.toString());
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testChunkInvalidSize() throws IOException {
+		CharStreams.chunk(new StringReader("abc"), 0, chunk -> { });
+	}
+
+	private Path write(String contents) throws IOException {
+		Path file = this.folder.newFile().toPath();
+		Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	private static String readAll(Reader reader, int bufferSize) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		char[] buffer = new char[bufferSize];
+		int read;
+		while ((read = reader.read(buffer)) != -1) {
+			sb.append(buffer, 0, read);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * A Reader returning a single character per read.
+	 */
+	private static final class OneCharReader extends StringReader {
+
+		OneCharReader(String s) {
+			super(s);
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) throws IOException {
+			return super.read(cbuf, off, Math.min(len, 1));
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package org.mcemperor.commons.lang.util;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class FixedWidthFormatterTest {
+
+	private static final FixedWidthFormatter LAYOUT = FixedWidthFormatter.of()
+		.left(6)
+		.right(5, '0')
+		.left(4, '*')
+		.right(3);
+
+	@Test
+	public void testLayout() {
+		assertEquals(4, LAYOUT.columnCount());
+		assertEquals(18, LAYOUT.width());
+		assertEquals("      00000****   ", LAYOUT.newRecord().toString());
+		assertEquals(0, FixedWidthFormatter.of().width());
+	}
+
+	@Test
+	public void testSet() {
+		FixedWidthFormatter.Record record = LAYOUT.newRecord()
+			.set(0, "ACME")
+			.set(1, 42)
+			.set(2, -7)
+			.set(3, new StringBuilder("x"));
+		assertEquals("ACME  00042-7**  x", record.toString());
+		record.set(0, "ABCDEF").set(1, -1234);
+		assertEquals("ABCDEF-1234-7**  x", record.toString());
+		record.clear().set(3, "abc");
+		assertEquals("      00000****abc", record.toString());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testValueTooWide() {
+		LAYOUT.newRecord().set(0, "ABCDEFG");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNumberTooWide() {
+		LAYOUT.newRecord().set(1, 123456);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidWidth() {
+		FixedWidthFormatter.of().left(0);
+	}
+
+	@Test
+	public void testAppendTo() throws IOException {
+		FixedWidthFormatter.Record record = FixedWidthFormatter.of().left(3).right(3).newRecord().set(0, "a").set(1, "b");
+		StringWriter writer = new StringWriter();
+		record.appendTo(writer).append('|');
+		record.appendTo(writer);
+		assertEquals("a    b|a    b", writer.toString());
+		assertEquals(">a    b", record.appendTo(new StringBuilder(">")).toString());
+		char[] chars = new char[8];
+		assertEquals(7, record.copyTo(chars, 1));
+		assertEquals("a    b", new String(chars, 1, 6));
+	}
+}
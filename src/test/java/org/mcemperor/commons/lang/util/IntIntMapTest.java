@@ -0,0 +1,81 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class IntIntMapTest {
+
+	@Test
+	public void testPutGetRemove() {
+		IntIntMap map = new IntIntMap();
+		assertTrue(map.isEmpty());
+		assertEquals(0, map.put(5, 50));
+		assertEquals(50, map.put(5, 55));
+		assertEquals(0, map.put(0, 7));
+		assertEquals(2, map.size());
+		assertEquals(55, map.get(5));
+		assertEquals(7, map.get(0));
+		assertEquals(0, map.get(6));
+		assertEquals(-1, map.getOrDefault(6, -1));
+		assertTrue(map.containsKey(0));
+		assertEquals(7, map.remove(0));
+		assertFalse(map.containsKey(0));
+		assertEquals(55, map.remove(5));
+		assertTrue(map.isEmpty());
+	}
+
+	@Test
+	public void testMissingValue() {
+		IntIntMap map = new IntIntMap(4, -1);
+		assertEquals(-1, map.get(3));
+		assertEquals(-1, map.put(3, 9));
+		assertEquals(-1, map.remove(4));
+		assertEquals(0, map.addTo(4, 1));
+	}
+
+	@Test
+	public void testAddTo() {
+		IntIntMap counts = new IntIntMap();
+		for (int word : new int[] { 1, 2, 1, 0, 1, 0 }) {
+			counts.addTo(word, 1);
+		}
+		assertEquals(3, counts.get(1));
+		assertEquals(1, counts.get(2));
+		assertEquals(2, counts.get(0));
+
+		int[] keys = counts.keys();
+		Arrays.sort(keys);
+		assertTrue(Arrays.equals(new int[] { 0, 1, 2 }, keys));
+	}
+
+	@Test
+	public void testAgainstHashMap() {
+		Random random = new Random(7);
+		IntIntMap map = new IntIntMap(2, 0);
+		Map<Integer, Integer> expected = new HashMap<>();
+		for (int i = 0; i < 100_000; i++) {
+			int key = random.nextInt(2_000) - 1_000;
+			if (random.nextInt(3) == 0) {
+				Integer removed = expected.remove(key);
+				assertEquals(removed != null ? removed : 0, map.remove(key));
+			}
+			else {
+				Integer previous = expected.put(key, i);
+				assertEquals(previous != null ? previous : 0, map.put(key, i));
+			}
+		}
+		assertEquals(expected.size(), map.size());
+		expected.forEach((key, value) -> assertEquals((int) value, map.get(key)));
+		map.forEach((key, value) -> assertEquals(expected.get(key), Integer.valueOf(value)));
+	}
+}
@@ -0,0 +1,97 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class IntListTest {
+
+	@Test
+	public void testAddGetSet() {
+		IntList list = new IntList(2);
+		assertTrue(list.isEmpty());
+		for (int i = 0; i < 100; i++) {
+			list.add(i * 3);
+		}
+		assertEquals(100, list.size());
+		assertEquals(297, list.get(99));
+		assertEquals(6, list.set(2, -1));
+		assertEquals(-1, list.get(2));
+		assertEquals(2, list.indexOf(-1));
+		assertTrue(list.contains(297));
+		assertFalse(list.contains(298));
+	}
+
+	@Test
+	public void testInsertAndRemove() {
+		IntList list = IntList.of(1, 2, 4);
+		list.add(2, 3);
+		list.add(0, 0);
+		list.add(5, 5);
+		assertArrayEquals(new int[] { 0, 1, 2, 3, 4, 5 }, list.toArray());
+		assertEquals(0, list.removeAt(0));
+		assertEquals(5, list.removeAt(4));
+		assertArrayEquals(new int[] { 1, 2, 3, 4 }, list.toArray());
+		list.addAll(7, 8);
+		assertEquals("[1, 2, 3, 4, 7, 8]", list.toString());
+		list.clear();
+		assertEquals("[]", list.toString());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetBeyondSize() {
+		IntList list = new IntList();
+		list.add(1);
+		list.get(1);
+	}
+
+	@Test
+	public void testSortAndBinarySearch() {
+		IntList list = IntList.of(5, -3, 9, 0, 2);
+		list.sort();
+		assertArrayEquals(new int[] { -3, 0, 2, 5, 9 }, list.toArray());
+		assertEquals(3, list.binarySearch(5));
+		assertEquals(-3, list.binarySearch(1));
+	}
+
+	@Test
+	public void testStream() {
+		IntList list = new IntList(16);
+		list.addAll(1, 2, 3);
+		assertEquals(6, list.stream().sum());
+	}
+
+	@Test
+	public void testAsList() {
+		IntList list = IntList.of(1, 2, 3);
+		List<Integer> view = list.asList();
+		assertEquals(Arrays.asList(1, 2, 3), view);
+		assertEquals(view.hashCode(), list.hashCode());
+		view.add(4);
+		view.set(0, 10);
+		assertArrayEquals(new int[] { 10, 2, 3, 4 }, list.toArray());
+		view.remove(1);
+		assertEquals(Arrays.asList(10, 3, 4), new ArrayList<>(view));
+	}
+
+	@Test
+	public void testEquals() {
+		IntList list = IntList.of(1, 2);
+		IntList other = new IntList();
+		other.add(1);
+		assertNotEquals(list, other);
+		other.add(2);
+		assertEquals(list, other);
+		assertEquals(list.hashCode(), other.hashCode());
+	}
+}
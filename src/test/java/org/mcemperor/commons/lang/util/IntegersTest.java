@@ -0,0 +1,66 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class IntegersTest {
+
+	@Test
+	public void testGetWidth() {
+		long[] values = { 0, 1, -1, 9, 10, -10, 99, 100, Integer.MAX_VALUE, Integer.MIN_VALUE, 999_999_999_999_999_999L,
+			1_000_000_000_000_000_000L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1 };
+		for (long value : values) {
+			assertEquals(String.valueOf(value), String.valueOf(value).length(), Integers.getWidth(value));
+		}
+		Random random = new Random(42);
+		for (int i = 0; i < 10_000; i++) {
+			long value = random.nextLong() >> random.nextInt(64);
+			assertEquals(String.valueOf(value).length(), Integers.getWidth(value));
+		}
+	}
+
+	@Test
+	public void testGetDigits() {
+		assertEquals(Arrays.asList(1, 2, 0, 3), Integers.getDigits(1203));
+		assertEquals(Arrays.asList(4, 5), Integers.getDigits(-45));
+		assertEquals(Arrays.asList(0), Integers.getDigits(0));
+
+		int[] digits = new int[21];
+		assertEquals(19, Integers.getDigits(Long.MIN_VALUE, digits, 2));
+		assertArrayEquals(new int[] { 0, 0, 9, 2, 2, 3, 3, 7, 2, 0, 3, 6, 8, 5, 4, 7, 7, 5, 8, 0, 8 }, digits);
+
+		byte[] bytes = new byte[3];
+		assertEquals(3, Integers.getDigits(907, bytes, 0));
+		assertArrayEquals(new byte[] { 9, 0, 7 }, bytes);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetDigitsWithShortArray() {
+		Integers.getDigits(1000, new byte[3], 0);
+	}
+
+	@Test
+	public void testGetChars() {
+		char[] chars = new char[24];
+		for (long value : new long[] { 0, 7, -7, 1234567890123L, Long.MAX_VALUE, Long.MIN_VALUE }) {
+			int end = Integers.getChars(value, chars, 2);
+			assertEquals(String.valueOf(value), new String(chars, 2, end - 2));
+		}
+	}
+
+	@Test
+	public void testPad() {
+		assertEquals("0042", Strings.pad(42, 4));
+		assertEquals("12345", Strings.pad(12345, 4));
+		assertEquals("00-5", Strings.pad(-5L, 4));
+		assertEquals("-9223372036854775808", Strings.pad(Long.MIN_VALUE, 2));
+		assertEquals("0", Strings.pad(0, 0));
+	}
+}
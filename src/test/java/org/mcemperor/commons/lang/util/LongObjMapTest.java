@@ -0,0 +1,85 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class LongObjMapTest {
+
+	@Test
+	public void testPutGetRemove() {
+		LongObjMap<String> map = new LongObjMap<>();
+		assertNull(map.put(1L << 40, "a"));
+		assertEquals("a", map.put(1L << 40, "b"));
+		assertNull(map.put(0, "zero"));
+		assertEquals(2, map.size());
+		assertEquals("b", map.get(1L << 40));
+		assertEquals("zero", map.get(0));
+		assertNull(map.get(1));
+		assertEquals("x", map.getOrDefault(1, "x"));
+		assertEquals("zero", map.remove(0));
+		assertFalse(map.containsKey(0));
+		assertEquals(1, map.size());
+		map.clear();
+		assertTrue(map.isEmpty());
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void testNullValue() {
+		new LongObjMap<String>().put(1, null);
+	}
+
+	@Test
+	public void testAgainstHashMap() {
+		Random random = new Random(11);
+		LongObjMap<Integer> map = new LongObjMap<>(0);
+		Map<Long, Integer> expected = new HashMap<>();
+		for (int i = 0; i < 100_000; i++) {
+			long key = IntIntPair.pack(random.nextInt(50) - 25, random.nextInt(50) - 25);
+			if (random.nextInt(3) == 0) {
+				assertEquals(expected.remove(key), map.remove(key));
+			}
+			else {
+				assertEquals(expected.put(key, i), map.put(key, i));
+			}
+		}
+		assertEquals(expected.size(), map.size());
+		expected.forEach((key, value) -> assertEquals(value, map.get(key)));
+		long[] keys = map.keys();
+		Arrays.sort(keys);
+		assertTrue(Arrays.equals(expected.keySet().stream().mapToLong(Long::longValue).sorted().toArray(), keys));
+	}
+
+	@Test
+	public void testLongSet() {
+		Random random = new Random(13);
+		LongSet set = new LongSet(0);
+		Set<Long> expected = new HashSet<>();
+		for (int i = 0; i < 50_000; i++) {
+			long value = random.nextInt(1_000) - 500;
+			if (random.nextBoolean()) {
+				assertEquals(expected.add(value), set.add(value));
+			}
+			else {
+				assertEquals(expected.remove(value), set.remove(value));
+			}
+		}
+		assertEquals(expected.size(), set.size());
+		for (long value = -500; value < 500; value++) {
+			assertEquals(expected.contains(value), set.contains(value));
+		}
+		assertEquals(expected.size(), set.toArray().length);
+	}
+}
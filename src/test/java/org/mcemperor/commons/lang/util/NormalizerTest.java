@@ -0,0 +1,57 @@
+package org.mcemperor.commons.lang.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class NormalizerTest {
+
+	private static final int ALL = Strings.NORMALIZE_NEWLINES | Strings.NORMALIZE_SPACE_TO_UNDERSCORE | Strings.NORMALIZE_PATH;
+
+	@Test
+	public void testScopes() {
+		String input = "C:\\Program Files\\app\r\nline two\rline three\n\r\n";
+		assertEquals(input, Normalizer.of(0).normalize(input));
+		assertEquals("C:\\Program Files\\app\nline two\nline three\n\n", Normalizer.of(Strings.NORMALIZE_NEWLINES).normalize(input));
+		assertEquals("C:\\Program_Files\\app\r\nline_two\rline_three\n\r\n", Normalizer.of(Strings.NORMALIZE_SPACE_TO_UNDERSCORE).normalize(input));
+		assertEquals("C:/Program Files/app\r\nline two\rline three\n\r\n", Normalizer.of(Strings.NORMALIZE_PATH).normalize(input));
+		assertEquals("C:/Program_Files/app\nline_two\nline_three\n\n", Normalizer.of(ALL).normalize(input));
+		assertEquals("C:/Program_Files/app\nline_two\nline_three\n\n", Strings.normalize(input, ALL));
+	}
+
+	@Test
+	public void testUnchangedInputIsReturned() {
+		String input = "nothing/to_normalize\n";
+		assertSame(input, Normalizer.of(ALL).normalize(input));
+		assertSame(input, Strings.normalize(input, ALL));
+		String withCarriageReturn = "a\rb";
+		assertSame(withCarriageReturn, Normalizer.of(Strings.NORMALIZE_PATH).normalize(withCarriageReturn));
+	}
+
+	@Test
+	public void testCachedScopes() {
+		assertSame(Normalizer.of(ALL), Normalizer.of(ALL | 1 | 16));
+	}
+
+	@Test
+	public void testMappings() {
+		Normalizer normalizer = Normalizer.of(Strings.NORMALIZE_NEWLINES)
+			.map('\t', ' ')
+			.map('\u00e9', 'e')
+			.map('\n', '|');
+		assertEquals("a b|c|d|cafe", normalizer.normalize("a\tb\r\nc\rd\ncaf\u00e9"));
+		assertEquals("a|b", Normalizer.of(0).map('\r', '|').normalize("a\rb"));
+		assertEquals("a|b", Normalizer.of(Strings.NORMALIZE_NEWLINES).map('\r', '-').map('\n', '|').normalize("a\rb"));
+	}
+
+	@Test
+	public void testMappingOverridesScope() {
+		Normalizer normalizer = Normalizer.of(Strings.NORMALIZE_SPACE_TO_UNDERSCORE).map(' ', '-');
+		assertEquals("a-b", normalizer.normalize("a b"));
+		assertEquals("a_b", Normalizer.of(Strings.NORMALIZE_SPACE_TO_UNDERSCORE).normalize("a b"));
+	}
+}
@@ -0,0 +1,96 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class PairIndexTest {
+
+	@Test
+	public void testPutGetRemove() {
+		PairIndex<String> index = new PairIndex<>();
+		assertNull(index.put(3, 4, "a"));
+		assertNull(index.put(-3, 4, "b"));
+		assertNull(index.put(0, 0, "origin"));
+		assertEquals("a", index.put(3, 4, "c"));
+		assertEquals(3, index.size());
+		assertEquals("c", index.get(3, 4));
+		assertNull(index.get(4, 3));
+		assertTrue(index.containsKey(0, 0));
+		assertEquals("origin", index.remove(0, 0));
+		assertFalse(index.containsKey(0, 0));
+
+		Map<IntIntPair, String> seen = new HashMap<>();
+		index.forEach((first, second, value) -> seen.put(IntIntPair.of(first, second), value));
+		assertEquals(2, seen.size());
+		assertEquals("b", seen.get(IntIntPair.of(-3, 4)));
+	}
+
+	@Test
+	public void testAsMap() {
+		PairIndex<String> index = new PairIndex<>();
+		Map<Pairable<Integer, Integer>, String> map = index.asMap();
+		map.put(IntIntPair.of(1, 2), "a");
+		map.put(Pair.of(2, 1), "b");
+
+		assertEquals("a", map.get(Pair.of(1, 2)));
+		assertEquals("b", map.get(IntIntPair.of(2, 1)));
+		assertEquals("b", index.get(2, 1));
+		assertNull(map.get(Pair.of("1", 2)));
+		assertNull(map.get("unrelated"));
+		assertTrue(map.containsKey(IntIntPair.of(1, 2)));
+		assertEquals(2, map.size());
+
+		Map<Pairable<Integer, Integer>, String> copy = new HashMap<>(map);
+		assertEquals("a", copy.get(IntIntPair.of(1, 2)));
+
+		for (Map.Entry<Pairable<Integer, Integer>, String> entry : map.entrySet()) {
+			entry.setValue(entry.getValue().toUpperCase());
+		}
+		assertEquals("A", index.get(1, 2));
+
+		Iterator<Map.Entry<Pairable<Integer, Integer>, String>> iterator = map.entrySet().iterator();
+		iterator.next();
+		iterator.remove();
+		assertEquals(1, index.size());
+
+		assertEquals(1, map.size());
+		map.clear();
+		assertTrue(index.isEmpty());
+	}
+
+	@Test
+	public void testAsMapEqualsMapWithPairKeys() {
+		PairIndex<String> index = new PairIndex<>();
+		index.put(1, 2, "a");
+		index.put(-3, 4, "b");
+		Map<Pair<Integer, Integer>, String> expected = new HashMap<>();
+		expected.put(Pair.of(1, 2), "a");
+		expected.put(Pair.of(-3, 4), "b");
+
+		Map<Pairable<Integer, Integer>, String> map = index.asMap();
+		assertEquals(expected, map);
+		assertEquals(map, expected);
+		assertEquals(expected.hashCode(), map.hashCode());
+		for (Map.Entry<Pairable<Integer, Integer>, String> entry : map.entrySet()) {
+			Map.Entry<Pair<Integer, Integer>, String> other = new AbstractMap.SimpleEntry<>(Pair.of(entry.getKey().first(), entry.getKey().second()), entry.getValue());
+			assertEquals(other, entry);
+			assertEquals(entry, other);
+		}
+
+		expected.put(Pair.of(-3, 4), "c");
+		assertNotEquals(expected, map);
+		assertNotEquals(map, expected);
+	}
+}
@@ -0,0 +1,81 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class PrimitiveListsTest {
+
+	@Test
+	public void testLongList() {
+		LongList list = LongList.of(3L, Long.MIN_VALUE, 1L << 40);
+		list.sort();
+		assertArrayEquals(new long[] { Long.MIN_VALUE, 3L, 1L << 40 }, list.toArray());
+		assertEquals(2, list.binarySearch(1L << 40));
+		assertEquals(Arrays.asList(Long.MIN_VALUE, 3L, 1L << 40).hashCode(), list.hashCode());
+		assertEquals((1L << 40) + 3 + Long.MIN_VALUE, list.stream().sum());
+	}
+
+	@Test
+	public void testShortCharByteLists() {
+		ShortList shorts = ShortList.of((short) 5, (short) -2);
+		shorts.add((short) 1);
+		shorts.sort();
+		assertArrayEquals(new short[] { -2, 1, 5 }, shorts.toArray());
+		assertEquals(4, shorts.stream().sum());
+
+		CharList chars = CharList.of('c', 'a');
+		chars.add('b');
+		chars.sort();
+		assertEquals('a' + 'b' + 'c', chars.stream().sum());
+		assertEquals(Arrays.asList('a', 'b', 'c'), chars.asList());
+
+		ByteList bytes = new ByteList(0);
+		bytes.addAll((byte) 1, (byte) -1);
+		bytes.sort();
+		assertEquals(0, bytes.binarySearch((byte) -1));
+		assertEquals(Arrays.asList((byte) -1, (byte) 1), bytes.asList());
+	}
+
+	@Test
+	public void testArrayViews() {
+		int[] ints = { 1, 2, 3 };
+		List<Integer> view = Integers.asList(ints);
+		assertEquals(Arrays.asList(1, 2, 3), view);
+		view.set(1, 20);
+		assertEquals(20, ints[1]);
+		ints[2] = 30;
+		assertEquals(Integer.valueOf(30), view.get(2));
+		assertTrue(view.contains(30));
+		assertEquals(-1, view.indexOf("30"));
+
+		long[] longs = { 4L };
+		Longs.asList(longs).set(0, 5L);
+		assertEquals(5L, longs[0]);
+		assertEquals(Arrays.asList((short) 7), Shorts.asList(new short[] { 7 }));
+		assertEquals(Arrays.asList('x', 'y'), Characters.asList(new char[] { 'x', 'y' }));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testArrayViewIsFixedSize() {
+		Integers.asList(new int[] { 1 }).add(2);
+	}
+
+	@Test
+	public void testBoxedIsCopy() {
+		int[] ints = { 1, 2 };
+		List<Integer> copy = Integers.boxed(ints);
+		copy.add(3);
+		ints[0] = 10;
+		assertEquals(Arrays.asList(1, 2, 3), copy);
+		assertArrayEquals(new int[] { 1, 2, 3 }, Integers.unboxed(copy));
+		assertArrayEquals(new long[] { 1L, 2L }, Longs.unboxed(Longs.boxed(new long[] { 1L, 2L })));
+	}
+}
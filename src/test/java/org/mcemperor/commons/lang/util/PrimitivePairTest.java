@@ -0,0 +1,102 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.Arrays;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class PrimitivePairTest {
+
+	@Test
+	public void testIntIntPair() {
+		IntIntPair pair = IntIntPair.of(3, -4);
+		assertEquals(3, pair.firstInt());
+		assertEquals(Integer.valueOf(-4), pair.second());
+		assertEquals(IntIntPair.of(3, -4), pair);
+		assertNotEquals(IntIntPair.of(-4, 3), pair);
+		assertNotEquals(IntIntPair.of(-4, 3).hashCode(), pair.hashCode());
+		assertEquals(Pair.of(3, -4).hashCode(), pair.hashCode());
+		assertEquals("IntIntPair(3, -4)", pair.toString());
+	}
+
+	@Test
+	public void testPack() {
+		int[] values = { Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE };
+		for (int first : values) {
+			for (int second : values) {
+				long packed = IntIntPair.pack(first, second);
+				assertEquals(first, IntIntPair.firstOf(packed));
+				assertEquals(second, IntIntPair.secondOf(packed));
+				assertEquals(IntIntPair.of(first, second), IntIntPair.unpack(packed));
+				assertEquals(packed, IntIntPair.of(first, second).pack());
+			}
+		}
+	}
+
+	@Test
+	public void testPackedOrder() {
+		long[] packed = {
+			IntIntPair.pack(1, 5),
+			IntIntPair.pack(-1, 7),
+			IntIntPair.pack(1, -5),
+			IntIntPair.pack(-1, -7),
+			IntIntPair.pack(0, 0)
+		};
+		Arrays.sort(packed);
+		assertEquals(IntIntPair.of(-1, -7), IntIntPair.unpack(packed[0]));
+		assertEquals(IntIntPair.of(-1, 7), IntIntPair.unpack(packed[1]));
+		assertEquals(IntIntPair.of(0, 0), IntIntPair.unpack(packed[2]));
+		assertEquals(IntIntPair.of(1, -5), IntIntPair.unpack(packed[3]));
+		assertEquals(IntIntPair.of(1, 5), IntIntPair.unpack(packed[4]));
+	}
+
+	@Test
+	public void testLongLongPair() {
+		LongLongPair pair = LongLongPair.of(1L << 40, 2);
+		assertEquals(1L << 40, pair.firstLong());
+		assertEquals(LongLongPair.of(1L << 40, 2), pair);
+		assertNotEquals(LongLongPair.of(2, 1L << 40), pair);
+		assertEquals(Pair.of(1L << 40, 2L).hashCode(), pair.hashCode());
+		assertEquals("LongLongPair(1099511627776, 2)", pair.toString());
+	}
+
+	@Test
+	public void testMixedPairs() {
+		IntObjPair<String> intObj = IntObjPair.of(7, "seven");
+		assertEquals(7, intObj.firstInt());
+		assertEquals("seven", intObj.second());
+		assertEquals(IntObjPair.of(7, new String("seven")), intObj);
+		assertNotEquals(IntObjPair.of(7, null), intObj);
+		assertEquals(Pair.of(7, "seven").hashCode(), intObj.hashCode());
+
+		ObjIntPair<String> objInt = ObjIntPair.of("seven", 7);
+		assertEquals(7, objInt.secondInt());
+		assertEquals(ObjIntPair.of("seven", 7), objInt);
+		assertNotEquals(intObj, objInt);
+		assertEquals(Pair.of("seven", 7).hashCode(), objInt.hashCode());
+		assertEquals("ObjIntPair(null, 7)", ObjIntPair.of(null, 7).toString());
+	}
+
+	@Test
+	public void testEqualToPair() {
+		assertSymmetricEqual(Pair.of(3, -4), IntIntPair.of(3, -4));
+		assertSymmetricEqual(Pair.of(1L << 40, 2L), LongLongPair.of(1L << 40, 2));
+		assertSymmetricEqual(Pair.of(7, "seven"), IntObjPair.of(7, "seven"));
+		assertSymmetricEqual(Pair.of("seven", 7), ObjIntPair.of("seven", 7));
+		assertSymmetricEqual(IntObjPair.of(7, 8), IntIntPair.of(7, 8));
+		assertNotEquals(Pair.of(3, 4), IntIntPair.of(4, 3));
+		assertNotEquals(IntIntPair.of(4, 3), Pair.of(3, 4));
+		assertNotEquals(Pair.of(3L, 4L), IntIntPair.of(3, 4));
+		assertNotEquals(IntIntPair.of(3, 4), Pair.of(3L, 4L));
+	}
+
+	private static void assertSymmetricEqual(Object first, Object second) {
+		assertEquals(first, second);
+		assertEquals(second, first);
+		assertEquals(first.hashCode(), second.hashCode());
+	}
+}
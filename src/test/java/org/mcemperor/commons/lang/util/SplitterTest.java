@@ -0,0 +1,66 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.regex.Pattern;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class SplitterTest {
+
+	@Test
+	public void testLiteral() {
+		Splitter splitter = Splitter.on("::");
+
+		assertEquals(Arrays.asList("a", "b", "", "c:"), splitter.splitToList("a::b::::c:"));
+		assertEquals(Arrays.asList(""), splitter.splitToList(""));
+		assertEquals(Arrays.asList("", ""), splitter.splitToList(new StringBuilder("::")));
+	}
+
+	@Test
+	public void testRetainingDelimiters() {
+		Splitter splitter = Splitter.on("::").retainingDelimiters();
+
+		assertEquals(Arrays.asList("a", "::", "b", "::", ""), splitter.splitToList("a::b::"));
+		assertEquals(Arrays.asList("a", "b", ""), splitter.droppingDelimiters().splitToList("a::b::"));
+	}
+
+	@Test
+	public void testPattern() {
+		Splitter splitter = Splitter.onPattern("\\s*[,;]\\s*").retainingDelimiters();
+
+		assertEquals(Arrays.asList("a", " , ", "b", ";", "c"), splitter.splitToList("a , b;c"));
+		assertEquals(Arrays.asList("a", "b"), Splitter.on(Pattern.compile("X", Pattern.CASE_INSENSITIVE)).splitToList("axb"));
+	}
+
+	@Test
+	public void testSplitIsLazy() {
+		Iterator<String> iterator = Splitter.on(",").split("a,b").iterator();
+
+		assertEquals("a", iterator.next());
+		assertEquals("b", iterator.next());
+		assertEquals(false, iterator.hasNext());
+	}
+
+	@Test
+	public void testToLiteral() {
+		assertEquals(",", Patterns.toLiteral(","));
+		assertEquals("$.", Patterns.toLiteral("\\$\\."));
+		assertEquals("a.b", Patterns.toLiteral("\\Qa.b\\E"));
+		assertEquals("a.b", Patterns.toLiteral(Pattern.quote("a.b")));
+		assertNull(Patterns.toLiteral("a.b"));
+		assertNull(Patterns.toLiteral("\\s"));
+		assertNull(Patterns.toLiteral("\\Qa\\Eb*"));
+	}
+
+	@Test
+	public void testPatternCache() {
+		assertSame(Patterns.compile("[a-z]+"), Patterns.compile("[a-z]+"));
+	}
+}
@@ -0,0 +1,109 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class StringBuilderPoolTest {
+
+	@Test
+	public void testReuse() {
+		StringBuilder first = StringBuilderPool.acquire();
+		first.append("abc");
+		assertEquals("abc", StringBuilderPool.release(first));
+		StringBuilder second = StringBuilderPool.acquire();
+		assertSame(first, second);
+		assertEquals(0, second.length());
+		StringBuilderPool.recycle(second);
+	}
+
+	@Test
+	public void testNestedAcquire() {
+		StringBuilder outer = StringBuilderPool.acquire();
+		StringBuilder inner = StringBuilderPool.acquire();
+		assertNotSame(outer, inner);
+		inner.append("inner");
+		outer.append("outer");
+		assertEquals("inner", StringBuilderPool.release(inner));
+		assertEquals("outer", outer.toString());
+		assertEquals("outer", StringBuilderPool.release(outer));
+		assertSame(outer, StringBuilderPool.acquire());
+		StringBuilderPool.recycle(outer);
+	}
+
+	@Test
+	public void testLargeBuilderIsDiscarded() {
+		StringBuilder builder = StringBuilderPool.acquire();
+		builder.append(Strings.repeat('x', StringBuilderPool.MAX_RETAINED_CAPACITY + 1));
+		StringBuilderPool.release(builder);
+		StringBuilder next = StringBuilderPool.acquire();
+		assertNotSame(builder, next);
+		StringBuilderPool.recycle(next);
+	}
+
+	@Test
+	public void testThreadsHaveOwnBuilders() throws InterruptedException {
+		StringBuilder builder = StringBuilderPool.acquire();
+		AtomicReference<StringBuilder> other = new AtomicReference<>();
+		Thread thread = new Thread(() -> {
+			StringBuilder sb = StringBuilderPool.acquire();
+			other.set(sb);
+			StringBuilderPool.recycle(sb);
+		});
+		thread.start();
+		thread.join();
+		assertNotSame(builder, other.get());
+		StringBuilderPool.recycle(builder);
+	}
+
+	@Test
+	public void testStringsUseThePool() {
+		assertEquals("a, b, c", Strings.join(new String[] { "a", "b", "c" }, ", "));
+		assertEquals("ababab", Strings.repeat("ab", 3));
+		assertEquals("cba", Strings.reverse("abc"));
+		assertEquals("HelloWorld", Strings.firstToUppercase("hello world"));
+		assertEquals("10000001", ByteArrayUtils.toByteString((byte) 0x81));
+		assertEquals("00000101", ByteArrayUtils.toByteString((byte) 5));
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void testReverseNull() {
+		Strings.reverse(null);
+	}
+
+	@Test
+	public void testFailedBuildReleasesBuilder() {
+		StringBuilder builder = StringBuilderPool.acquire();
+		StringBuilderPool.recycle(builder);
+		try {
+			Strings.repeat(null, 2);
+			fail("Expected a NullPointerException");
+		}
+		catch (NullPointerException exc) {
+			// Expected
+		}
+		try {
+			Strings.repeat("ab", Integer.MAX_VALUE);
+			fail("Expected an ArithmeticException");
+		}
+		catch (ArithmeticException exc) {
+			// Expected
+		}
+		try {
+			Strings.reverse(null);
+			fail("Expected a NullPointerException");
+		}
+		catch (NullPointerException exc) {
+			// Expected
+		}
+		assertSame(builder, StringBuilderPool.acquire());
+		StringBuilderPool.recycle(builder);
+	}
+}
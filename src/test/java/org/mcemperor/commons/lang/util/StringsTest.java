@@ -1,8 +1,17 @@
 package org.mcemperor.commons.lang.util;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import org.mcemperor.commons.lang.MalformedInputException;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
 /**
@@ -98,4 +107,167 @@ public class StringsTest {
 		assertEquals("alpha", a);
 		assertEquals("zulu", b);
 	}
+
+	@Test
+	public void testTrim() {
+		assertEquals("alpha", Strings.trim("  alpha  ", ' '));
+		assertEquals("alpha  ", Strings.trimLeading("  alpha  ", ' '));
+		assertEquals("  alpha", Strings.trimTrailing("  alpha  ", ' '));
+		assertEquals("alpha", Strings.trim("[.]alpha$^", "[].$^"));
+		assertEquals("a\\b", Strings.trimLeading("\\\\a\\b", '\\'));
+		assertEquals("alpha$^", Strings.trimLeading("[.]alpha$^", "[].$^"));
+		assertEquals("[.]alpha", Strings.trimTrailing("[.]alpha$^", "[].$^"));
+		assertEquals("", Strings.trim("xxxx", 'x'));
+		assertEquals("", Strings.trim("xyyx", "xy"));
+		assertEquals("", Strings.trimLeading("", "xy"));
+		assertEquals("", Strings.trimTrailing("yy", 'y'));
+		String untouched = "alpha";
+		assertSame(untouched, Strings.trim(untouched, ' '));
+		assertSame(untouched, Strings.trim(untouched, " \t"));
+	}
+
+	@Test
+	public void testCountCharsAtBoundary() {
+		assertEquals(3, Strings.countCharsAtStart("...a.b..", '.'));
+		assertEquals(2, Strings.countCharsAtEnd("...a.b..", '.'));
+		assertEquals(0, Strings.countCharsAtEnd("...a.b..\n", '.'));
+		assertEquals(4, Strings.countCharsAtStart("****", '*'));
+		assertEquals(4, Strings.countCharsAtEnd("****", '*'));
+		assertEquals(0, Strings.countCharsAtEnd("", '*'));
+		assertEquals(2, Strings.countCharsAtStart(new StringBuilder("++a+"), '+'));
+		assertEquals(1, Strings.countCharsAtEnd(CharBuffer.wrap("++a+"), '+'));
+	}
+
+	@Test
+	public void testJoin() {
+		assertEquals("", Strings.join(new String[0], ","));
+		assertEquals("a", Strings.join(new String[] { "a" }, ","));
+		assertEquals("a,1,c", Strings.join(Arrays.asList("a", 1, "c"), ","));
+		assertEquals("[a], [b]", Strings.join(Arrays.asList("a", "b"), ", ", "[", "]"));
+		assertEquals("A-B", Strings.join(Arrays.asList("a", "b"), "-", String::toUpperCase));
+	}
+
+	@Test
+	public void testJoinTo() throws IOException {
+		StringWriter writer = new StringWriter();
+		Strings.joinTo(writer, Arrays.asList("a", new StringBuilder("b"), 3), ", ", "<", ">", null);
+		assertEquals("<a>, <b>, <3>", writer.toString());
+
+		assertEquals("1;2;3", Strings.joinTo(new StringBuilder(), Stream.of(1, 2, 3), ";").toString());
+		assertEquals("()", Strings.joinTo(new StringBuilder(), Stream.empty(), ";", "(", ")", null).toString());
+		assertEquals("x.y", Strings.joinTo(new StringBuilder(), new String[] { "x", "y" }, ".").toString());
+
+		CharBuffer buffer = Strings.joinTo(CharBuffer.allocate(16), Arrays.asList("p", "q"), "|", String::toUpperCase);
+		assertEquals("P|Q", new String(buffer.array(), 0, buffer.position()));
+	}
+
+	@Test
+	public void testSplitCombined() throws MalformedInputException {
+		assertEquals(Arrays.asList("a", "b'c"), Strings.splitCombined("'a', 'b\\'c'", "'", "'", "\\"));
+		assertEquals(Arrays.asList("x", "y"), Strings.splitCombined("{x}{y}", "{", "}", "\\"));
+	}
+
+	@Test
+	public void testSplitInclusive() {
+		assertEquals(Arrays.asList("a.", "b!", "c"), Strings.splitInclusive("a.b!c", Arrays.asList(".", "!")));
+	}
+
+	@Test
+	public void padString() {
+		assertEquals("  ab", Strings.pad("ab", 4));
+		assertEquals("ab--", Strings.rightpad("ab", 4, '-'));
+		assertEquals("abcde", Strings.leftpad("abcde", 4, '-'));
+	}
+
+	@Test
+	public void padToCharArray() {
+		char[] chars = "##########".toCharArray();
+		assertEquals(6, Strings.padTo(chars, 2, "ab", 4, '.', false));
+		assertEquals(9, Strings.padTo(chars, 6, new StringBuilder("c"), 3, '_', true));
+		assertEquals("##..abc__#", new String(chars));
+		assertEquals(5, Strings.padTo(chars, 0, CharBuffer.wrap("xyzuv"), 2, ' ', false));
+		assertEquals("xyzuvbc__#", new String(chars));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void padToShortCharArray() {
+		Strings.padTo(new char[3], 1, "ab", 3, ' ', false);
+	}
+
+	@Test
+	public void padToAppendable() throws IOException {
+		StringWriter writer = new StringWriter();
+		Strings.padTo(writer, "7", 3, '0', false);
+		Strings.padTo(writer, "ab", 3, ' ', true);
+		Strings.padTo(writer, "long", 2, ' ', true);
+		assertEquals("007ab long", writer.toString());
+	}
+
+	@Test
+	public void countSubstringInCharSequence() {
+		StringBuilder haystack = new StringBuilder("blaaaaahblah");
+		assertEquals(2, Strings.countSubstring(haystack, "aa"));
+		assertEquals(4, Strings.countSubstringWithOverlap(haystack, "aa"));
+		assertEquals(2, Strings.countSubstring(CharBuffer.wrap("blaaaaahblah"), new StringBuilder("bl")));
+		assertEquals(0, Strings.countSubstring(haystack, "blahs"));
+		assertEquals(Strings.countSubstring("blaaaaahblah", "aa"), Strings.countSubstring((CharSequence) "blaaaaahblah", "aa"));
+	}
+
+	@Test
+	public void containsCharInCharSequence() {
+		assertTrue(Strings.containsChar(new StringBuilder("abc"), 'c'));
+		assertFalse(Strings.containsChar(CharBuffer.wrap("abc"), 'd'));
+		assertTrue(Strings.containsChar("abc", 'a'));
+	}
+
+	@Test
+	public void isNumericCharSequence() {
+		assertTrue(Strings.isNumeric(CharBuffer.wrap("0123")));
+		assertFalse(Strings.isNumeric(new StringBuilder("12a")));
+		assertTrue(Strings.isNumeric(""));
+	}
+
+	@Test
+	public void isPalindromeCharSequence() {
+		assertTrue(Strings.isPalindrome("A man, a plan, a canal: Panama"));
+		assertTrue(Strings.isPalindrome(new StringBuilder("Racecar")));
+		assertFalse(Strings.isPalindrome(CharBuffer.wrap("abca")));
+		assertTrue(Strings.isPalindrome(""));
+		assertTrue(Strings.isPalindrome("!?"));
+	}
+
+	@Test
+	public void isLowercaseAndUppercaseCharSequence() {
+		assertTrue(Strings.isLowercase(new StringBuilder("abc 12"), Locale.ROOT));
+		assertFalse(Strings.isLowercase(CharBuffer.wrap("abC"), Locale.ROOT));
+		assertTrue(Strings.isLowercase(new StringBuilder("\u00e9t\u00e9"), Locale.ROOT));
+		assertFalse(Strings.isLowercase(new StringBuilder("\u00c9t\u00e9"), Locale.ROOT));
+		assertTrue(Strings.isUppercase(CharBuffer.wrap("ABC-1"), Locale.ROOT));
+		assertFalse(Strings.isUppercase("ABc", Locale.ROOT));
+		assertFalse(Strings.isUppercase(new StringBuilder("\u00e9T\u00c9"), Locale.ROOT));
+	}
+
+	@Test
+	public void shortestAndLongestLength() {
+		assertEquals(1, Strings.shortestLength(new Object[] { "abc", new StringBuilder("d"), 42 }));
+		assertEquals(3, Strings.longestLength(new Object[] { "abc", new StringBuilder("d"), 42 }));
+		assertEquals(0, Strings.shortestLength(new Object[0]));
+		List<CharSequence> sequences = Arrays.asList(new StringBuilder("ab"), CharBuffer.wrap("abcd"), "abc");
+		assertEquals(2, Strings.shortestLength(sequences));
+		assertEquals(4, Strings.longestLength(sequences));
+		assertEquals(0, Strings.longestLength(Arrays.<CharSequence>asList()));
+	}
+
+	@Test
+	public void chunkCharSequence() {
+		CharBuffer buffer = CharBuffer.wrap("abcdefg".toCharArray());
+		List<CharSequence> chunks = Strings.chunk(buffer, 3);
+		assertEquals(3, chunks.size());
+		assertEquals("abc", chunks.get(0).toString());
+		assertEquals("g", chunks.get(2).toString());
+		buffer.put(4, 'E');
+		assertEquals("dEf", chunks.get(1).toString());
+		assertEquals(0, Strings.chunk(new StringBuilder(), 2).size());
+		assertEquals(Arrays.asList("ab", "cd"), Strings.chunk("abcd", 2));
+	}
 }
@@ -0,0 +1,72 @@
+package org.mcemperor.commons.lang.util;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.util.Random;
+import static org.junit.Assert.assertArrayEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class SubstringCounterTest {
+
+	@Test
+	public void testCount() {
+		SubstringCounter counter = SubstringCounter.of("aa", "ah", "blah", "x");
+
+		assertArrayEquals(new int[] { 2, 2, 1, 0 }, counter.count("blaaaaahblah"));
+		assertArrayEquals(new int[] { 4, 2, 1, 0 }, counter.countWithOverlap("blaaaaahblah"));
+	}
+
+	@Test
+	public void testCountWithDuplicateAndNestedNeedles() {
+		SubstringCounter counter = SubstringCounter.of("he", "she", "his", "hers", "he", "é");
+
+		assertArrayEquals(new int[] { 1, 1, 0, 1, 1, 1 }, counter.count("ushers shé"));
+	}
+
+	@Test
+	public void testCountIsEqualToStrings() {
+		Random random = new Random(42);
+		String[] needles = { "a", "ab", "aba", "bab", "bb", "abab", "c" };
+		SubstringCounter counter = SubstringCounter.of(needles);
+		for (int round = 0; round < 100; round++) {
+			StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < 60; i++) {
+				sb.append((char) ('a' + random.nextInt(3)));
+			}
+			String haystack = sb.toString();
+
+			int[] expected = new int[needles.length];
+			int[] expectedWithOverlap = new int[needles.length];
+			for (int i = 0; i < needles.length; i++) {
+				expected[i] = Strings.countSubstring(haystack, needles[i]);
+				expectedWithOverlap[i] = Strings.countSubstringWithOverlap(haystack, needles[i]);
+			}
+			assertArrayEquals(haystack, expected, counter.count(haystack));
+			assertArrayEquals(haystack, expectedWithOverlap, counter.countWithOverlap(haystack));
+		}
+	}
+
+	@Test
+	public void testSessionAcrossChunkBoundaries() throws IOException {
+		SubstringCounter counter = SubstringCounter.of("error", "rr");
+
+		long[] counts = counter.newSession()
+			.feed("an err")
+			.feed(CharBuffer.wrap("or, another e"))
+			.feed("rror".toCharArray(), 0, 4)
+			.counts();
+
+		assertArrayEquals(new long[] { 2, 2 }, counts);
+		assertArrayEquals(new long[] { 2, 2 }, counter.count(new StringReader("an error, another error")));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testEmptyNeedle() {
+		SubstringCounter.of("a", "");
+	}
+}
@@ -0,0 +1,95 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.mcemperor.commons.lang.MalformedInputException;
+import org.mcemperor.commons.lang.UncheckedMalformedInputException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class TokenizerTest {
+
+	@Test
+	public void testEnclosedWithEqualDelimiters() throws MalformedInputException {
+		List<String> tokens = Tokenizer.enclosed("\"", "\"", "\\").tokenize("\"alpha\", \"be\\\"ta\", x \"\"");
+
+		assertEquals(Arrays.asList("alpha", "be\"ta", ""), tokens);
+	}
+
+	@Test
+	public void testEnclosedWithDistinctDelimiters() throws MalformedInputException {
+		List<String> tokens = Tokenizer.enclosed("<<", ">>", "\\").tokenize("<<a>> and \\<<b\\>> <<c\\>>d\\<<e>>");
+
+		assertEquals(Arrays.asList("a", "c>>d<<e"), tokens);
+	}
+
+	@Test
+	public void testEnclosedWithEscapedEscapeSequence() throws MalformedInputException {
+		List<String> tokens = Tokenizer.enclosed("[", "]", "%%").tokenize("[a%%b][%%%%]");
+
+		assertEquals(Arrays.asList("ab", "%%"), tokens);
+	}
+
+	@Test
+	public void testEnclosedWithDoubledDelimiters() throws MalformedInputException {
+		assertEquals(Arrays.asList("a'b", "c"), Strings.splitCombined("'a''b', 'c'", "'", "'", "'"));
+		assertEquals(Arrays.asList("", "'", "x''y"), Tokenizer.enclosed("'", "'", "'").tokenize("'' '''' 'x''''y'"));
+		assertEquals(Arrays.asList("a]b"), Tokenizer.enclosed("[", "]", "]").tokenize("[a]]b]"));
+	}
+
+	@Test(expected = MalformedInputException.class)
+	public void testEnclosedWithDoubledDelimitersUnterminated() throws MalformedInputException {
+		Tokenizer.enclosed("'", "'", "'").tokenize("'a''");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testEnclosedWithEscapeEqualToStartDelimiter() {
+		Tokenizer.enclosed("[", "]", "[");
+	}
+
+	@Test(expected = MalformedInputException.class)
+	public void testEnclosedWithMissingEndDelimiter() throws MalformedInputException {
+		Tokenizer.enclosed("\"", "\"", "\\").tokenize("\"a\" \"b");
+	}
+
+	@Test(expected = MalformedInputException.class)
+	public void testEnclosedWithNestedDelimiters() throws MalformedInputException {
+		Tokenizer.enclosed("(", ")", "\\").tokenize("(a(b)c)");
+	}
+
+	@Test(expected = MalformedInputException.class)
+	public void testEnclosedWithUnexpectedEndDelimiter() throws MalformedInputException {
+		Tokenizer.enclosed("(", ")", "\\").tokenize("a) (b)");
+	}
+
+	@Test
+	public void testIteratorIsLazy() {
+		Iterator<String> iterator = Tokenizer.enclosed("(", ")", null).iterator("(a)(b)(c");
+
+		assertEquals("a", iterator.next());
+		assertEquals("b", iterator.next());
+		try {
+			iterator.hasNext();
+		}
+		catch (UncheckedMalformedInputException exc) {
+			return;
+		}
+		throw new AssertionError("Expected an exception");
+	}
+
+	@Test
+	public void testInclusive() {
+		Tokenizer tokenizer = Tokenizer.inclusive(Arrays.asList(",", ";", ";;"), "\\");
+
+		assertEquals(Arrays.asList("a,", "b;;", "c\\,d;", ""), tokenizer.stream("a,b;;c\\,d;").collect(Collectors.toList()));
+		assertEquals(Arrays.asList(""), tokenizer.stream("").collect(Collectors.toList()));
+		assertFalse(tokenizer.stream("abc").anyMatch(String::isEmpty));
+	}
+}
@@ -0,0 +1,62 @@
+package org.mcemperor.commons.lang.util;
+
+import java.util.Arrays;
+import java.util.Optional;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class VersionIndexTest {
+
+	private final VersionIndex index = VersionIndex.of(
+		new Version("2.0"),
+		new Version("1.0"),
+		new Version("1.2.3"),
+		new Version("1.10"),
+		new Version("0.9"),
+		new Version("1.0.0"),
+		new Version("3.1")
+	);
+
+	@Test
+	public void testOf() {
+		assertEquals(6, this.index.size());
+		assertEquals(Arrays.asList(new Version(0, 9), new Version(1), new Version(1, 2, 3), new Version(1, 10), new Version(2), new Version(3, 1)), this.index.versions());
+		assertTrue(this.index.contains(new Version(1, 10, 0)));
+		assertFalse(this.index.contains(new Version(1, 1)));
+	}
+
+	@Test
+	public void testMatching() {
+		assertEquals(Arrays.asList(new Version(1), new Version(1, 2, 3), new Version(1, 10)), this.index.matching(VersionRange.parse("^1.0")));
+		assertEquals(Arrays.asList(new Version(1, 2, 3), new Version(1, 10)), this.index.matching(VersionRange.parse("(1,2)")));
+		assertTrue(this.index.matching(VersionRange.parse("[1.3,1.4]")).isEmpty());
+		assertEquals(6, this.index.count(VersionRange.all()));
+		assertEquals(0, this.index.count(VersionRange.parse(">3.1")));
+	}
+
+	@Test
+	public void testLatest() {
+		assertEquals(Optional.of(new Version(1, 10)), this.index.latest(VersionRange.parse("^1.0")));
+		assertEquals(Optional.of(new Version(1)), this.index.earliest(VersionRange.parse("^1.0")));
+		assertEquals(Optional.empty(), this.index.latest(VersionRange.parse("~1.3")));
+		assertEquals(Arrays.asList(Optional.of(new Version(3, 1)), Optional.of(new Version(0, 9)), Optional.empty()),
+			this.index.latest(Arrays.asList(VersionRange.all(), VersionRange.parse("<1"), VersionRange.parse("[4,)"))));
+	}
+
+	@Test
+	public void testFloorAndCeiling() {
+		assertEquals(Optional.of(new Version(1, 2, 3)), this.index.floor(new Version(1, 5)));
+		assertEquals(Optional.of(new Version(1, 2, 3)), this.index.floor(new Version(1, 2, 3)));
+		assertEquals(Optional.empty(), this.index.floor(new Version(0, 1)));
+		assertEquals(Optional.of(new Version(1, 10)), this.index.ceiling(new Version(1, 5)));
+		assertEquals(Optional.empty(), this.index.ceiling(new Version(4)));
+		assertEquals(Optional.of(new Version(1)), this.index.lower(new Version(1, 2, 3)));
+		assertEquals(Optional.of(new Version(1, 10)), this.index.higher(new Version(1, 2, 3)));
+	}
+}
@@ -0,0 +1,75 @@
+package org.mcemperor.commons.lang.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Maurits de Jong
+ */
+public class VersionRangeTest {
+
+	@Test
+	public void testParseInterval() {
+		VersionRange range = VersionRange.parse("[1.0,2.0)");
+		assertTrue(range.contains(new Version(1)));
+		assertTrue(range.contains(new Version(1, 9, 9)));
+		assertFalse(range.contains(new Version(2)));
+		assertFalse(range.contains(new Version(0, 9)));
+
+		VersionRange unboundedLower = VersionRange.parse("(,3]");
+		assertNull(unboundedLower.getLower());
+		assertTrue(unboundedLower.contains(new Version(0)));
+		assertTrue(unboundedLower.contains(new Version(3)));
+		assertFalse(unboundedLower.contains(new Version(3, 0, 1)));
+
+		VersionRange exact = VersionRange.parse("[1.5]");
+		assertEquals(VersionRange.exactly(new Version(1, 5)), exact);
+		assertTrue(exact.contains(new Version(1, 5, 0)));
+		assertFalse(exact.contains(new Version(1, 5, 1)));
+	}
+
+	@Test
+	public void testParseCaret() {
+		assertEquals(VersionRange.parse("[1.2.3,2)"), VersionRange.parse("^1.2.3"));
+		assertEquals(VersionRange.parse("[0.2.3,0.3)"), VersionRange.parse("^0.2.3"));
+		assertEquals(VersionRange.parse("[0.0.3,0.0.4)"), VersionRange.parse("^0.0.3"));
+		assertEquals(VersionRange.parse("[0.0,0.1)"), VersionRange.parse("^0.0"));
+	}
+
+	@Test
+	public void testParseTilde() {
+		assertEquals(VersionRange.parse("[1.2.3,1.3)"), VersionRange.parse("~1.2.3"));
+		assertEquals(VersionRange.parse("[1.2,1.3)"), VersionRange.parse("~1.2"));
+		assertEquals(VersionRange.parse("[1,2)"), VersionRange.parse("~1"));
+	}
+
+	@Test
+	public void testParseOperators() {
+		assertEquals(VersionRange.all(), VersionRange.parse("*"));
+		assertEquals(VersionRange.parse("[1.0,)"), VersionRange.parse(">=1.0"));
+		assertEquals(VersionRange.parse("(1.0,)"), VersionRange.parse(">1.0"));
+		assertEquals(VersionRange.parse("(,2]"), VersionRange.parse("<=2"));
+		assertEquals(VersionRange.parse("(,2)"), VersionRange.parse("< 2"));
+		assertEquals(VersionRange.exactly(new Version(4, 1)), VersionRange.parse("4.1"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseReversedBounds() {
+		VersionRange.parse("[2,1]");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseUnterminated() {
+		VersionRange.parse("[1,2");
+	}
+
+	@Test
+	public void testToString() {
+		assertEquals("[1.2,2)", VersionRange.parse("^1.2").toString());
+		assertEquals("(,)", VersionRange.all().toString());
+	}
+}
@@ -3,6 +3,7 @@ package org.mcemperor.commons.lang.util;
 import org.mcemperor.commons.lang.util.Version;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
@@ -59,4 +60,38 @@ public class VersionTest {
 		
 		assertEquals(new Version(1, 9), v2);
 	}
+
+	@Test
+	public void testParse() {
+		assertEquals(new Version(1, 2, 3), new Version("1.2.3"));
+		assertEquals(new Version(10, 0, 7), new Version("10.0.7.0"));
+		assertEquals(new Version(2), new Version("2.0"));
+		assertEquals("1.2.3", new Version("1.2.3").toString());
+		assertEquals("0", new Version("0.0").toString());
+		assertEquals(new Version(), new Version(0));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testParseInvalid() {
+		new Version("1..2");
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testParseOverflow() {
+		new Version("1.2147483648");
+	}
+
+	@Test
+	public void testParseCached() {
+		Version version = Version.parseCached("1.2.3");
+
+		assertSame(version, Version.parseCached("1.2.3"));
+		assertSame(version, Version.parseCached("1.2.3.0"));
+		assertSame(version, Version.intern(new Version(1, 2, 3)));
+	}
+
+	@Test
+	public void testHashCode() {
+		assertEquals(new Version(3, 1).hashCode(), new Version("3.1.0").hashCode());
+	}
 }